@@ -0,0 +1,153 @@
+package memory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import logging.Log;
+import memory.algoritmos.ARC;
+import memory.algoritmos.Clock;
+import memory.algoritmos.EnhancedSecondChance;
+import memory.algoritmos.FIFO;
+import memory.algoritmos.LRU;
+import memory.algoritmos.Optimo;
+import memory.algoritmos.ReplacementAlgorithm;
+import memory.algoritmos.TwoQ;
+import synchronization.SyncManager;
+
+/**
+ * Benchmarks JMH de MemoryManager.loadPage con cada ReplacementAlgorithm,
+ * variando la cantidad de frames y de procesos.
+ *
+ * La cadena de referencias es aleatoria (proceso y página uniformes) sobre
+ * el doble de páginas que frames, generada con semilla fija. Cada operación
+ * recorre la cadena hasta el próximo fallo con la memoria llena; los aciertos
+ * del camino también pasan por loadPage para que el algoritmo los vea (sin
+ * ellos LRU, CLOCK y ARC se comportan como FIFO y Optimo mira posiciones
+ * viejas). El tiempo y las asignaciones que reporta JMH (-prof gc,
+ * gc.alloc.rate.norm) son por reemplazo, con sus aciertos previos incluidos.
+ *
+ * Uso: java -jar target/benchmarks.jar ReplacementBenchmark -prof gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ReplacementBenchmark {
+
+    private static final int REFERENCIAS = 1 << 20;
+
+    @Param({"FIFO", "LRU", "OPTIMO", "CLOCK", "ESC", "ARC", "2Q"})
+    public String algoritmo;
+
+    @Param({"16", "1024", "65536"})
+    public int frames;
+
+    @Param({"10", "1000", "10000"})
+    public int procesos;
+
+    private MemoryManager memory;
+    private String[] pids;
+    private int[] refProceso;
+    private int[] refPagina;
+    private int siguiente;
+
+    // Por iteración: Optimo consume su secuencia futura a medida que avanza
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Log.setLevel(logging.Level.OFF);
+        int paginas = Math.max(1, 2 * frames / procesos);
+
+        pids = new String[procesos];
+        for (int i = 0; i < procesos; i++) {
+            pids[i] = "P" + i;
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        refProceso = new int[REFERENCIAS];
+        refPagina = new int[REFERENCIAS];
+        Map<String, List<Integer>> futuras = new HashMap<>();
+        for (int i = 0; i < REFERENCIAS; i++) {
+            refProceso[i] = random.nextInt(procesos);
+            refPagina[i] = random.nextInt(paginas);
+            futuras.computeIfAbsent(pids[refProceso[i]], k -> new ArrayList<>()).add(refPagina[i]);
+        }
+
+        memory = new MemoryManager(frames, crearAlgoritmo(futuras), new SyncManager());
+        for (String pid : pids) {
+            memory.createProcess(pid, paginas);
+        }
+
+        // Se llena la memoria antes de medir: todo fallo medido es un reemplazo
+        siguiente = 0;
+        while (memory.getFreeFramesCount() > 0) {
+            fault();
+        }
+    }
+
+    private ReplacementAlgorithm crearAlgoritmo(Map<String, List<Integer>> futuras) {
+        switch (algoritmo) {
+            case "LRU":
+                return new LRU();
+            case "CLOCK":
+                return new Clock();
+            case "ESC":
+                return new EnhancedSecondChance();
+            case "ARC":
+                return new ARC();
+            case "2Q":
+                return new TwoQ();
+            case "OPTIMO":
+                Optimo optimo = new Optimo();
+                optimo.setFutureAccessSequences(futuras);
+                return optimo;
+            default:
+                return new FIFO();
+        }
+    }
+
+    @Benchmark
+    public boolean fault() {
+        while (true) {
+            int i = siguiente;
+            siguiente = (i + 1) & (REFERENCIAS - 1);
+            String pid = pids[refProceso[i]];
+            boolean acierto = memory.getPageTable(pid).isPageLoaded(refPagina[i]);
+            boolean cargada = memory.loadPage(pid, refPagina[i]);
+            if (!acierto) {
+                return cargada;
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opciones = new OptionsBuilder()
+            .include(ReplacementBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opciones).run();
+    }
+}
@@ -0,0 +1,121 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import logging.Log;
+import process.Burst;
+import process.BurstResource;
+import process.Process;
+import scheduler.Scheduler;
+import scheduler.algoritmos.SchedulingPolicy;
+import synchronization.SyncManager;
+import threads.ProcessThread;
+
+/**
+ * Benchmarks JMH del ciclo principal del Scheduler, por algoritmo y por
+ * largo de la cola READY.
+ *
+ * - runOneUnit: throughput de un ciclo completo en modo headless, sin
+ *   memoria ni E/S. Con quantum 1, RR y MLFQ cambian de proceso en cada
+ *   ciclo, así que el ciclo incluye un despacho.
+ * - dispatch: latencia de sacar el siguiente de la cola y volver a
+ *   encolarlo, que es lo que paga cada cambio de contexto.
+ *
+ * Las ráfagas son lo bastante largas para que ningún proceso termine
+ * durante una iteración: la cola mantiene su tamaño.
+ *
+ * Uso: mvn -P jmh package -DskipTests
+ *      java -jar target/benchmarks.jar SchedulerBenchmark -prof gc
+ * o directamente este main, que ya agrega el perfilador de asignaciones.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SchedulerBenchmark {
+
+    private static final int QUANTUM = 1;
+    private static final int RAFAGA_MIN = 1 << 28;
+
+    @Param({"FCFS", "SJF", "RR", "PRIORITY", "MLFQ", "CFS"})
+    public String algoritmo;
+
+    @Param({"10", "1000", "100000"})
+    public int procesos;
+
+    private Scheduler scheduler;
+    private SchedulingPolicy policy;
+
+    // Por iteración: el Gantt crece con cada ciclo y no debe arrastrarse
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Log.setLevel(logging.Level.OFF);
+        scheduler = new Scheduler(new SyncManager());
+        scheduler.setHeadless(true);
+        HeadlessRunner.configurePolicy(scheduler, algoritmo, QUANTUM, Collections.emptyMap());
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < procesos; i++) {
+            ArrayList<Burst> bursts = new ArrayList<>();
+            bursts.add(new Burst(BurstResource.CPU, RAFAGA_MIN + random.nextInt(RAFAGA_MIN)));
+            scheduler.addProcess(new Process("P" + i, 0, bursts, 1 + random.nextInt(10), 1));
+        }
+        // Primer ciclo: llegan todos y uno queda en CPU
+        scheduler.runOneUnit();
+        policy = scheduler.getPolicy();
+    }
+
+    // Suelta el scheduler de la iteración; en headless no hay hilos de procesos que terminar
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        scheduler.shutdown();
+        scheduler = null;
+        policy = null;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean runOneUnit() {
+        return scheduler.runOneUnit();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public ProcessThread dispatch() {
+        ProcessThread siguiente = policy.pickNext();
+        policy.enqueue(siguiente);
+        return siguiente;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opciones = new OptionsBuilder()
+            .include(SchedulerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opciones).run();
+    }
+}
@@ -32,12 +32,18 @@ import javax.swing.ListSelectionModel;
 import javax.swing.SwingUtilities;
 
 import memory.MemoryManager;
+import memory.algoritmos.ARC;
+import memory.algoritmos.Clock;
+import memory.algoritmos.EnhancedSecondChance;
 import memory.algoritmos.FIFO;
 import memory.algoritmos.LRU;
 import memory.algoritmos.Optimo;
+import memory.algoritmos.TwoQ;
 import process.InputParser;
 import process.Process;
 import scheduler.Scheduler;
+import scheduler.algoritmos.CFSPolicy;
+import scheduler.algoritmos.MLFQPolicy;
 
 public class ConfiguracionInicialGUI {
     private JFrame frame;
@@ -127,7 +133,8 @@ public class ConfiguracionInicialGUI {
         panel.add(new JLabel("Algoritmo de Planificación:"), gbc);
         
         String[] schedulers = {"Round Robin (RR)", "First Come First Served (FCFS)", 
-                              "Shortest Job First (SJF)", "Priority"};
+                              "Shortest Job First (SJF)", "Priority", "Multi-Level Feedback Queue (MLFQ)",
+                              "Completely Fair Scheduler (CFS)"};
         schedulerCombo = new JComboBox<>(schedulers);
         schedulerCombo.setSelectedIndex(0);
         gbc.gridx = 1;
@@ -148,7 +155,8 @@ public class ConfiguracionInicialGUI {
         panel.add(new JLabel("Algoritmo de Memoria:"), gbc);
         
         String[] memoryAlgos = {"FIFO (First In First Out)", "LRU (Least Recently Used)", 
-                               "Optimal"};
+                               "Optimal", "CLOCK (Second Chance)", "ESC (Enhanced Second Chance)",
+                               "ARC (Adaptive Replacement Cache)", "2Q (Two Queue)"};
         memoryCombo = new JComboBox<>(memoryAlgos);
         memoryCombo.setSelectedIndex(0);
         gbc.gridx = 1;
@@ -178,9 +186,15 @@ public class ConfiguracionInicialGUI {
                               "FCFS: Primer llegado, primer servido.\n" +
                               "SJF: El trabajo más corto primero.\n" +
                               "Priority: Procesos con mayor prioridad primero.\n" +
+                              "MLFQ: 3 colas; quien agota su quantum baja de nivel (quantum Q, 2Q, 4Q).\n" +
+                              "CFS: Ejecuta el de menor tiempo virtual; reparto proporcional a la prioridad.\n" +
                               "FIFO: Reemplaza la página más antigua.\n" +
                               "LRU: Reemplaza la página menos usada recientemente.\n" +
-                              "Optimal: Reemplaza la página que no se usará por más tiempo.");
+                              "Optimal: Reemplaza la página que no se usará por más tiempo.\n" +
+                              "CLOCK: Recorre los frames en círculo y da una segunda oportunidad a las páginas usadas.\n" +
+                              "ESC: Como CLOCK, pero prefiere páginas no modificadas (bits R y M).\n" +
+                              "ARC: Reparte los frames entre páginas vistas una vez y varias veces, y ajusta el reparto solo.\n" +
+                              "2Q: Las páginas nuevas pasan por una cola FIFO chica antes de entrar a la LRU principal.");
         
         JScrollPane scrollPane = new JScrollPane(descriptionArea);
         panel.add(scrollPane, gbc);
@@ -564,7 +578,11 @@ public class ConfiguracionInicialGUI {
         Scheduler scheduler = new Scheduler();
         
         // Configurar algoritmo de scheduler
-        if (selectedScheduler.contains("Round Robin")) {
+        if (selectedScheduler.contains("Completely Fair")) {
+            scheduler.setPolicy(new CFSPolicy());
+        } else if (selectedScheduler.contains("MLFQ")) {
+            scheduler.setPolicy(new MLFQPolicy(3, quantum, MLFQPolicy.DEFAULT_BOOST_PERIOD));
+        } else if (selectedScheduler.contains("Round Robin")) {
             scheduler.setAlgorithm(Scheduler.Algorithm.RR);
             scheduler.setQuantum(quantum);
         } else if (selectedScheduler.contains("FCFS")) {
@@ -581,6 +599,14 @@ public class ConfiguracionInicialGUI {
             memory = new MemoryManager(frames, new FIFO());
         } else if (selectedMemory.contains("LRU")) {
             memory = new MemoryManager(frames, new LRU());
+        } else if (selectedMemory.startsWith("CLOCK")) {
+            memory = new MemoryManager(frames, new Clock());
+        } else if (selectedMemory.startsWith("ESC")) {
+            memory = new MemoryManager(frames, new EnhancedSecondChance());
+        } else if (selectedMemory.startsWith("ARC")) {
+            memory = new MemoryManager(frames, new ARC());
+        } else if (selectedMemory.startsWith("2Q")) {
+            memory = new MemoryManager(frames, new TwoQ());
         } else if (selectedMemory.contains("Optimal") || selectedMemory.contains("Óptimo")) {
             memory = createOptimalMemory();
             if (memory == null) {
@@ -602,7 +628,7 @@ public class ConfiguracionInicialGUI {
             "Simulación configurada exitosamente!\n\n" +
             "Configuración aplicada:\n" +
             "• Algoritmo: " + selectedScheduler + 
-            (selectedScheduler.contains("RR") ? " (Q=" + quantum + ")" : "") + "\n" +
+            (selectedScheduler.contains("RR") || selectedScheduler.contains("MLFQ") ? " (Q=" + quantum + ")" : "") + "\n" +
             "• Memoria: " + selectedMemory + " (" + frames + " frames)\n" +
             "• Procesos: " + selectedProcesses.size() + " cargados\n\n" +
             "Presione 'Iniciar Simulación' para comenzar.",
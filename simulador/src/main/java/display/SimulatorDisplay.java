@@ -349,6 +349,10 @@ public class SimulatorDisplay {
     
     private String getAlgorithmName() {
         Scheduler.Algorithm algo = scheduler.getCurrentAlgorithm();
+        if (algo == null) {
+            // Política instalada con setPolicy()
+            return scheduler.getPolicy().getName();
+        }
         switch (algo) {
             case FCFS:
                 return "First Come First Served (FCFS)";
@@ -0,0 +1,177 @@
+package logging;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Escribe el log a un archivo desde un hilo aparte. Los mensajes pasan por
+ * un buffer circular acotado (ArrayBlockingQueue) que el escritor vacía por
+ * lotes; el hilo de la simulación nunca espera al disco. Si el buffer se
+ * llena, el mensaje se descarta y se cuenta en getDropped(). flush() encola
+ * una marca (un CountDownLatch) que el escritor libera al llegar a ella.
+ */
+public class AsyncFileSink implements LogSink {
+    public static final int DEFAULT_CAPACITY = 64 * 1024;
+
+    private static final Object POISON = new Object();
+
+    // Mensajes (String), marcas de flush (CountDownLatch) y POISON
+    private final ArrayBlockingQueue<Object> buffer;
+    private final BufferedWriter writer;
+    private final Thread writerThread;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean closed = false;
+
+    public AsyncFileSink(Path archivo) throws IOException {
+        this(archivo, DEFAULT_CAPACITY);
+    }
+
+    public AsyncFileSink(Path archivo, int capacity) throws IOException {
+        this(Files.newBufferedWriter(archivo, StandardCharsets.UTF_8), capacity);
+    }
+
+    AsyncFileSink(Writer destino, int capacity) {
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.writer = destino instanceof BufferedWriter
+                ? (BufferedWriter) destino
+                : new BufferedWriter(destino);
+        this.writerThread = new Thread(this::drainLoop, "log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void write(Level level, String message) {
+        if (closed || !writerThread.isAlive()) {
+            dropped.incrementAndGet();
+            return;
+        }
+        if (!buffer.offer(level.name() + " " + message)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private void drainLoop() {
+        List<Object> lote = new ArrayList<>(1024);
+        try {
+            while (true) {
+                lote.add(buffer.take());
+                buffer.drainTo(lote, 1023);
+                boolean fin = false;
+                for (Object item : lote) {
+                    if (item == POISON) {
+                        fin = true;
+                        break;
+                    }
+                    if (item instanceof CountDownLatch) {
+                        writer.flush();
+                        ((CountDownLatch) item).countDown();
+                        continue;
+                    }
+                    writer.write((String) item);
+                    writer.newLine();
+                    written.incrementAndGet();
+                }
+                lote.clear();
+                if (buffer.isEmpty() || fin) {
+                    writer.flush();
+                }
+                if (fin) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                // nada más que hacer
+            }
+            // Nadie queda esperando una marca que ya no se va a procesar
+            for (Object item : lote) {
+                if (item instanceof CountDownLatch) {
+                    ((CountDownLatch) item).countDown();
+                }
+            }
+            for (Object item : buffer) {
+                if (item instanceof CountDownLatch) {
+                    ((CountDownLatch) item).countDown();
+                }
+            }
+        }
+    }
+
+    /**
+     * Espera a que todo lo aceptado hasta ahora esté en el archivo. Si el
+     * buffer está lleno, espera lugar para la marca mientras el escritor siga
+     * vivo.
+     */
+    @Override
+    public void flush() {
+        if (closed) {
+            return;
+        }
+        CountDownLatch marca = new CountDownLatch(1);
+        try {
+            if (!encolar(marca)) {
+                return;
+            }
+            // El escritor puede morir (error de E/S) después de que se encoló la marca
+            while (!marca.await(100, TimeUnit.MILLISECONDS)) {
+                if (!writerThread.isAlive()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (encolar(POISON)) {
+                writerThread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Encola esperando lugar; false si el escritor murió y nadie va a vaciar el buffer
+    private boolean encolar(Object item) throws InterruptedException {
+        while (writerThread.isAlive()) {
+            if (buffer.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long getWritten() {
+        return written.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+}
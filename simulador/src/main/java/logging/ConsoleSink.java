@@ -0,0 +1,18 @@
+package logging;
+
+/**
+ * Escribe en System.out tal cual, como los println de siempre. Se resuelve
+ * System.out en cada mensaje para respetar System.setOut().
+ */
+public class ConsoleSink implements LogSink {
+
+    @Override
+    public void write(Level level, String message) {
+        System.out.println(message);
+    }
+
+    @Override
+    public void flush() {
+        System.out.flush();
+    }
+}
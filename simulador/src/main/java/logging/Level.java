@@ -0,0 +1,8 @@
+package logging;
+
+/**
+ * Niveles de log, de menos a más detallado. OFF apaga todo.
+ */
+public enum Level {
+    OFF, ERROR, WARN, INFO, DEBUG, TRACE
+}
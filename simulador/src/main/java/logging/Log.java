@@ -0,0 +1,96 @@
+package logging;
+
+/**
+ * Log global del simulador. Los caminos calientes preguntan el nivel antes
+ * de armar el mensaje, así un nivel apagado no cuesta ni la concatenación:
+ *
+ *     if (Log.isDebugEnabled()) {
+ *         Log.debug("[Scheduler] ... " + pid);
+ *     }
+ *
+ * Por defecto se loguea todo (TRACE) a consola, igual que los println
+ * originales.
+ */
+public final class Log {
+    private static volatile int threshold = Level.TRACE.ordinal();
+    private static volatile LogSink sink = new ConsoleSink();
+
+    private Log() {
+    }
+
+    public static void setLevel(Level level) {
+        threshold = level.ordinal();
+    }
+
+    public static Level getLevel() {
+        return Level.values()[threshold];
+    }
+
+    /**
+     * Cambia el destino. El anterior se vacía y se cierra.
+     */
+    public static void setSink(LogSink nuevo) {
+        LogSink anterior = sink;
+        sink = nuevo;
+        anterior.flush();
+        anterior.close();
+    }
+
+    public static LogSink getSink() {
+        return sink;
+    }
+
+    public static boolean isEnabled(Level level) {
+        return level != Level.OFF && level.ordinal() <= threshold;
+    }
+
+    public static boolean isErrorEnabled() {
+        return Level.ERROR.ordinal() <= threshold;
+    }
+
+    public static boolean isWarnEnabled() {
+        return Level.WARN.ordinal() <= threshold;
+    }
+
+    public static boolean isInfoEnabled() {
+        return Level.INFO.ordinal() <= threshold;
+    }
+
+    public static boolean isDebugEnabled() {
+        return Level.DEBUG.ordinal() <= threshold;
+    }
+
+    public static boolean isTraceEnabled() {
+        return Level.TRACE.ordinal() <= threshold;
+    }
+
+    public static void log(Level level, String message) {
+        if (isEnabled(level)) {
+            sink.write(level, message);
+        }
+    }
+
+    public static void error(String message) {
+        log(Level.ERROR, message);
+    }
+
+    public static void warn(String message) {
+        log(Level.WARN, message);
+    }
+
+    public static void info(String message) {
+        log(Level.INFO, message);
+    }
+
+    public static void debug(String message) {
+        log(Level.DEBUG, message);
+    }
+
+    public static void trace(String message) {
+        log(Level.TRACE, message);
+    }
+
+    public static void flush() {
+        sink.flush();
+    }
+}
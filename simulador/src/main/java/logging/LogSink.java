@@ -0,0 +1,15 @@
+package logging;
+
+/**
+ * Destino de los mensajes de log.
+ */
+public interface LogSink {
+
+    void write(Level level, String message);
+
+    default void flush() {
+    }
+
+    default void close() {
+    }
+}
@@ -1,23 +1,39 @@
 package memory;
 
+/**
+ * Marco de memoria física. Además del estado guarda a quién pertenece
+ * (proceso y página): la lista de frames funciona como tabla de páginas
+ * invertida, así que el dueño de un frame se consulta en O(1) sin recorrer
+ * las tablas de páginas.
+ */
 public class Frame {
     private int id;
     private boolean occupied;
+    private String ownerProcessId;
+    private int ownerPage;
     
     public Frame(int id) {
         this.id = id;
         this.occupied = false;
+        this.ownerProcessId = null;
+        this.ownerPage = -1;
     }
     
     public int getId() { return id; }
     public boolean isOccupied() { return occupied; }
+    public String getOwnerProcessId() { return ownerProcessId; }
+    public int getOwnerPage() { return ownerPage; }
     
-    public void occupy() {
+    public void occupy(String processId, int pageNumber) {
         this.occupied = true;
+        this.ownerProcessId = processId;
+        this.ownerPage = pageNumber;
     }
     
     public void free() {
         this.occupied = false;
+        this.ownerProcessId = null;
+        this.ownerPage = -1;
     }
     
     @Override
@@ -28,4 +44,4 @@ public class Frame {
             return String.format("Frame %d: FREE", id);
         }
     }
-}
\ No newline at end of file
+}
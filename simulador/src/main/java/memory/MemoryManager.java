@@ -1,11 +1,14 @@
 package memory;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 
+import logging.Log;
 import memory.algoritmos.ReplacementAlgorithm;
 import process.Process;
 import synchronization.SyncManager;
@@ -16,15 +19,27 @@ public class MemoryManager {
     private Map<String, PageTable> processPageTables;
     private ReplacementAlgorithm replacementAlgorithm;
     private SyncManager syncManager;
+    private boolean globalReplacement = false;
+    private Prefetcher prefetcher;
+    private TLB tlb;
+    private final List<TLB> coreTlbs = new ArrayList<>();
 
     private Map<String, Integer> pageFaultCount;
     private Map<String, Integer> replacementCount;
+    private Map<String, Integer> writeBackCount;
+    private Map<String, Integer> prefetchedCount;
+    private Map<String, Integer> prefetchHitCount;
+    private Map<String, Integer> prefetchWastedCount;
 
     public MemoryManager(int totalFrames, ReplacementAlgorithm algorithm) {
+        this(totalFrames, algorithm, SyncManager.getInstance());
+    }
+
+    public MemoryManager(int totalFrames, ReplacementAlgorithm algorithm, SyncManager syncManager) {
         physicalMemory = new ArrayList<>();
         freeFrames = new java.util.LinkedList<>();
         processPageTables = new java.util.HashMap<>();
-        syncManager = SyncManager.getInstance();
+        this.syncManager = syncManager;
 
         for (int i = 0; i < totalFrames; i++) {
             Frame frame = new Frame(i);
@@ -35,7 +50,13 @@ public class MemoryManager {
         this.replacementAlgorithm = algorithm;
         this.pageFaultCount = new HashMap<>();
         this.replacementCount = new HashMap<>();
-        System.out.println("Memory Manager inicializada con " + totalFrames + " frames.");
+        this.writeBackCount = new HashMap<>();
+        this.prefetchedCount = new HashMap<>();
+        this.prefetchHitCount = new HashMap<>();
+        this.prefetchWastedCount = new HashMap<>();
+        if (Log.isInfoEnabled()) {
+            Log.info("Memory Manager inicializada con " + totalFrames + " frames.");
+        }
     }
 
     // MÉTODOS AGREGADOS PARA EL DISPLAY
@@ -58,6 +79,77 @@ public class MemoryManager {
         return null;
     }
     
+    /**
+     * Con reemplazo global la víctima puede ser del mismo proceso que falla.
+     * Por defecto no (el scheduler carga todas las páginas de un proceso y no
+     * debe expulsar las que acaba de cargar); sirve para medir algoritmos
+     * sobre una traza de referencias.
+     */
+    public void setGlobalReplacement(boolean globalReplacement) {
+        this.globalReplacement = globalReplacement;
+    }
+
+    /**
+     * Lectura anticipada en cada fallo (null para desactivarla). Las páginas
+     * traídas así no cuentan como fallos; si se usan antes de salir cuentan
+     * como aciertos del prefetch y si no, como frames desperdiciados.
+     */
+    public void setPrefetcher(Prefetcher prefetcher) {
+        this.prefetcher = prefetcher;
+    }
+
+    public Prefetcher getPrefetcher() {
+        return prefetcher;
+    }
+
+    /**
+     * TLB que se consulta antes de la tabla de páginas en cada acceso (null:
+     * sin TLB). Es el del núcleo 0; cada núcleo que aparece recibe uno propio,
+     * vacío y con la misma configuración (TLB.copy()).
+     */
+    public void setTlb(TLB tlb) {
+        this.tlb = tlb;
+        coreTlbs.clear();
+        if (tlb != null) {
+            coreTlbs.add(tlb);
+        }
+    }
+
+    public TLB getTlb() {
+        return tlb;
+    }
+
+    public TLB getTlb(int core) {
+        return tlbFor(core);
+    }
+
+    // Un TLB por núcleo que ya ejecutó algo, en orden de núcleo
+    public List<TLB> getTlbs() {
+        return Collections.unmodifiableList(coreTlbs);
+    }
+
+    private TLB tlbFor(int core) {
+        if (tlb == null) {
+            return null;
+        }
+        while (coreTlbs.size() <= core) {
+            coreTlbs.add(tlb.copy());
+        }
+        return coreTlbs.get(core);
+    }
+
+    public void contextSwitch(String processId) {
+        contextSwitch(0, processId);
+    }
+
+    // El scheduler avisa qué proceso pasa a la CPU del núcleo (para vaciar su TLB sin ASID)
+    public void contextSwitch(int core, String processId) {
+        TLB coreTlb = tlbFor(core);
+        if (coreTlb != null) {
+            coreTlb.contextSwitch(processId);
+        }
+    }
+
     public ReplacementAlgorithm getReplacementAlgorithm() {
         return replacementAlgorithm;
     }
@@ -70,13 +162,49 @@ public class MemoryManager {
     public void createProcess(String processId, int totalPages) {
         syncManager.acquireGlobalLock();
         try {
-            System.out.println("[MemoryManager-DEBUG] createProcess INICIO: " + processId + ", páginas: " + totalPages);
+            if (Log.isTraceEnabled()) {
+                Log.trace("[MemoryManager-DEBUG] createProcess INICIO: " + processId + ", páginas: " + totalPages);
+            }
             
-            PageTable pageTable = new PageTable(processId, totalPages);
+            PageTable pageTable = PageTable.create(processId, totalPages);
             processPageTables.put(processId, pageTable);
             
-            System.out.println("[MemoryManager-DEBUG] createProcess COMPLETADO: " + processId);
-            System.out.println("[MemoryManager-DEBUG] Procesos después de crear: " + processPageTables.keySet());
+            if (Log.isTraceEnabled()) {
+                Log.trace("[MemoryManager-DEBUG] createProcess COMPLETADO: " + processId);
+                Log.trace("[MemoryManager-DEBUG] Procesos después de crear: " + processPageTables.keySet());
+            }
+        } finally {
+            syncManager.releaseGlobalLock();
+        }
+    }
+
+    // Crea la tabla de páginas del proceso si no existe, sin cargar ninguna
+    public void ensureProcess(Process process) {
+        syncManager.acquireGlobalLock();
+        try {
+            if (!processPageTables.containsKey(process.getPID())) {
+                createProcess(process.getPID(), process.getPages());
+            }
+        } finally {
+            syncManager.releaseGlobalLock();
+        }
+    }
+
+    // Páginas del proceso que hoy ocupan un frame
+    public int getResidentPages(String processId) {
+        syncManager.acquireGlobalLock();
+        try {
+            PageTable pt = processPageTables.get(processId);
+            if (pt == null) {
+                return 0;
+            }
+            int residentes = 0;
+            for (int i = 0; i < pt.getTotalPages(); i++) {
+                if (pt.isPageLoaded(i)) {
+                    residentes++;
+                }
+            }
+            return residentes;
         } finally {
             syncManager.releaseGlobalLock();
         }
@@ -96,67 +224,68 @@ public class MemoryManager {
     }
 
     public boolean loadPage(String processId, int pageNumber) {
+        return loadPage(processId, pageNumber, false);
+    }
+
+    /**
+     * Acceso a una página: si está en memoria actualiza sus bits R/M y avisa
+     * al algoritmo; si no, es un fallo y se carga (con reemplazo si hace
+     * falta). Con write=true la página queda modificada (dirty).
+     */
+    public boolean loadPage(String processId, int pageNumber, boolean write) {
+        return loadPage(processId, pageNumber, write, 0);
+    }
+
+    // Acceso desde el núcleo core: la traducción se busca y se guarda en su TLB
+    public boolean loadPage(String processId, int pageNumber, boolean write, int core) {
         syncManager.acquireGlobalLock();
         try {
             syncManager.acquireProcessLock(processId);
             try {
-                if (isPageLoaded(processId, pageNumber)) {
-                    System.out.println("Página " + pageNumber + " del proceso " + processId + " ya está en memoria.");
-                    replacementAlgorithm.onPageAccess(processId, pageNumber);
-                    return true;
-                }
-
-                Frame targetFrame;
-                pageFaultCount.put(processId, pageFaultCount.getOrDefault(processId, 0) + 1);
-
-                if (freeFrames.isEmpty()) {
-                    Integer victimFrameId = replacementAlgorithm.chooseVictimFrame(physicalMemory, processPageTables, processId);
-
-                    if (victimFrameId == null) {
-                        System.out.println("ERROR: No se pudo elegir víctima para reemplazo");
-                        return false;
+                TLB coreTlb = tlbFor(core);
+                if (isResident(coreTlb, processId, pageNumber)) {
+                    if (Log.isTraceEnabled()) {
+                        Log.trace("Página " + pageNumber + " del proceso " + processId + " ya está en memoria.");
                     }
-
-                    targetFrame = physicalMemory.get(victimFrameId);
-
-                    String victimProcessId = null;
-                    PageTable victimPageTable = null;
-                    Integer victimPageNumber = null;
-
-                    for (Map.Entry<String, PageTable> entry : processPageTables.entrySet()) {
-                        Integer pn = entry.getValue().findPageInFrame(victimFrameId);
-                        if (pn != null) {
-                            victimProcessId = entry.getKey();
-                            victimPageTable = entry.getValue();
-                            victimPageNumber = pn;
-                            break;
-                        }
+                    PageTable pageTable = processPageTables.get(processId);
+                    pageTable.setReferenced(pageNumber, true);
+                    if (write) {
+                        pageTable.setModified(pageNumber, true);
                     }
-
-                    if (victimProcessId == null || victimPageTable == null || victimPageNumber == null) {
-                        System.out.println("ERROR: No se encontró la página víctima en tablas de páginas");
-                        return false;
+                    if (pageTable.isPrefetched(pageNumber)) {
+                        pageTable.setPrefetched(pageNumber, false);
+                        prefetchHitCount.merge(processId, 1, Integer::sum);
                     }
+                    replacementAlgorithm.onPageAccess(processId, pageNumber, pageTable.getFrameNumber(pageNumber));
+                    return true;
+                }
 
-                    System.out.println("REEMPLAZO: Expulsando " + victimProcessId + "-Page" + victimPageNumber +
-                            " del Frame " + victimFrameId);
-
-                    victimPageTable.pageUnloaded(victimPageNumber);
-                    replacementAlgorithm.onPageUnloaded(victimProcessId, victimPageNumber, victimFrameId);
-                    targetFrame.free();
-                    replacementCount.put(victimProcessId, replacementCount.getOrDefault(victimProcessId, 0) + 1);
+                pageFaultCount.put(processId, pageFaultCount.getOrDefault(processId, 0) + 1);
+                replacementAlgorithm.onPageFault(processId, pageNumber);
 
-                } else {
-                    targetFrame = freeFrames.poll();
+                Frame targetFrame = takeFrame(processId, null);
+                if (targetFrame == null) {
+                    return false;
                 }
 
-                targetFrame.occupy();
+                targetFrame.occupy(processId, pageNumber);
                 PageTable pageTable = processPageTables.get(processId);
                 pageTable.pageLoaded(pageNumber, targetFrame.getId());
+                if (write) {
+                    pageTable.setModified(pageNumber, true);
+                }
                 replacementAlgorithm.onPageLoaded(processId, pageNumber, targetFrame.getId());
+                if (coreTlb != null) {
+                    coreTlb.insert(processId, pageNumber, targetFrame.getId());
+                }
 
-                System.out.println("SUCCESS: Página " + pageNumber + " del proceso " + processId +
-                        " cargada en Frame " + targetFrame.getId());
+                if (Log.isDebugEnabled()) {
+                    Log.debug("SUCCESS: Página " + pageNumber + " del proceso " + processId +
+                            " cargada en Frame " + targetFrame.getId());
+                }
+                if (prefetcher != null) {
+                    prefetchAfter(processId, pageNumber);
+                }
                 return true;
 
             } finally {
@@ -167,6 +296,116 @@ public class MemoryManager {
         }
     }
 
+    /*
+     * Con TLB, primero se busca la traducción ahí; si falla se recorre la
+     * tabla de páginas y, si la página está, se guarda en el TLB.
+     */
+    private boolean isResident(TLB coreTlb, String processId, int pageNumber) {
+        if (coreTlb == null) {
+            return isPageLoaded(processId, pageNumber);
+        }
+        if (coreTlb.lookup(processId, pageNumber) >= 0) {
+            return true;
+        }
+        PageTable pageTable = processPageTables.get(processId);
+        if (pageTable == null || !pageTable.isPageLoaded(pageNumber)) {
+            return false;
+        }
+        coreTlb.insert(processId, pageNumber, pageTable.getFrameNumber(pageNumber));
+        return true;
+    }
+
+    // La página salió de memoria: ningún núcleo puede seguir traduciéndola
+    private void invalidateTlbs(String processId, int pageNumber) {
+        for (TLB coreTlb : coreTlbs) {
+            coreTlb.invalidate(processId, pageNumber);
+        }
+    }
+
+    /*
+     * Frame para una página de processId: uno libre o, si no hay, la víctima
+     * que elige el algoritmo (se descarga su página). Los frames de
+     * protectedFrames (null: ninguno) no se eligen; el algoritmo los saltea
+     * sin tocar su estado. Null si no hay víctima. Se llama con los locks de
+     * loadPage tomados.
+     */
+    private Frame takeFrame(String processId, BitSet protectedFrames) {
+        if (!freeFrames.isEmpty()) {
+            return freeFrames.poll();
+        }
+        Integer victimFrameId = replacementAlgorithm.chooseVictimFrame(physicalMemory, processPageTables,
+                globalReplacement ? null : processId, protectedFrames);
+
+        if (victimFrameId == null) {
+            if (protectedFrames == null) {
+                Log.error("ERROR: No se pudo elegir víctima para reemplazo");
+            }
+            return null;
+        }
+
+        Frame targetFrame = physicalMemory.get(victimFrameId);
+
+        // El frame sabe de quién es: no hace falta recorrer las tablas
+        String victimProcessId = targetFrame.getOwnerProcessId();
+        PageTable victimPageTable = victimProcessId != null ? processPageTables.get(victimProcessId) : null;
+        int victimPageNumber = targetFrame.getOwnerPage();
+
+        if (victimProcessId == null || victimPageTable == null) {
+            Log.error("ERROR: No se encontró la página víctima en tablas de páginas");
+            return null;
+        }
+
+        if (Log.isDebugEnabled()) {
+            Log.debug("REEMPLAZO: Expulsando " + victimProcessId + "-Page" + victimPageNumber +
+                    " del Frame " + victimFrameId);
+        }
+
+        if (victimPageTable.isModified(victimPageNumber)) {
+            writeBackCount.put(victimProcessId, writeBackCount.getOrDefault(victimProcessId, 0) + 1);
+        }
+        if (victimPageTable.isPrefetched(victimPageNumber)) {
+            prefetchWastedCount.merge(victimProcessId, 1, Integer::sum);
+        }
+        victimPageTable.pageUnloaded(victimPageNumber);
+        replacementAlgorithm.onPageUnloaded(victimProcessId, victimPageNumber, victimFrameId);
+        invalidateTlbs(victimProcessId, victimPageNumber);
+        targetFrame.free();
+        replacementCount.put(victimProcessId, replacementCount.getOrDefault(victimProcessId, 0) + 1);
+        return targetFrame;
+    }
+
+    /*
+     * Trae las páginas siguientes a la del fallo en el mismo servicio. Entran
+     * con el bit R apagado (todavía nadie las usó) y se cortan en la primera
+     * que ya está en memoria, en el fin del proceso o si no hay frame; nunca
+     * se expulsa la página que acaba de fallar ni otra anticipada en el mismo
+     * servicio.
+     */
+    private void prefetchAfter(String processId, int pageNumber) {
+        PageTable pageTable = processPageTables.get(processId);
+        int ventana = prefetcher.windowFor(processId, pageNumber);
+        int limite = Math.min(pageTable.getTotalPages() - 1, pageNumber + ventana);
+        // Ni la página del fallo ni las traídas en este mismo servicio
+        BitSet protegidos = new BitSet(physicalMemory.size());
+        protegidos.set(pageTable.getFrameNumber(pageNumber));
+        for (int pagina = pageNumber + 1; pagina <= limite; pagina++) {
+            if (pageTable.isPageLoaded(pagina)) {
+                break;
+            }
+            Frame frame = takeFrame(processId, protegidos);
+            if (frame == null) {
+                break;
+            }
+            protegidos.set(frame.getId());
+            frame.occupy(processId, pagina);
+            pageTable.pageLoaded(pagina, frame.getId());
+            pageTable.setReferenced(pagina, false);
+            pageTable.setPrefetched(pagina, true);
+            replacementAlgorithm.onPagePrefetched(processId, pagina, frame.getId());
+            prefetchedCount.merge(processId, 1, Integer::sum);
+        }
+    }
+
     public PageTable getPageTable(String processId) {
         syncManager.acquireProcessLock(processId);
         try {
@@ -182,18 +421,11 @@ public class MemoryManager {
             if (!frame.isOccupied()) {
                 return "FREE";
             }
-            for (Map.Entry<String, PageTable> entry : processPageTables.entrySet()) {
-                syncManager.acquireProcessLock(entry.getKey());
-                try {
-                    Integer pageNumber = entry.getValue().findPageInFrame(frame.getId());
-                    if (pageNumber != null) {
-                        return entry.getKey() + "-P" + pageNumber;
-                    }
-                } finally {
-                    syncManager.releaseProcessLock(entry.getKey());
-                }
+            String owner = frame.getOwnerProcessId();
+            if (owner == null) {
+                return "UNKNOWN";
             }
-            return "UNKNOWN";
+            return owner + "-P" + frame.getOwnerPage();
         } finally {
             syncManager.releaseGlobalLock();
         }
@@ -242,14 +474,62 @@ public class MemoryManager {
         return replacementCount.getOrDefault(processId, 0);
     }
 
+    // Víctimas que estaban modificadas y habría que escribir a disco
+    public int getWriteBacks(String processId) {
+        return writeBackCount.getOrDefault(processId, 0);
+    }
+
+    // Páginas traídas por lectura anticipada
+    public int getPrefetched(String processId) {
+        return prefetchedCount.getOrDefault(processId, 0);
+    }
+
+    // Páginas anticipadas que se usaron antes de salir de memoria
+    public int getPrefetchHits(String processId) {
+        return prefetchHitCount.getOrDefault(processId, 0);
+    }
+
+    // Páginas anticipadas que salieron sin usarse: frames desperdiciados
+    public int getPrefetchWasted(String processId) {
+        return prefetchWastedCount.getOrDefault(processId, 0);
+    }
+
     public void printStatistics() {
         syncManager.acquireGlobalLock();
         try {
             System.out.println("\nESTADÍSTICAS DE MEMORIA:");
             System.out.println("Algoritmo: " + replacementAlgorithm.getName());
+            int fallos = 0;
+            int reemplazos = 0;
+            int escrituras = 0;
             for (String pid : processPageTables.keySet()) {
                 System.out.println(pid + " - Fallos: " + getPageFaults(pid) +
                         ", Reemplazos: " + getReplacements(pid));
+                fallos += getPageFaults(pid);
+                reemplazos += getReplacements(pid);
+                escrituras += getWriteBacks(pid);
+            }
+            // Una línea por corrida, para comparar algoritmos lado a lado
+            System.out.println(String.format("TOTAL %-8s - Fallos: %d, Reemplazos: %d, Escrituras: %d",
+                    replacementAlgorithm.getName(), fallos, reemplazos, escrituras));
+            for (int i = 0; i < coreTlbs.size(); i++) {
+                TLB coreTlb = coreTlbs.get(i);
+                System.out.println(String.format("TLB%s (%s) - Aciertos: %d, Fallos: %d, Vaciados: %d, Acceso efectivo: %.2f ciclos",
+                        coreTlbs.size() > 1 ? " CPU" + i : "", coreTlb.getName(), coreTlb.getTotalHits(),
+                        coreTlb.getTotalMisses(), coreTlb.getFlushes(), coreTlb.getEffectiveAccessTime()));
+            }
+            if (prefetcher != null) {
+                int traidas = 0;
+                int usadas = 0;
+                int desperdiciadas = 0;
+                for (String pid : processPageTables.keySet()) {
+                    traidas += getPrefetched(pid);
+                    usadas += getPrefetchHits(pid);
+                    desperdiciadas += getPrefetchWasted(pid);
+                }
+                System.out.println(String.format("PREFETCH (%s) - Traídas: %d, Usadas: %d (%.1f%%), Desperdiciadas: %d",
+                        prefetcher.getName(), traidas, usadas, traidas > 0 ? 100.0 * usadas / traidas : 0.0,
+                        desperdiciadas));
             }
         } finally {
             syncManager.releaseGlobalLock();
@@ -257,71 +537,108 @@ public class MemoryManager {
     }
 
     public boolean ensurePages(Process process) {
+        return ensurePages(process, 0);
+    }
+
+    // Carga completa para el núcleo donde va a correr (las traducciones van a su TLB)
+    public boolean ensurePages(Process process, int core) {
         String pid = process.getPID();
         int totalPages = process.getPages();
 
-        System.out.println("[MemoryManager-DEBUG] ensurePages INICIO para: " + pid);
+        if (Log.isTraceEnabled()) {
+            Log.trace("[MemoryManager-DEBUG] ensurePages INICIO para: " + pid);
+        }
 
         boolean exists;
         syncManager.acquireGlobalLock();
         try {
             exists = processPageTables.containsKey(pid);
-            System.out.println("[MemoryManager-DEBUG] Proceso " + pid + " existe en tabla: " + exists);
+            if (Log.isTraceEnabled()) {
+                Log.trace("[MemoryManager-DEBUG] Proceso " + pid + " existe en tabla: " + exists);
+            }
         } finally {
             syncManager.releaseGlobalLock();
         }
 
         if (!exists) {
-            System.out.println("[MemoryManager-DEBUG] Creando proceso: " + pid);
+            if (Log.isTraceEnabled()) {
+                Log.trace("[MemoryManager-DEBUG] Creando proceso: " + pid);
+            }
             createProcess(pid, totalPages);
             
             syncManager.acquireGlobalLock();
             try {
                 boolean existsAfterCreate = processPageTables.containsKey(pid);
-                System.out.println("[MemoryManager-DEBUG] Después de createProcess, existe: " + existsAfterCreate);
+                if (Log.isTraceEnabled()) {
+                    Log.trace("[MemoryManager-DEBUG] Después de createProcess, existe: " + existsAfterCreate);
+                }
             } finally {
                 syncManager.releaseGlobalLock();
             }
         }
 
-        System.out.println("[MemoryManager-DEBUG] Llamando loadAllPages para: " + pid);
-        boolean result = loadAllPages(pid);
-        System.out.println("[MemoryManager-DEBUG] ensurePages RESULTADO para " + pid + ": " + result);
+        if (Log.isTraceEnabled()) {
+            Log.trace("[MemoryManager-DEBUG] Llamando loadAllPages para: " + pid);
+        }
+        boolean result = loadAllPages(pid, core);
+        if (Log.isTraceEnabled()) {
+            Log.trace("[MemoryManager-DEBUG] ensurePages RESULTADO para " + pid + ": " + result);
+        }
         
         return result;
     }
 
     public boolean loadAllPages(String processId) {
-        System.out.println("[MemoryManager-DEBUG] loadAllPages INICIO para: " + processId);
+        return loadAllPages(processId, 0);
+    }
+
+    public boolean loadAllPages(String processId, int core) {
+        if (Log.isTraceEnabled()) {
+            Log.trace("[MemoryManager-DEBUG] loadAllPages INICIO para: " + processId);
+        }
         
         syncManager.acquireGlobalLock();
         try {
             PageTable pt = processPageTables.get(processId);
-            System.out.println("[MemoryManager-DEBUG] PageTable obtenida para " + processId + ": " + (pt != null ? "NO-NULL" : "NULL"));
+            if (Log.isTraceEnabled()) {
+                Log.trace("[MemoryManager-DEBUG] PageTable obtenida para " + processId + ": " + (pt != null ? "NO-NULL" : "NULL"));
+            }
             
             if (pt == null){
-                System.out.println("[MemoryManager-ERROR] PageTable es NULL para: " + processId);
-                System.out.println("[MemoryManager-ERROR] Procesos en tabla: " + processPageTables.keySet());
+                Log.error("[MemoryManager-ERROR] PageTable es NULL para: " + processId);
+                Log.error("[MemoryManager-ERROR] Procesos en tabla: " + processPageTables.keySet());
                 return false;
             }
 
             int totalPages = pt.getTotalPages();
-            System.out.println("[MemoryManager-DEBUG] Total páginas a cargar: " + totalPages);
+            if (Log.isTraceEnabled()) {
+                Log.trace("[MemoryManager-DEBUG] Total páginas a cargar: " + totalPages);
+            }
 
             for (int i = 0; i < totalPages; i++) {
                 if (!isPageLoaded(processId, i)) {
-                    System.out.println("[MemoryManager-DEBUG] Cargando página " + i + " para " + processId);
-                    boolean success = loadPage(processId, i);
+                    if (Log.isTraceEnabled()) {
+                        Log.trace("[MemoryManager-DEBUG] Cargando página " + i + " para " + processId);
+                    }
+                    boolean success = loadPage(processId, i, false, core);
                     if (!success) {
-                        System.out.println("[MemoryManager-ERROR] Falló carga de página " + i + " para " + processId);
+                        Log.error("[MemoryManager-ERROR] Falló carga de página " + i + " para " + processId);
                         return false;
                     }
                 } else {
-                    System.out.println("[MemoryManager-DEBUG] Página " + i + " ya cargada para " + processId);
+                    if (Log.isTraceEnabled()) {
+                        Log.trace("[MemoryManager-DEBUG] Página " + i + " ya cargada para " + processId);
+                    }
+                    // La trajo la lectura anticipada de la página anterior: la carga completa la usa
+                    if (pt.isPrefetched(i)) {
+                        loadPage(processId, i, false, core);
+                    }
                 }
             }
 
-            System.out.println("[MemoryManager-DEBUG] loadAllPages ÉXITO para: " + processId);
+            if (Log.isTraceEnabled()) {
+                Log.trace("[MemoryManager-DEBUG] loadAllPages ÉXITO para: " + processId);
+            }
             return true;
         } finally {
             syncManager.releaseGlobalLock();
@@ -339,10 +656,14 @@ public class MemoryManager {
 
             for (int i = 0; i < totalPages; i++) {
                 if (pt.isPageLoaded(i)) {
-                    int frameId = pt.getEntry(i).getFrameNumber();
+                    int frameId = pt.getFrameNumber(i);
                     Frame frame = physicalMemory.get(frameId);
 
                     replacementAlgorithm.onPageUnloaded(processId, i, frameId);
+                    if (pt.isPrefetched(i)) {
+                        prefetchWastedCount.merge(processId, 1, Integer::sum);
+                    }
+                    invalidateTlbs(processId, i);
 
                     frame.free();
                     freeFrames.add(frame);
@@ -351,7 +672,9 @@ public class MemoryManager {
                 }
             }
 
-            System.out.println("Memoria liberada para proceso " + processId);
+            if (Log.isDebugEnabled()) {
+                Log.debug("Memoria liberada para proceso " + processId);
+            }
         } finally {
             syncManager.releaseGlobalLock();
         }
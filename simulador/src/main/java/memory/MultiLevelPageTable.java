@@ -0,0 +1,97 @@
+package memory;
+
+/**
+ * Tabla de páginas de dos niveles para espacios de direcciones grandes y
+ * ralos: un directorio de hojas de LEAF_SIZE entradas empaquetadas, cada hoja
+ * se reserva cuando se carga la primera página de su tramo y se libera
+ * cuando la última vuelve a quedar vacía. Un proceso con un millón de
+ * páginas que toca unas pocas paga solo el directorio y esas hojas.
+ */
+public class MultiLevelPageTable extends PageTable {
+    static final int LEAF_BITS = 10;
+    static final int LEAF_SIZE = 1 << LEAF_BITS;
+    private static final int LEAF_MASK = LEAF_SIZE - 1;
+
+    private final int[][] leaves;
+    private final int[] used;   // entradas no vacías por hoja
+
+    public MultiLevelPageTable(String processId, int totalPages) {
+        super(processId, totalPages, null);
+        int hojas = (totalPages + LEAF_SIZE - 1) >>> LEAF_BITS;
+        this.leaves = new int[hojas][];
+        this.used = new int[hojas];
+    }
+
+    @Override
+    public int getAllocatedEntries() {
+        int total = 0;
+        for (int[] leaf : leaves) {
+            if (leaf != null) {
+                total += LEAF_SIZE;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    protected int word(int pageNumber) {
+        int[] leaf = leaves[pageNumber >>> LEAF_BITS];
+        return leaf != null ? leaf[pageNumber & LEAF_MASK] : 0;
+    }
+
+    @Override
+    protected void setWord(int pageNumber, int word) {
+        int h = pageNumber >>> LEAF_BITS;
+        int[] leaf = leaves[h];
+        if (leaf == null) {
+            if (word == 0) {
+                return;
+            }
+            leaf = leaves[h] = new int[LEAF_SIZE];
+        }
+        int i = pageNumber & LEAF_MASK;
+        if (leaf[i] == 0 && word != 0) {
+            used[h]++;
+        } else if (leaf[i] != 0 && word == 0 && --used[h] == 0) {
+            leaves[h] = null;
+            return;
+        }
+        leaf[i] = word;
+    }
+
+    // Solo las páginas en memoria: listar un millón de entradas vacías no sirve
+    @Override
+    public void printPageTable() {
+        System.out.println("\n=== PAGE TABLE for " + getProcessId() + " (" + getTotalPages() + " páginas, "
+                + getAllocatedEntries() + " entradas reservadas) ===");
+        for (int h = 0; h < leaves.length; h++) {
+            if (leaves[h] == null) {
+                continue;
+            }
+            for (int i = 0; i < LEAF_SIZE; i++) {
+                int pagina = (h << LEAF_BITS) | i;
+                if (pagina < getTotalPages() && isPageLoaded(pagina)) {
+                    System.out.println(getEntry(pagina).toString());
+                }
+            }
+        }
+    }
+
+    @Override
+    public Integer findPageInFrame(int frameNumber) {
+        if (frameNumber < 0) {
+            return null;
+        }
+        for (int h = 0; h < leaves.length; h++) {
+            if (leaves[h] == null) {
+                continue;
+            }
+            for (int i = 0; i < LEAF_SIZE; i++) {
+                if ((leaves[h][i] >>> FLAG_BITS) - 1 == frameNumber) {
+                    return (h << LEAF_BITS) | i;
+                }
+            }
+        }
+        return null;
+    }
+}
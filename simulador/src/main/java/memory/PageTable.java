@@ -1,64 +1,129 @@
 package memory;
-import java.util.ArrayList;
-import java.util.List;
 
+/**
+ * Tabla de páginas de un proceso guardada en un int[]: cada entrada empaqueta
+ * el frame (más uno, así 0 es "no está en memoria") en los bits altos y los
+ * bits R, M y de lectura anticipada en los bajos. getEntry devuelve una vista
+ * sobre esa entrada, no un objeto guardado por página.
+ *
+ * Para espacios de direcciones grandes y ralos está MultiLevelPageTable;
+ * create elige una u otra según la cantidad de páginas.
+ */
 public class PageTable {
-    private String processId;
-    private List<PageTableEntry> entries;
-    private int totalPages;
-    
+    public static final int SPARSE_THRESHOLD = 1 << 16;
+
+    static final int REFERENCED = 1;
+    static final int MODIFIED = 2;
+    static final int PREFETCHED = 4;
+    static final int FLAG_BITS = 3;
+    static final int FLAG_MASK = (1 << FLAG_BITS) - 1;
+
+    private final String processId;
+    private final int totalPages;
+    private final int[] entries;
+
     public PageTable(String processId, int totalPages) {
+        this(processId, totalPages, new int[totalPages]);
+    }
+
+    // Para las variantes que guardan las entradas de otra forma (entries == null)
+    protected PageTable(String processId, int totalPages, int[] entries) {
         this.processId = processId;
         this.totalPages = totalPages;
-        this.entries = new ArrayList<>();
-        
-        for (int i = 0; i < totalPages; i++) {
-            entries.add(new PageTableEntry(i));  
+        this.entries = entries;
+    }
+
+    // Tabla plana o multinivel según el tamaño del espacio de direcciones
+    public static PageTable create(String processId, int totalPages) {
+        if (totalPages > SPARSE_THRESHOLD) {
+            return new MultiLevelPageTable(processId, totalPages);
         }
+        return new PageTable(processId, totalPages);
     }
 
     public String getProcessId() { return processId; }
     public int getTotalPages() { return totalPages; }
 
-    public PageTableEntry getEntry(int pageNumber) {
+    // Entradas que ocupan memoria: todas en la tabla plana
+    public int getAllocatedEntries() {
+        return totalPages;
+    }
+
+    protected int word(int pageNumber) {
+        return entries[pageNumber];
+    }
+
+    protected void setWord(int pageNumber, int word) {
+        entries[pageNumber] = word;
+    }
+
+    private void checkPage(int pageNumber) {
         if (pageNumber < 0 || pageNumber >= totalPages) {
             throw new IndexOutOfBoundsException("Número de página fuera de rango");
         }
-        return entries.get(pageNumber);
+    }
+
+    private boolean flag(int pageNumber, int bit) {
+        checkPage(pageNumber);
+        return (word(pageNumber) & bit) != 0;
+    }
+
+    private void setFlag(int pageNumber, int bit, boolean value) {
+        checkPage(pageNumber);
+        int w = word(pageNumber);
+        setWord(pageNumber, value ? w | bit : w & ~bit);
+    }
+
+    public PageTableEntry getEntry(int pageNumber) {
+        checkPage(pageNumber);
+        return new PageTableEntry(this, pageNumber);
     }
 
     public boolean isPageLoaded(int pageNumber) {
-        PageTableEntry entry = getEntry(pageNumber);
-        return entry != null && entry.isPresent();
+        checkPage(pageNumber);
+        return (word(pageNumber) >>> FLAG_BITS) != 0;
     }
 
+    public int getFrameNumber(int pageNumber) {
+        checkPage(pageNumber);
+        return (word(pageNumber) >>> FLAG_BITS) - 1;
+    }
+
+    public void setFrameNumber(int pageNumber, int frameNumber) {
+        checkPage(pageNumber);
+        setWord(pageNumber, ((frameNumber + 1) << FLAG_BITS) | (word(pageNumber) & FLAG_MASK));
+    }
+
+    public boolean isReferenced(int pageNumber) { return flag(pageNumber, REFERENCED); }
+    public boolean isModified(int pageNumber) { return flag(pageNumber, MODIFIED); }
+    public boolean isPrefetched(int pageNumber) { return flag(pageNumber, PREFETCHED); }
+
+    public void setReferenced(int pageNumber, boolean referenced) { setFlag(pageNumber, REFERENCED, referenced); }
+    public void setModified(int pageNumber, boolean modified) { setFlag(pageNumber, MODIFIED, modified); }
+    public void setPrefetched(int pageNumber, boolean prefetched) { setFlag(pageNumber, PREFETCHED, prefetched); }
+
     public void pageLoaded(int pageNumber, int frameNumber) {
-        PageTableEntry entry = getEntry(pageNumber);
-        if (entry != null) {
-            entry.setFrameNumber(frameNumber);
-        }
+        checkPage(pageNumber);
+        int prefetched = word(pageNumber) & PREFETCHED;
+        setWord(pageNumber, ((frameNumber + 1) << FLAG_BITS) | REFERENCED | prefetched);
     }
 
     public void pageUnloaded(int pageNumber) {
-        PageTableEntry entry = getEntry(pageNumber);
-        if (entry != null) {
-            entry.setFrameNumber(-1);
-        }
+        checkPage(pageNumber);
+        setWord(pageNumber, 0);
     }
 
     public void printPageTable() {
         System.out.println("\n=== PAGE TABLE for " + processId + " ===");
         for (int i = 0; i < totalPages; i++) {
-            PageTableEntry entry = entries.get(i);
-            System.out.println(entry.toString());
+            System.out.println(getEntry(i).toString());
         }
     }
 
     public Integer findPageInFrame(int frameNumber) {
         for (int i = 0; i < totalPages; i++) {
-            PageTableEntry entry = entries.get(i);
-            if (entry.isPresent() && entry.getFrameNumber() == frameNumber) {
-                return i; 
+            if (frameNumber >= 0 && getFrameNumber(i) == frameNumber) {
+                return i;
             }
         }
         return null;
@@ -1,31 +1,44 @@
 package memory;
 
+// Vista sobre la entrada empaquetada de una página: lee y escribe en su PageTable
 public class PageTableEntry {
-    private int pageNumber;     
-    private int frameNumber;   // aqui es-1 si no en RAM
-    private boolean present;    
-    
-    public PageTableEntry(int pageNumber) {
+    private final PageTable table;
+    private final int pageNumber;
+
+    PageTableEntry(PageTable table, int pageNumber) {
+        this.table = table;
         this.pageNumber = pageNumber;
-        this.frameNumber = -1;
-        this.present = false;
     }
-    
+
     public int getPageNumber() { return pageNumber; }
-    public int getFrameNumber() { return frameNumber; }
-    public boolean isPresent() { return present; }
-    
+    public int getFrameNumber() { return table.getFrameNumber(pageNumber); }   // -1 si no está en RAM
+    public boolean isPresent() { return table.isPageLoaded(pageNumber); }
+    public boolean isReferenced() { return table.isReferenced(pageNumber); }   // bit R: se usó desde la última pasada del reloj
+    public boolean isModified() { return table.isModified(pageNumber); }       // bit M (dirty): se escribió mientras estaba en RAM
+    public boolean isPrefetched() { return table.isPrefetched(pageNumber); }   // la trajo la lectura anticipada y todavía no se usó
+
+    public void setReferenced(boolean referenced) {
+        table.setReferenced(pageNumber, referenced);
+    }
+
+    public void setModified(boolean modified) {
+        table.setModified(pageNumber, modified);
+    }
+
+    public void setPrefetched(boolean prefetched) {
+        table.setPrefetched(pageNumber, prefetched);
+    }
+
     public void setFrameNumber(int frameNumber) {
-        this.frameNumber = frameNumber;
-        this.present = (frameNumber != -1);
+        table.setFrameNumber(pageNumber, frameNumber);
     }
-    
+
     @Override
     public String toString() {
-        if (present) {
-            return String.format("Page %d: IN MEMORY (Frame %d)", pageNumber, frameNumber);
+        if (isPresent()) {
+            return String.format("Page %d: IN MEMORY (Frame %d)", pageNumber, getFrameNumber());
         } else {
             return String.format("Page %d: NOT IN MEMORY", pageNumber);
         }
     }
-}
\ No newline at end of file
+}
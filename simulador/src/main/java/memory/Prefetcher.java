@@ -0,0 +1,60 @@
+package memory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lectura anticipada: cuando un fallo trae la página k, el MemoryManager
+ * carga también k+1..k+n en el mismo servicio del fallo.
+ *
+ * Con ventana fija n es siempre la misma. Con ventana adaptativa cada
+ * proceso tiene su propio flujo: si el fallo cae justo después de la última
+ * ventana (el proceso siguió recorriendo en orden) la ventana se duplica
+ * hasta el máximo; si cae en otro lado se vuelve a cero, así un acceso al
+ * azar no gasta frames en páginas que nadie va a pedir.
+ */
+public class Prefetcher {
+    public static final int DEFAULT_MAX_WINDOW = 8;
+
+    private final int maxWindow;
+    private final boolean adaptive;
+    private final Map<String, Stream> streams = new HashMap<>();
+
+    // Flujo secuencial de un proceso: ventana actual y página que lo continúa
+    private static class Stream {
+        int window;
+        int next = -1;
+    }
+
+    public Prefetcher(int maxWindow, boolean adaptive) {
+        this.maxWindow = Math.max(0, maxWindow);
+        this.adaptive = adaptive;
+    }
+
+    public int getMaxWindow() {
+        return maxWindow;
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    // Cuántas páginas siguientes a la del fallo hay que traer
+    int windowFor(String processId, int pageNumber) {
+        if (!adaptive) {
+            return maxWindow;
+        }
+        Stream stream = streams.computeIfAbsent(processId, k -> new Stream());
+        if (pageNumber == stream.next) {
+            stream.window = Math.min(maxWindow, Math.max(1, stream.window * 2));
+        } else {
+            stream.window = 0;
+        }
+        stream.next = pageNumber + stream.window + 1;
+        return stream.window;
+    }
+
+    public String getName() {
+        return (adaptive ? "adaptativa, máx " : "fija ") + maxWindow;
+    }
+}
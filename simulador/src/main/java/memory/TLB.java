@@ -0,0 +1,217 @@
+package memory;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * TLB asociativo por conjuntos delante de las tablas de páginas. Cada
+ * entrada traduce (proceso, página) a un frame; el conjunto se elige por el
+ * número de página y dentro del conjunto la víctima es la menos usada
+ * recientemente (LRU) o una al azar (RANDOM).
+ *
+ * Sin ASID el TLB se vacía en cada cambio de contexto y solo guarda
+ * traducciones del proceso en CPU; con ASID cada entrada lleva el proceso y
+ * sobrevive a los cambios. Un fallo de TLB cuesta missPenalty ciclos extra
+ * (recorrer la tabla de páginas), con lo que se calcula el tiempo efectivo
+ * de acceso a memoria: 1 ciclo por acceso más la penalidad de los fallos.
+ *
+ * Con varios núcleos el MemoryManager tiene uno por núcleo; al expulsar
+ * una página se invalida en todos.
+ */
+public class TLB {
+    public enum Replacement { LRU, RANDOM }
+
+    public static final int DEFAULT_MISS_PENALTY = 10;
+    private static final long EMPTY = -1;
+
+    private final int sets;
+    private final int ways;
+    private final Replacement replacement;
+    private final boolean asidTagged;
+    private final int missPenalty;
+
+    private final long[] tags;      // (asid << 32) | página, o EMPTY
+    private final int[] frames;
+    private final long[] lastUse;
+    private long clock;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    private final Map<String, Integer> asids = new HashMap<>();
+    private String currentProcess;
+    private int contextSwitches;
+    private int flushes;
+    private final Map<String, int[]> stats = new HashMap<>();   // [aciertos, fallos]
+
+    /**
+     * entries se redondea hacia abajo a un múltiplo de ways; ways igual a
+     * entries es totalmente asociativo y ways = 1 es de mapeo directo.
+     */
+    public TLB(int entries, int ways, Replacement replacement, boolean asidTagged, int missPenalty) {
+        this.ways = Math.max(1, Math.min(ways, entries));
+        this.sets = Math.max(1, entries / this.ways);
+        this.replacement = replacement;
+        this.asidTagged = asidTagged;
+        this.missPenalty = missPenalty;
+        this.tags = new long[sets * this.ways];
+        this.frames = new int[sets * this.ways];
+        this.lastUse = new long[sets * this.ways];
+        Arrays.fill(tags, EMPTY);
+    }
+
+    // TLB vacío con la misma configuración, para simular la misma carga varias veces
+    public TLB copy() {
+        return new TLB(sets * ways, ways, replacement, asidTagged, missPenalty);
+    }
+
+    private long key(String processId, int pageNumber) {
+        int asid = asids.computeIfAbsent(processId, k -> asids.size());
+        return ((long) asid << 32) | (pageNumber & 0xFFFFFFFFL);
+    }
+
+    private int firstWay(int pageNumber) {
+        return Math.floorMod(pageNumber, sets) * ways;
+    }
+
+    private int find(long key, int pageNumber) {
+        int base = firstWay(pageNumber);
+        for (int i = base; i < base + ways; i++) {
+            if (tags[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Traducción de la página, o -1 si no está en el TLB. Cuenta el acierto
+     * o el fallo para el proceso.
+     */
+    public int lookup(String processId, int pageNumber) {
+        int[] s = stats.computeIfAbsent(processId, k -> new int[2]);
+        int i = find(key(processId, pageNumber), pageNumber);
+        if (i < 0) {
+            s[1]++;
+            return -1;
+        }
+        s[0]++;
+        lastUse[i] = ++clock;
+        return frames[i];
+    }
+
+    // Guarda la traducción después de recorrer la tabla de páginas
+    public void insert(String processId, int pageNumber, int frameId) {
+        // Sin ASID solo puede haber traducciones del proceso en CPU
+        if (!asidTagged && currentProcess != null && !currentProcess.equals(processId)) {
+            return;
+        }
+        long key = key(processId, pageNumber);
+        int i = find(key, pageNumber);
+        if (i < 0) {
+            i = victim(firstWay(pageNumber));
+        }
+        tags[i] = key;
+        frames[i] = frameId;
+        lastUse[i] = ++clock;
+    }
+
+    private int victim(int base) {
+        for (int i = base; i < base + ways; i++) {
+            if (tags[i] == EMPTY) {
+                return i;
+            }
+        }
+        if (replacement == Replacement.RANDOM) {
+            return base + random.nextInt(ways);
+        }
+        int lru = base;
+        for (int i = base + 1; i < base + ways; i++) {
+            if (lastUse[i] < lastUse[lru]) {
+                lru = i;
+            }
+        }
+        return lru;
+    }
+
+    // La página salió de memoria: su traducción ya no vale
+    public void invalidate(String processId, int pageNumber) {
+        int i = find(key(processId, pageNumber), pageNumber);
+        if (i >= 0) {
+            tags[i] = EMPTY;
+        }
+    }
+
+    /**
+     * El proceso pasa a la CPU. Sin ASID, si cambió el proceso, se vacía
+     * el TLB.
+     */
+    public void contextSwitch(String processId) {
+        if (processId.equals(currentProcess)) {
+            return;
+        }
+        currentProcess = processId;
+        contextSwitches++;
+        if (!asidTagged) {
+            Arrays.fill(tags, EMPTY);
+            flushes++;
+        }
+    }
+
+    public int getHits(String processId) {
+        int[] s = stats.get(processId);
+        return s != null ? s[0] : 0;
+    }
+
+    public int getMisses(String processId) {
+        int[] s = stats.get(processId);
+        return s != null ? s[1] : 0;
+    }
+
+    public long getTotalHits() {
+        long total = 0;
+        for (int[] s : stats.values()) {
+            total += s[0];
+        }
+        return total;
+    }
+
+    public long getTotalMisses() {
+        long total = 0;
+        for (int[] s : stats.values()) {
+            total += s[1];
+        }
+        return total;
+    }
+
+    public int getContextSwitches() {
+        return contextSwitches;
+    }
+
+    public int getFlushes() {
+        return flushes;
+    }
+
+    public int getMissPenalty() {
+        return missPenalty;
+    }
+
+    // Ciclos promedio por acceso: 1 más la penalidad de cada fallo de TLB
+    public double getEffectiveAccessTime() {
+        return effectiveAccessTime(getTotalHits(), getTotalMisses());
+    }
+
+    public double getEffectiveAccessTime(String processId) {
+        return effectiveAccessTime(getHits(processId), getMisses(processId));
+    }
+
+    private double effectiveAccessTime(long aciertos, long fallos) {
+        long accesos = aciertos + fallos;
+        return accesos == 0 ? 0 : 1.0 + (double) fallos * missPenalty / accesos;
+    }
+
+    public String getName() {
+        return String.format("%d entradas, %d vías, %s, %s", sets * ways, ways, replacement,
+                             asidTagged ? "ASID" : "vaciado por cambio de contexto");
+    }
+}
@@ -0,0 +1,148 @@
+package memory.algoritmos;
+import memory.Frame;
+import memory.PageTable;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ARC (Adaptive Replacement Cache, Megiddo y Modha). Las páginas residentes
+ * se reparten en T1 (vistas una sola vez) y T2 (vistas al menos dos veces).
+ * Las que salen de cada una se recuerdan en una lista fantasma, B1 o B2.
+ *
+ * Un fallo que cae en B1 indica que T1 era chica y sube el objetivo p; uno
+ * que cae en B2 lo baja. La víctima sale de T1 si T1 supera p y de T2 si
+ * no. Un barrido de páginas nuevas solo pasa por T1, así que no desaloja el
+ * conjunto caliente de T2 como hace LRU.
+ *
+ * Las listas residentes son de frames sobre arreglos y las fantasma son
+ * conjuntos enlazados de claves: todas las operaciones son O(1).
+ */
+public class ARC implements ReplacementAlgorithm {
+    private static final int T1 = 0;
+    private static final int T2 = 1;
+
+    private final FrameLists resident = new FrameLists(2);
+    private final LinkedHashSet<Long> b1 = new LinkedHashSet<>();
+    private final LinkedHashSet<Long> b2 = new LinkedHashSet<>();
+    private final PageKeys keys = new PageKeys();
+
+    private int capacity;
+    private int target;            // p: tamaño objetivo de T1
+
+    // Fallo en curso: a qué lista entra la página y si venía de B2
+    private long pendingKey = -1;
+    private int pendingList = T1;
+    private boolean pendingFromB2;
+    private int pendingVictim = FrameLists.NONE;
+
+    public ARC() {
+        this.capacity = 0;
+        this.target = 0;
+    }
+
+    public int getTarget() {
+        return target;
+    }
+
+    @Override
+    public void onPageFault(String processId, int pageNumber) {
+        long key = keys.key(processId, pageNumber);
+        pendingKey = key;
+        pendingFromB2 = false;
+        if (b1.contains(key)) {
+            target = Math.min(capacity, target + Math.max(1, b2.size() / b1.size()));
+            b1.remove(key);
+            pendingList = T2;
+        } else if (b2.contains(key)) {
+            target = Math.max(0, target - Math.max(1, b1.size() / b2.size()));
+            b2.remove(key);
+            pendingList = T2;
+            pendingFromB2 = true;
+        } else {
+            pendingList = T1;
+        }
+    }
+
+    @Override
+    public Integer chooseVictimFrame(List<Frame> physicalMemory, Map<String, PageTable> processPageTables,
+                                     String excludeProcessId, BitSet excludeFrames) {
+        capacity = physicalMemory.size();
+        if (resident.size(T1) + resident.size(T2) < capacity) {
+            for (Frame frame : physicalMemory) {
+                if (!frame.isOccupied() || frame.getOwnerProcessId() == null) {
+                    return frame.getId();
+                }
+            }
+        }
+
+        int t1 = resident.size(T1);
+        boolean desdeT1 = t1 > 0 && (t1 > target || (pendingFromB2 && t1 == target));
+        int victima = oldest(desdeT1 ? T1 : T2, physicalMemory, excludeProcessId, excludeFrames);
+        if (victima == FrameLists.NONE) {
+            victima = oldest(desdeT1 ? T2 : T1, physicalMemory, excludeProcessId, excludeFrames);
+        }
+        if (victima == FrameLists.NONE) {
+            return null;
+        }
+        pendingVictim = victima;
+        return victima;
+    }
+
+    // El más viejo de la lista que no sea del proceso excluido
+    private int oldest(int list, List<Frame> physicalMemory, String excludeProcessId, BitSet excludeFrames) {
+        for (int f = resident.head(list); f != FrameLists.NONE; f = resident.next(f)) {
+            if ((excludeProcessId == null || !excludeProcessId.equals(physicalMemory.get(f).getOwnerProcessId())) &&
+                !ReplacementAlgorithm.isExcluded(excludeFrames, f)) {
+                return f;
+            }
+        }
+        return FrameLists.NONE;
+    }
+
+    @Override
+    public void onPageLoaded(String processId, int pageNumber, int frameId) {
+        boolean esElFallo = pendingKey == keys.key(processId, pageNumber);
+        resident.addLast(esElFallo ? pendingList : T1, frameId);
+        pendingKey = -1;
+        pendingFromB2 = false;
+    }
+
+    @Override
+    public void onPageAccess(String processId, int pageNumber, int frameId) {
+        resident.addLast(T2, frameId);
+    }
+
+    @Override
+    public void onPageUnloaded(String processId, int pageNumber, int frameId) {
+        int list = resident.listOf(frameId);
+        resident.remove(frameId);
+        // Solo las víctimas van a las fantasma; liberar un proceso no cuenta como historia
+        if (frameId != pendingVictim || list == FrameLists.NONE) {
+            return;
+        }
+        pendingVictim = FrameLists.NONE;
+        (list == T1 ? b1 : b2).add(keys.key(processId, pageNumber));
+
+        // |T1| + |B1| <= c y el total <= 2c
+        while (resident.size(T1) + b1.size() > capacity && !b1.isEmpty()) {
+            removeOldest(b1);
+        }
+        while (resident.size(T1) + resident.size(T2) + b1.size() + b2.size() > 2 * capacity) {
+            removeOldest(b2.isEmpty() ? b1 : b2);
+        }
+    }
+
+    private static void removeOldest(LinkedHashSet<Long> ghost) {
+        Iterator<Long> it = ghost.iterator();
+        it.next();
+        it.remove();
+    }
+
+    @Override
+    public String getName() {
+        return "ARC";
+    }
+}
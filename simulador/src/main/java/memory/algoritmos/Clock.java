@@ -0,0 +1,73 @@
+package memory.algoritmos;
+import memory.Frame;
+import memory.PageTable;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CLOCK (segunda oportunidad): una aguja recorre los frames en círculo. Si
+ * la página apuntada tiene el bit R encendido se le apaga y se sigue; la
+ * primera con R apagado es la víctima. El bit R lo enciende el
+ * MemoryManager en cada carga y acceso, así que no hay contabilidad por
+ * acceso en el algoritmo.
+ */
+public class Clock implements ReplacementAlgorithm {
+    private int hand;
+
+    public Clock() {
+        this.hand = 0;
+    }
+
+    @Override
+    public Integer chooseVictimFrame(List<Frame> physicalMemory, Map<String, PageTable> processPageTables,
+                                     String excludeProcessId, BitSet excludeFrames) {
+        int total = physicalMemory.size();
+        if (total == 0) {
+            return null;
+        }
+        hand %= total;
+
+        // Dos vueltas alcanzan: en la primera se apagan todos los bits R
+        for (int paso = 0; paso < 2 * total; paso++) {
+            Frame frame = physicalMemory.get(hand);
+            hand = (hand + 1) % total;
+
+            if (ReplacementAlgorithm.isExcluded(excludeFrames, frame.getId())) {
+                continue;
+            }
+            if (!frame.isOccupied() || frame.getOwnerProcessId() == null) {
+                return frame.getId();
+            }
+            if (excludeProcessId != null && excludeProcessId.equals(frame.getOwnerProcessId())) {
+                continue;
+            }
+
+            PageTable pageTable = processPageTables.get(frame.getOwnerProcessId());
+            int pagina = frame.getOwnerPage();
+            if (pageTable.isReferenced(pagina)) {
+                pageTable.setReferenced(pagina, false);
+            } else {
+                return frame.getId();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void onPageLoaded(String processId, int pageNumber, int frameId) {
+    }
+
+    @Override
+    public void onPageAccess(String processId, int pageNumber, int frameId) {
+    }
+
+    @Override
+    public void onPageUnloaded(String processId, int pageNumber, int frameId) {
+    }
+
+    @Override
+    public String getName() {
+        return "CLOCK";
+    }
+}
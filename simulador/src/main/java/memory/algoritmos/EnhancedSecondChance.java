@@ -0,0 +1,93 @@
+package memory.algoritmos;
+import memory.Frame;
+import memory.PageTable;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Segunda oportunidad mejorada: como CLOCK, pero usa el par (R, M) para
+ * preferir víctimas que no haya que escribir a disco. Clases, de mejor a
+ * peor víctima: (0,0), (0,1), (1,0), (1,1).
+ *
+ * Cada vuelta de la aguja:
+ *  1. busca (0,0) sin tocar bits;
+ *  2. si no hay, busca (0,1) apagando el bit R de las que saltea.
+ * Si ninguna vuelta encontró víctima se repite; tras la segunda vuelta del
+ * paso 2 todos los R están apagados, así que a lo sumo son cuatro pasadas.
+ */
+public class EnhancedSecondChance implements ReplacementAlgorithm {
+    private int hand;
+
+    public EnhancedSecondChance() {
+        this.hand = 0;
+    }
+
+    @Override
+    public Integer chooseVictimFrame(List<Frame> physicalMemory, Map<String, PageTable> processPageTables,
+                                     String excludeProcessId, BitSet excludeFrames) {
+        int total = physicalMemory.size();
+        if (total == 0) {
+            return null;
+        }
+        hand %= total;
+
+        for (int vuelta = 0; vuelta < 2; vuelta++) {
+            Integer victima = sweep(physicalMemory, processPageTables, excludeProcessId, excludeFrames, false);
+            if (victima == null) {
+                victima = sweep(physicalMemory, processPageTables, excludeProcessId, excludeFrames, true);
+            }
+            if (victima != null) {
+                return victima;
+            }
+        }
+        return null;
+    }
+
+    // Una vuelta completa desde la aguja. Sin clearing busca (0,0); con clearing busca (0,1)
+    private Integer sweep(List<Frame> physicalMemory, Map<String, PageTable> processPageTables,
+                          String excludeProcessId, BitSet excludeFrames, boolean clearing) {
+        int total = physicalMemory.size();
+        for (int paso = 0; paso < total; paso++) {
+            Frame frame = physicalMemory.get(hand);
+            hand = (hand + 1) % total;
+
+            if (ReplacementAlgorithm.isExcluded(excludeFrames, frame.getId())) {
+                continue;
+            }
+            if (!frame.isOccupied() || frame.getOwnerProcessId() == null) {
+                return frame.getId();
+            }
+            if (excludeProcessId != null && excludeProcessId.equals(frame.getOwnerProcessId())) {
+                continue;
+            }
+
+            PageTable pageTable = processPageTables.get(frame.getOwnerProcessId());
+            int pagina = frame.getOwnerPage();
+            if (!pageTable.isReferenced(pagina) && pageTable.isModified(pagina) == clearing) {
+                return frame.getId();
+            }
+            if (clearing) {
+                pageTable.setReferenced(pagina, false);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void onPageLoaded(String processId, int pageNumber, int frameId) {
+    }
+
+    @Override
+    public void onPageAccess(String processId, int pageNumber, int frameId) {
+    }
+
+    @Override
+    public void onPageUnloaded(String processId, int pageNumber, int frameId) {
+    }
+
+    @Override
+    public String getName() {
+        return "ESC";
+    }
+}
@@ -3,6 +3,7 @@ import java.util.LinkedList;
 import java.util.Queue;
 import memory.Frame;
 import memory.PageTable;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 
@@ -15,18 +16,14 @@ public class FIFO implements ReplacementAlgorithm {
     }
 
     @Override
-    public Integer chooseVictimFrame(List<Frame> physicalMemory, Map<String, PageTable> processPageTables, String excludeProcessId) {
+    public Integer chooseVictimFrame(List<Frame> physicalMemory, Map<String, PageTable> processPageTables,
+                                     String excludeProcessId, BitSet excludeFrames) {
         for (Integer frameId : frameQueue) {
             // el frame pertenece al proceso excluido?
-            boolean belongsToExcluded = false;
-            if (excludeProcessId != null) {
-                PageTable pt = processPageTables.get(excludeProcessId);
-                if (pt != null && pt.findPageInFrame(frameId) != null) {
-                    belongsToExcluded = true;
-                }
-            }
+            boolean belongsToExcluded = excludeProcessId != null &&
+                excludeProcessId.equals(physicalMemory.get(frameId).getOwnerProcessId());
             
-            if (!belongsToExcluded) {
+            if (!belongsToExcluded && !ReplacementAlgorithm.isExcluded(excludeFrames, frameId)) {
                 return frameId;
             }
         }
@@ -46,7 +43,7 @@ public class FIFO implements ReplacementAlgorithm {
     }
 
     @Override
-    public void onPageAccess(String processId, int pageNumber) {
+    public void onPageAccess(String processId, int pageNumber, int frameId) {
     }
   
     @Override
@@ -0,0 +1,85 @@
+package memory.algoritmos;
+import java.util.Arrays;
+
+/**
+ * Varias listas doblemente enlazadas de frames sobre arreglos indexados por
+ * id de frame, como la de LRU. Cada frame está en a lo sumo una lista; la
+ * cabeza de cada lista es el más viejo y la cola el más reciente. Todas las
+ * operaciones son O(1) y no crean objetos (salvo al crecer los arreglos).
+ */
+final class FrameLists {
+    static final int NONE = -1;
+
+    private int[] prev = new int[0];
+    private int[] next = new int[0];
+    private int[] owner = new int[0];   // lista del frame, o NONE
+    private final int[] head;
+    private final int[] tail;
+    private final int[] size;
+
+    FrameLists(int lists) {
+        head = new int[lists];
+        tail = new int[lists];
+        size = new int[lists];
+        Arrays.fill(head, NONE);
+        Arrays.fill(tail, NONE);
+    }
+
+    private void ensureCapacity(int frameId) {
+        if (frameId < owner.length) {
+            return;
+        }
+        int anterior = owner.length;
+        int capacidad = Math.max(frameId + 1, anterior * 2);
+        prev = Arrays.copyOf(prev, capacidad);
+        next = Arrays.copyOf(next, capacidad);
+        owner = Arrays.copyOf(owner, capacidad);
+        Arrays.fill(owner, anterior, capacidad, NONE);
+    }
+
+    // Lista en la que está el frame, o NONE
+    int listOf(int frameId) {
+        return frameId < owner.length ? owner[frameId] : NONE;
+    }
+
+    int head(int list) { return head[list]; }
+    int next(int frameId) { return next[frameId]; }
+    int size(int list) { return size[list]; }
+
+    void remove(int frameId) {
+        int list = listOf(frameId);
+        if (list == NONE) {
+            return;
+        }
+        int p = prev[frameId];
+        int n = next[frameId];
+        if (p != NONE) {
+            next[p] = n;
+        } else {
+            head[list] = n;
+        }
+        if (n != NONE) {
+            prev[n] = p;
+        } else {
+            tail[list] = p;
+        }
+        owner[frameId] = NONE;
+        size[list]--;
+    }
+
+    // Saca el frame de donde esté y lo pone como el más reciente de 'list'
+    void addLast(int list, int frameId) {
+        ensureCapacity(frameId);
+        remove(frameId);
+        prev[frameId] = tail[list];
+        next[frameId] = NONE;
+        if (tail[list] != NONE) {
+            next[tail[list]] = frameId;
+        } else {
+            head[list] = frameId;
+        }
+        tail[list] = frameId;
+        owner[frameId] = list;
+        size[list]++;
+    }
+}
@@ -1,78 +1,127 @@
 package memory.algoritmos;
 import memory.Frame;
 import memory.PageTable;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
 
+/**
+ * LRU con una lista doblemente enlazada de frames ordenada por último uso,
+ * guardada en arreglos indexados por id de frame (sin objetos ni claves
+ * String). La cabeza es el menos usado recientemente y la cola el más
+ * reciente: cargar o acceder mueve el frame a la cola y la víctima es la
+ * cabeza, todo en O(1).
+ */
 public class LRU implements ReplacementAlgorithm {
-    private final Map<String, Long> accessTime;
-    private long currentTime;
+    private static final int NONE = -1;
+
+    private int[] prev;
+    private int[] next;
+    private boolean[] linked;
+    private int head;
+    private int tail;
+    private int size;
 
     public LRU() {
-        this.accessTime = new HashMap<>();
-        this.currentTime = 0L;
+        this.prev = new int[0];
+        this.next = new int[0];
+        this.linked = new boolean[0];
+        this.head = NONE;
+        this.tail = NONE;
+        this.size = 0;
     }
 
-    private String key(String processId, int pageNumber) {
-        return processId + ":" + pageNumber;
+    // Los frames se conocen recién al cargarse: los arreglos crecen a demanda
+    private void ensureCapacity(int frameId) {
+        if (frameId < linked.length) {
+            return;
+        }
+        int capacidad = Math.max(frameId + 1, linked.length * 2);
+        prev = Arrays.copyOf(prev, capacidad);
+        next = Arrays.copyOf(next, capacidad);
+        linked = Arrays.copyOf(linked, capacidad);
     }
 
-    @Override
-    public Integer chooseVictimFrame(List<Frame> physicalMemory, Map<String, PageTable> processPageTables, String excludeProcessId) {
-        Integer victim = null;
-        long oldestTime = Long.MAX_VALUE;
-
-        for (Frame frame : physicalMemory) {
-            if (!frame.isOccupied()) {
-                return frame.getId();
-            }
+    private void unlink(int frameId) {
+        int p = prev[frameId];
+        int n = next[frameId];
+        if (p != NONE) {
+            next[p] = n;
+        } else {
+            head = n;
+        }
+        if (n != NONE) {
+            prev[n] = p;
+        } else {
+            tail = p;
+        }
+        linked[frameId] = false;
+        size--;
+    }
 
-            String ownerProcess = null;
-            Integer ownerPage = null;
-            for (Map.Entry<String, PageTable> entry : processPageTables.entrySet()) {
-                Integer pageInFrame = entry.getValue().findPageInFrame(frame.getId());
-                if (pageInFrame != null) {
-                    ownerProcess = entry.getKey();
-                    ownerPage = pageInFrame;
-                    break;
-                }
-            }
+    private void linkLast(int frameId) {
+        prev[frameId] = tail;
+        next[frameId] = NONE;
+        if (tail != NONE) {
+            next[tail] = frameId;
+        } else {
+            head = frameId;
+        }
+        tail = frameId;
+        linked[frameId] = true;
+        size++;
+    }
 
-            if (ownerProcess == null || ownerPage == null) {
-                return frame.getId();
+    private void touch(int frameId) {
+        ensureCapacity(frameId);
+        if (linked[frameId]) {
+            if (frameId == tail) {
+                return;
             }
+            unlink(frameId);
+        }
+        linkLast(frameId);
+    }
 
-            if (excludeProcessId != null && ownerProcess.equals(excludeProcessId)) {
-                continue;
+    @Override
+    public Integer chooseVictimFrame(List<Frame> physicalMemory, Map<String, PageTable> processPageTables,
+                                     String excludeProcessId, BitSet excludeFrames) {
+        // Con frames libres no hace falta víctima (el MemoryManager no llega acá en ese caso)
+        if (size < physicalMemory.size()) {
+            for (Frame frame : physicalMemory) {
+                if (!frame.isOccupied() || frame.getOwnerProcessId() == null) {
+                    return frame.getId();
+                }
             }
+        }
 
-            long lastAccess = accessTime.getOrDefault(key(ownerProcess, ownerPage), 0L);
-
-            if (victim == null || lastAccess < oldestTime) {
-                victim = frame.getId();
-                oldestTime = lastAccess;
+        // Desde el menos reciente, salteando los frames del proceso excluido
+        for (int f = head; f != NONE; f = next[f]) {
+            Frame frame = physicalMemory.get(f);
+            if ((excludeProcessId == null || !excludeProcessId.equals(frame.getOwnerProcessId())) &&
+                !ReplacementAlgorithm.isExcluded(excludeFrames, f)) {
+                return f;
             }
         }
-
-        return victim;
+        return null;
     }
 
     @Override
     public void onPageLoaded(String processId, int pageNumber, int frameId) {
-        currentTime++;
-        accessTime.put(key(processId, pageNumber), currentTime);
+        touch(frameId);
     }
 
     @Override
-    public void onPageAccess(String processId, int pageNumber) {
-        currentTime++;
-        accessTime.put(key(processId, pageNumber), currentTime);
+    public void onPageAccess(String processId, int pageNumber, int frameId) {
+        touch(frameId);
     }
 
     @Override
     public void onPageUnloaded(String processId, int pageNumber, int frameId) {
-        accessTime.remove(key(processId, pageNumber));
+        if (frameId < linked.length && linked[frameId]) {
+            unlink(frameId);
+        }
     }
 
     @Override
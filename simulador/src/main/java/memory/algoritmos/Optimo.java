@@ -3,21 +3,126 @@ package memory.algoritmos;
 import memory.Frame;
 import memory.PageTable;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 
 
+/**
+ * Algoritmo óptimo de Belady: expulsa la página cuyo próximo uso está más
+ * lejos en la secuencia futura de su proceso.
+ *
+ * La secuencia no se recorre en cada consulta. Por proceso se precalculan,
+ * para cada página, las posiciones donde aparece (con un cursor a la próxima
+ * sin consumir) y un árbol de Fenwick que cuenta las posiciones ya
+ * consumidas. La distancia de una página es su próxima posición menos las
+ * consumidas antes de ella, que es exactamente su índice en la secuencia
+ * restante: consultar y consumir cuestan O(log n).
+ */
 public class Optimo implements ReplacementAlgorithm {
 
-	private final Map<String, List<Integer>> futureByProcess = new HashMap<>();
+	private final Map<String, FutureIndex> futureByProcess = new HashMap<>();
+
+	/**
+	 * Índice de la secuencia futura de un proceso. Las posiciones de cada
+	 * página están agrupadas en 'positions' (las de pages[k] van de start[k]
+	 * a start[k + 1]).
+	 */
+	private static final class FutureIndex {
+		private final int[] pages;      // páginas distintas, ordenadas
+		private final int[] start;
+		private final int[] positions;
+		private final int[] cursor;     // próxima posición sin consumir de cada página
+		private final int[] consumed;   // Fenwick sobre las posiciones consumidas
+
+		FutureIndex(List<Integer> sequence) {
+			int n = sequence.size();
+			int[] seq = new int[n];
+			int validas = 0;
+			for (int i = 0; i < n; i++) {
+				Integer page = sequence.get(i);
+				// Un nulo o negativo ocupa su lugar pero nunca coincide con una página
+				seq[i] = page != null ? page : -1;
+				if (seq[i] >= 0) {
+					validas++;
+				}
+			}
+
+			int[] ordenadas = new int[validas];
+			int j = 0;
+			for (int page : seq) {
+				if (page >= 0) {
+					ordenadas[j++] = page;
+				}
+			}
+			Arrays.sort(ordenadas);
+			int distintas = 0;
+			for (int i = 0; i < ordenadas.length; i++) {
+				if (i == 0 || ordenadas[i] != ordenadas[i - 1]) {
+					ordenadas[distintas++] = ordenadas[i];
+				}
+			}
+			pages = Arrays.copyOf(ordenadas, distintas);
+
+			start = new int[distintas + 1];
+			for (int page : seq) {
+				if (page >= 0) {
+					start[Arrays.binarySearch(pages, page) + 1]++;
+				}
+			}
+			for (int k = 0; k < distintas; k++) {
+				start[k + 1] += start[k];
+			}
+			cursor = Arrays.copyOf(start, distintas);
+			positions = new int[validas];
+			int[] llenado = Arrays.copyOf(start, distintas);
+			for (int i = 0; i < n; i++) {
+				if (seq[i] >= 0) {
+					positions[llenado[Arrays.binarySearch(pages, seq[i])]++] = i;
+				}
+			}
+			consumed = new int[n + 1];
+		}
+
+		// Índice de la página en la secuencia restante, o MAX_VALUE si ya no aparece
+		int nextUseDistance(int pageNumber) {
+			int k = Arrays.binarySearch(pages, pageNumber);
+			if (k < 0 || cursor[k] == start[k + 1]) {
+				return Integer.MAX_VALUE;
+			}
+			int pos = positions[cursor[k]];
+			return pos - consumedBefore(pos);
+		}
+
+		// Consume la primera aparición restante de la página
+		void consume(int pageNumber) {
+			int k = Arrays.binarySearch(pages, pageNumber);
+			if (k < 0 || cursor[k] == start[k + 1]) {
+				return;
+			}
+			int pos = positions[cursor[k]++];
+			for (int i = pos + 1; i < consumed.length; i += i & -i) {
+				consumed[i]++;
+			}
+		}
+
+		// Posiciones consumidas en [0, pos)
+		private int consumedBefore(int pos) {
+			int total = 0;
+			for (int i = pos; i > 0; i -= i & -i) {
+				total += consumed[i];
+			}
+			return total;
+		}
+	}
 
 	public void setFutureAccessSequence(String processId, List<Integer> sequence) {
 		if (sequence == null) {
 			futureByProcess.remove(processId);
 		} else {
-			futureByProcess.put(processId, new ArrayList<>(sequence));
+			futureByProcess.put(processId, new FutureIndex(sequence));
 		}
 	}
 
@@ -31,40 +136,29 @@ public class Optimo implements ReplacementAlgorithm {
 	}
 
 	private int nextUseDistance(String processId, int pageNumber) {
-		List<Integer> seq = futureByProcess.get(processId);
-		if (seq == null || seq.isEmpty()) {
+		FutureIndex future = futureByProcess.get(processId);
+		if (future == null) {
 			return Integer.MAX_VALUE;
 		}
-		for (int i = 0; i < seq.size(); i++) {
-			if (seq.get(i) == pageNumber) {
-				return i; 
-			}
-		}
-		return Integer.MAX_VALUE; 
-
+		return future.nextUseDistance(pageNumber);
 	}
-	private void consumeOneOccurrence(String processId, int pageNumber) {
-		List<Integer> seq = futureByProcess.get(processId);
-		if (seq == null || seq.isEmpty())
-			return;
 
-		// Buscar y eliminar la PRIMERA ocurrencia de pageNumber
-		for (int i = 0; i < seq.size(); i++) {
-			if (seq.get(i).equals(pageNumber)) {
-				seq.remove(i);
-				break;
-			}
+	private void consumeOneOccurrence(String processId, int pageNumber) {
+		FutureIndex future = futureByProcess.get(processId);
+		if (future != null) {
+			future.consume(pageNumber);
 		}
 	}
 
 	@Override
-	public Integer chooseVictimFrame(List<Frame> physicalMemory, Map<String, PageTable> processPageTables, String excludeProcessId) {
+	public Integer chooseVictimFrame(List<Frame> physicalMemory, Map<String, PageTable> processPageTables,
+			String excludeProcessId, BitSet excludeFrames) {
 		if (physicalMemory == null || physicalMemory.isEmpty())
 			return null;
 
 		// recuerden chicos que no se requiere víctima
 		for (Frame frame : physicalMemory) {
-			if (!frame.isOccupied()) {
+			if (!frame.isOccupied() && !ReplacementAlgorithm.isExcluded(excludeFrames, frame.getId())) {
 				return frame.getId();
 			}
 		}
@@ -73,24 +167,19 @@ public class Optimo implements ReplacementAlgorithm {
 		int farthestNextUse = -1; 
 
 		for (Frame frame : physicalMemory) {
-			String ownerPid = null;
-			Integer ownerPage = null;
-			for (Map.Entry<String, PageTable> entry : processPageTables.entrySet()) {
-				Integer pageInFrame = entry.getValue().findPageInFrame(frame.getId());
-				if (pageInFrame != null) {
-					ownerPid = entry.getKey();
-					ownerPage = pageInFrame;
-					break;
-				}
-			}
+			String ownerPid = frame.getOwnerProcessId();
+			int ownerPage = frame.getOwnerPage();
 
-			if (ownerPid == null || ownerPage == null) {
+			if (ownerPid == null) {
 				return frame.getId();
 			}
 
 			if (excludeProcessId != null && ownerPid.equals(excludeProcessId)) {
 				continue;
 			}
+			if (ReplacementAlgorithm.isExcluded(excludeFrames, frame.getId())) {
+				continue;
+			}
 
 			int dist = nextUseDistance(ownerPid, ownerPage);
 			if (victimFrame == null || dist > farthestNextUse) {
@@ -108,10 +197,15 @@ public class Optimo implements ReplacementAlgorithm {
 	}
 
 	@Override
-	public void onPageAccess(String processId, int pageNumber) {
+	public void onPageAccess(String processId, int pageNumber, int frameId) {
 		consumeOneOccurrence(processId, pageNumber);
 	}
 
+	// No consume: la referencia llega después, como un acceso
+	@Override
+	public void onPagePrefetched(String processId, int pageNumber, int frameId) {
+	}
+
 	@Override
 	public void onPageUnloaded(String processId, int pageNumber, int frameId) {
 	}
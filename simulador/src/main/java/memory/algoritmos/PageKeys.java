@@ -0,0 +1,21 @@
+package memory.algoritmos;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Claves primitivas para páginas que ya no están en memoria (listas
+ * fantasma): cada proceso recibe un número la primera vez que aparece y la
+ * clave de (proceso, página) es un long con ambos.
+ */
+final class PageKeys {
+    private final Map<String, Integer> processIds = new HashMap<>();
+
+    long key(String processId, int pageNumber) {
+        Integer id = processIds.get(processId);
+        if (id == null) {
+            id = processIds.size();
+            processIds.put(processId, id);
+        }
+        return ((long) id << 32) | (pageNumber & 0xFFFFFFFFL);
+    }
+}
@@ -2,18 +2,42 @@ package memory.algoritmos;
 
 import memory.Frame;
 import memory.PageTable;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 
 public interface ReplacementAlgorithm {
     
-    Integer chooseVictimFrame(List<Frame> physicalMemory, 
+    // Cada Frame de physicalMemory conoce su dueño (getOwnerProcessId /
+    // getOwnerPage); las tablas de páginas quedan para consultas por proceso.
+    default Integer chooseVictimFrame(List<Frame> physicalMemory, 
         Map<String, PageTable> processPageTables,
-        String excludeProcessId);
+        String excludeProcessId) {
+        return chooseVictimFrame(physicalMemory, processPageTables, excludeProcessId, null);
+    }
+
+    // Los frames de excludeFrames (null: ninguno) no se eligen ni se tocan:
+    // no pierden su bit R ni mueven la historia del algoritmo
+    Integer chooseVictimFrame(List<Frame> physicalMemory,
+        Map<String, PageTable> processPageTables,
+        String excludeProcessId, BitSet excludeFrames);
+
+    static boolean isExcluded(BitSet excludeFrames, int frameId) {
+        return excludeFrames != null && excludeFrames.get(frameId);
+    }
+    
+    // Fallo de página, antes de elegir víctima: la página que va a entrar
+    default void onPageFault(String processId, int pageNumber) {
+    }
     
     void onPageLoaded(String processId, int pageNumber, int frameId);
 
-    void onPageAccess(String processId, int pageNumber);
+    // Carga por lectura anticipada: entra a memoria pero todavía no es una referencia
+    default void onPagePrefetched(String processId, int pageNumber, int frameId) {
+        onPageLoaded(processId, pageNumber, frameId);
+    }
+
+    void onPageAccess(String processId, int pageNumber, int frameId);
     
     void onPageUnloaded(String processId, int pageNumber, int frameId);
     
@@ -0,0 +1,126 @@
+package memory.algoritmos;
+import memory.Frame;
+import memory.PageTable;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 2Q (Johnson y Shasha). Una página nueva entra a A1in, una FIFO chica; si
+ * sale de ahí sin volver a usarse queda recordada en la fantasma A1out. Solo
+ * un fallo que cae en A1out (la página volvió a pedirse) la manda a Am, la
+ * LRU principal. Un barrido pasa por A1in y A1out sin tocar Am.
+ *
+ * Kin y Kout son fracciones de la cantidad de frames (por defecto 25% y
+ * 50%, los valores del artículo). Todas las operaciones son O(1).
+ */
+public class TwoQ implements ReplacementAlgorithm {
+    private static final int A1IN = 0;
+    private static final int AM = 1;
+
+    private final double kinFraction;
+    private final double koutFraction;
+    private final FrameLists resident = new FrameLists(2);
+    private final LinkedHashSet<Long> a1out = new LinkedHashSet<>();
+    private final PageKeys keys = new PageKeys();
+
+    private int kin = 1;
+    private int kout = 1;
+
+    private long pendingKey = -1;
+    private int pendingList = A1IN;
+    private int pendingVictim = FrameLists.NONE;
+
+    public TwoQ() {
+        this(0.25, 0.5);
+    }
+
+    public TwoQ(double kinFraction, double koutFraction) {
+        this.kinFraction = kinFraction;
+        this.koutFraction = koutFraction;
+    }
+
+    @Override
+    public void onPageFault(String processId, int pageNumber) {
+        long key = keys.key(processId, pageNumber);
+        pendingKey = key;
+        pendingList = a1out.remove(key) ? AM : A1IN;
+    }
+
+    @Override
+    public Integer chooseVictimFrame(List<Frame> physicalMemory, Map<String, PageTable> processPageTables,
+                                     String excludeProcessId, BitSet excludeFrames) {
+        int capacity = physicalMemory.size();
+        kin = Math.max(1, (int) (capacity * kinFraction));
+        kout = Math.max(1, (int) (capacity * koutFraction));
+        if (resident.size(A1IN) + resident.size(AM) < capacity) {
+            for (Frame frame : physicalMemory) {
+                if (!frame.isOccupied() || frame.getOwnerProcessId() == null) {
+                    return frame.getId();
+                }
+            }
+        }
+
+        boolean desdeA1in = resident.size(A1IN) > kin || resident.size(AM) == 0;
+        int victima = oldest(desdeA1in ? A1IN : AM, physicalMemory, excludeProcessId, excludeFrames);
+        if (victima == FrameLists.NONE) {
+            victima = oldest(desdeA1in ? AM : A1IN, physicalMemory, excludeProcessId, excludeFrames);
+        }
+        if (victima == FrameLists.NONE) {
+            return null;
+        }
+        pendingVictim = victima;
+        return victima;
+    }
+
+    private int oldest(int list, List<Frame> physicalMemory, String excludeProcessId, BitSet excludeFrames) {
+        for (int f = resident.head(list); f != FrameLists.NONE; f = resident.next(f)) {
+            if ((excludeProcessId == null || !excludeProcessId.equals(physicalMemory.get(f).getOwnerProcessId())) &&
+                !ReplacementAlgorithm.isExcluded(excludeFrames, f)) {
+                return f;
+            }
+        }
+        return FrameLists.NONE;
+    }
+
+    @Override
+    public void onPageLoaded(String processId, int pageNumber, int frameId) {
+        boolean esElFallo = pendingKey == keys.key(processId, pageNumber);
+        resident.addLast(esElFallo ? pendingList : A1IN, frameId);
+        pendingKey = -1;
+    }
+
+    @Override
+    public void onPageAccess(String processId, int pageNumber, int frameId) {
+        // Un acierto en A1in no la promueve: sigue su FIFO (evita premiar ráfagas correlacionadas)
+        if (resident.listOf(frameId) != A1IN) {
+            resident.addLast(AM, frameId);
+        }
+    }
+
+    @Override
+    public void onPageUnloaded(String processId, int pageNumber, int frameId) {
+        int list = resident.listOf(frameId);
+        resident.remove(frameId);
+        if (frameId != pendingVictim) {
+            return;
+        }
+        pendingVictim = FrameLists.NONE;
+        // Solo lo que sale de A1in se recuerda
+        if (list == A1IN) {
+            a1out.add(keys.key(processId, pageNumber));
+            while (a1out.size() > kout) {
+                Iterator<Long> it = a1out.iterator();
+                it.next();
+                it.remove();
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "2Q";
+    }
+}
@@ -19,6 +19,11 @@ public class Burst {
         if (time_remaining > 0) time_remaining--;
     }
 
+    // Consume varias unidades de golpe (salto de tiempo del scheduler)
+    public void consumirUnidades(int unidades){
+        time_remaining = Math.max(0, time_remaining - unidades);
+    }
+
     public boolean isFinished(){
         return time_remaining == 0;
     }
@@ -5,8 +5,11 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
+import logging.Log;
+
 public class InputParser {
 
     private final String filePath; // Ruta absoluta del archivo
@@ -51,13 +54,14 @@ public class InputParser {
         String[] partes = linea.trim().split("\\s+");
         Process process;
         List<Integer> pageSequence = null;
+        BitSet pageWrites = new BitSet();
         
         // Buscar SEQ[] en la línea
         int seqIndex = -1;
         for (int i = 0; i < partes.length; i++) {
             if (partes[i].startsWith("SEQ[")) {
                 seqIndex = i;
-                pageSequence = parsePageSequence(partes[i]);
+                pageSequence = parsePageSequence(partes[i], pageWrites);
                 break;
             }
         }
@@ -93,7 +97,12 @@ public class InputParser {
         // Asignar secuencia si existe
         if (pageSequence != null) {
             process.setFuturePageSequence(pageSequence);
-            System.out.println("[InputParser] " + process.getPID() + " cargada con SEQ[] de " + pageSequence.size() + " accesos");
+            if (!pageWrites.isEmpty()) {
+                process.setPageWrites(pageWrites);
+            }
+            if (Log.isDebugEnabled()) {
+                Log.debug("[InputParser] " + process.getPID() + " cargada con SEQ[] de " + pageSequence.size() + " accesos");
+            }
         }
         
         return process;
@@ -132,7 +141,8 @@ public class InputParser {
         return this.list_process;
     }
     
-    private List<Integer> parsePageSequence(String seqString) {
+    // Una referencia con sufijo w (SEQ[0,3w,1]) es una escritura: se marca en escrituras
+    private List<Integer> parsePageSequence(String seqString, BitSet escrituras) {
         try {
             if (!seqString.startsWith("SEQ[") || !seqString.endsWith("]")) {
                 System.err.println("[InputParser] Formato SEQ[] inválido: " + seqString);
@@ -149,7 +159,12 @@ public class InputParser {
             List<Integer> sequence = new ArrayList<>();
             
             for (String pageStr : pageStrings) {
-                sequence.add(Integer.parseInt(pageStr.trim()));
+                String ref = pageStr.trim();
+                if (ref.endsWith("w") || ref.endsWith("W")) {
+                    escrituras.set(sequence.size());
+                    ref = ref.substring(0, ref.length() - 1);
+                }
+                sequence.add(Integer.parseInt(ref));
             }
             
             return sequence;
@@ -1,6 +1,10 @@
 package process;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.function.IntSupplier;
+
+import logging.Log;
 
 public class Process {
     private String PID; 
@@ -14,8 +18,13 @@ public class Process {
     private int t_start = -1;
     private int t_finish;
     private int t_wait;
+    // Espera perezosa: ciclo en que entró a la cola READY (-1 si no está en ella)
+    private int readySince = -1;
+    private IntSupplier waitClock;
     private int cpu_usage;
     private List<Integer> futurePageSequence; // Secuencia SEQ[] para algoritmo Óptimo
+    private int pageCursor; // Próxima referencia de la SEQ[] (paginación por demanda)
+    private BitSet pageWrites; // Referencias de la SEQ[] que escriben (sufijo w); null si ninguna
 
     public Process(String PID, int t_arrival, ArrayList<Burst> bursts, int pages) {
         this.PID = PID;
@@ -39,6 +48,25 @@ public class Process {
         this.futurePageSequence = null;
     }
     
+    /**
+     * Copia en estado inicial (NEW, sin tiempos ni ráfagas consumidas), para
+     * simular la misma carga varias veces.
+     */
+    public Process copy() {
+        ArrayList<Burst> rafagas = new ArrayList<>(bursts.size());
+        for (Burst b : bursts) {
+            rafagas.add(new Burst(b.getResource(), b.getTime_total()));
+        }
+        Process copia = new Process(PID, t_arrival, rafagas, priority, pages);
+        if (futurePageSequence != null) {
+            copia.setFuturePageSequence(new ArrayList<>(futurePageSequence));
+        }
+        if (pageWrites != null) {
+            copia.setPageWrites((BitSet) pageWrites.clone());
+        }
+        return copia;
+    }
+    
     public Burst getBurst(){
         return this.bursts.get(this.ind_burst);
     }
@@ -48,7 +76,9 @@ public class Process {
         
         if (isFinished()) {
             this.state = ProcessState.TERMINATED;
-            System.out.println("[Process] " + PID + " - ¡PROCESO COMPLETADO!");
+            if (Log.isDebugEnabled()) {
+                Log.debug("[Process] " + PID + " - ¡PROCESO COMPLETADO!");
+            }
         } else {
             if (isCurrentBurstCPU()) {
                 this.state = ProcessState.READY;
@@ -104,8 +134,17 @@ public class Process {
         return t_finish;
     }
 
+    /**
+     * Espera acumulada, incluyendo el tramo en curso si el proceso está en
+     * la cola READY en este momento.
+     */
     public int getT_wait() {
-        return t_wait;
+        int desde = readySince;
+        IntSupplier reloj = waitClock;
+        if (desde < 0 || reloj == null) {
+            return t_wait;
+        }
+        return t_wait + Math.max(0, reloj.getAsInt() - desde);
     }
 
     public int getCpu_usage() {
@@ -131,6 +170,31 @@ public class Process {
         this.t_wait = t_wait;
     }
 
+    /**
+     * Marca la entrada a la cola READY en el ciclo indicado. El reloj se usa
+     * para que getT_wait() incluya la espera pendiente.
+     */
+    public void startWaiting(int ciclo, IntSupplier reloj) {
+        this.waitClock = reloj;
+        if (readySince < 0) {
+            readySince = ciclo;
+        }
+    }
+
+    /**
+     * Sale de la cola READY para ejecutar: suma los ciclos esperados.
+     */
+    public void stopWaiting(int ciclo) {
+        if (readySince >= 0) {
+            t_wait += ciclo - readySince;
+            readySince = -1;
+        }
+    }
+
+    public boolean isWaiting() {
+        return readySince >= 0;
+    }
+
     @Override
     public String toString() {
 
@@ -160,6 +224,36 @@ public class Process {
 
     public void setFuturePageSequence(List<Integer> futurePageSequence) {
         this.futurePageSequence = futurePageSequence;
+        this.pageCursor = 0;
+    }
+
+    // Página que toca la próxima unidad de CPU, o null si no hay SEQ[] o ya se recorrió
+    public Integer getNextPageReference() {
+        if (futurePageSequence == null || pageCursor >= futurePageSequence.size()) {
+            return null;
+        }
+        return futurePageSequence.get(pageCursor);
+    }
+
+    public void advancePageReference() {
+        pageCursor++;
+    }
+
+    public BitSet getPageWrites() {
+        return pageWrites;
+    }
+
+    public void setPageWrites(BitSet pageWrites) {
+        this.pageWrites = pageWrites;
+    }
+
+    // La referencia i de la SEQ[] escribe la página (la deja modificada)
+    public boolean isPageReferenceWrite(int index) {
+        return pageWrites != null && pageWrites.get(index);
+    }
+
+    public boolean isNextPageReferenceWrite() {
+        return isPageReferenceWrite(pageCursor);
     }
 
 
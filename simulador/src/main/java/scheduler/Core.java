@@ -0,0 +1,77 @@
+package scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import scheduler.algoritmos.SchedulingPolicy;
+import threads.ProcessThread;
+
+/**
+ * Un núcleo de CPU simulado: su propia cola READY (la política), el hilo
+ * que está ejecutando y sus métricas. El Scheduler maneja el estado; desde
+ * afuera solo se consulta.
+ */
+public class Core {
+    private final int id;
+    SchedulingPolicy policy;
+    ProcessThread currentThread = null;
+    int currentQuantumUsed = 0;
+    String[] cycleExecutionSnapshot = null;
+
+    private final List<GanttSegment> gantt = new ArrayList<>();
+    private long busyCycles = 0;
+    private int dispatches = 0;
+    private int migrationsIn = 0;
+
+    Core(int id, SchedulingPolicy policy) {
+        this.id = id;
+        this.policy = policy;
+    }
+
+    void recordGantt(String pid, int desde, int ciclos) {
+        if (!GanttSegment.IDLE.equals(pid)) {
+            busyCycles += ciclos;
+        }
+        if (!gantt.isEmpty()) {
+            GanttSegment last = gantt.get(gantt.size() - 1);
+            if (last.getPid().equals(pid) && last.getEnd() == desde) {
+                last.extend(desde + ciclos);
+                return;
+            }
+        }
+        gantt.add(new GanttSegment(pid, desde, desde + ciclos));
+    }
+
+    void countDispatch(boolean migrated) {
+        dispatches++;
+        if (migrated) {
+            migrationsIn++;
+        }
+    }
+
+    public int getId() { return id; }
+
+    public SchedulingPolicy getPolicy() { return policy; }
+
+    public ProcessThread getCurrentThread() { return currentThread; }
+
+    public List<GanttSegment> getGanttSegments() {
+        return new ArrayList<>(gantt);
+    }
+
+    public long getBusyCycles() { return busyCycles; }
+
+    public int getDispatches() { return dispatches; }
+
+    // Despachos de procesos que venían de ejecutar en otro núcleo
+    public int getMigrationsIn() { return migrationsIn; }
+
+    public double getUtilization(int totalCycles) {
+        return totalCycles == 0 ? 0.0 : (double) busyCycles / totalCycles;
+    }
+
+    // Carga para el balanceo: encolados más el que está en CPU
+    int load() {
+        return policy.size() + (currentThread != null ? 1 : 0);
+    }
+}
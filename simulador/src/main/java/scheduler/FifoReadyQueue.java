@@ -0,0 +1,61 @@
+package scheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import threads.ProcessThread;
+
+/**
+ * Cola READY en orden de llegada (FCFS y RR).
+ */
+public class FifoReadyQueue implements ReadyQueue {
+    private final ArrayDeque<ProcessThread> queue = new ArrayDeque<>();
+
+    @Override
+    public void add(ProcessThread thread) {
+        queue.addLast(thread);
+    }
+
+    @Override
+    public void addFirst(ProcessThread thread) {
+        queue.addFirst(thread);
+    }
+
+    @Override
+    public ProcessThread peek() {
+        return queue.peekFirst();
+    }
+
+    @Override
+    public ProcessThread poll() {
+        return queue.pollFirst();
+    }
+
+    @Override
+    public boolean remove(ProcessThread thread) {
+        return queue.remove(thread);
+    }
+
+    @Override
+    public boolean contains(ProcessThread thread) {
+        return queue.contains(thread);
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public List<ProcessThread> snapshot() {
+        return new ArrayList<>(queue);
+    }
+
+    @Override
+    public Iterator<ProcessThread> iterator() {
+        return Collections.unmodifiableCollection(queue).iterator();
+    }
+}
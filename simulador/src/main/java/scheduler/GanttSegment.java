@@ -0,0 +1,34 @@
+package scheduler;
+
+/**
+ * Tramo contiguo del diagrama de Gantt: el proceso pid ocupó la CPU
+ * desde el ciclo start (inclusive) hasta end (exclusivo).
+ */
+public class GanttSegment {
+    public static final String IDLE = "IDLE";
+
+    private final String pid;
+    private final int start;
+    private int end;
+
+    public GanttSegment(String pid, int start, int end) {
+        this.pid = pid;
+        this.start = start;
+        this.end = end;
+    }
+
+    public String getPid() { return pid; }
+    public int getStart() { return start; }
+    public int getEnd() { return end; }
+    public int getLength() { return end - start; }
+    public boolean isIdle() { return IDLE.equals(pid); }
+
+    void extend(int newEnd) {
+        this.end = newEnd;
+    }
+
+    @Override
+    public String toString() {
+        return pid + "[" + start + "," + end + ")";
+    }
+}
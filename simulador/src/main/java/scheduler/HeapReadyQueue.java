@@ -0,0 +1,205 @@
+package scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.ToIntFunction;
+
+import threads.ProcessThread;
+
+/**
+ * Cola READY sobre un heap binario indexado, ordenada por una clave entera
+ * (ráfaga restante para SJF, prioridad para PRIORITY) y, a igual clave, por
+ * orden de llegada a la cola. peek() es O(1); add, poll y remove son O(log n).
+ *
+ * La clave se evalúa al encolar: mientras un hilo está en la cola su proceso
+ * no ejecuta, así que ni la ráfaga restante ni la prioridad cambian.
+ *
+ * Cada hilo guarda su posición en el heap (ProcessThread.getHeapSlot), así
+ * remove y contains no necesitan un mapa; un hilo está en un solo heap a la vez.
+ */
+public class HeapReadyQueue implements ReadyQueue {
+    private final ToIntFunction<ProcessThread> keyFunction;
+
+    private ProcessThread[] heap = new ProcessThread[16];
+    private int[] keys = new int[16];
+    private long[] seqs = new long[16];
+    private int size = 0;
+
+    // Secuencias de desempate: add() crece hacia arriba, addFirst() hacia abajo
+    private long nextSeq = 0;
+    private long frontSeq = -1;
+
+    public HeapReadyQueue(ToIntFunction<ProcessThread> keyFunction) {
+        this.keyFunction = keyFunction;
+    }
+
+    @Override
+    public void add(ProcessThread thread) {
+        insert(thread, nextSeq++);
+    }
+
+    @Override
+    public void addFirst(ProcessThread thread) {
+        insert(thread, frontSeq--);
+    }
+
+    @Override
+    public ProcessThread peek() {
+        return size == 0 ? null : heap[0];
+    }
+
+    @Override
+    public ProcessThread poll() {
+        if (size == 0) {
+            return null;
+        }
+        ProcessThread top = heap[0];
+        removeAt(0);
+        return top;
+    }
+
+    @Override
+    public boolean remove(ProcessThread thread) {
+        if (!contains(thread)) {
+            return false;
+        }
+        removeAt(thread.getHeapSlot());
+        return true;
+    }
+
+    @Override
+    public boolean contains(ProcessThread thread) {
+        int pos = thread.getHeapSlot();
+        return pos >= 0 && pos < size && heap[pos] == thread;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<ProcessThread> snapshot() {
+        Integer[] orden = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            orden[i] = i;
+        }
+        Arrays.sort(orden, (a, b) -> less(a, b) ? -1 : (less(b, a) ? 1 : 0));
+        List<ProcessThread> result = new ArrayList<>(size);
+        for (Integer i : orden) {
+            result.add(heap[i]);
+        }
+        return result;
+    }
+
+    // Recorre en orden de heap (no de despacho); no admite modificaciones
+    @Override
+    public Iterator<ProcessThread> iterator() {
+        return new Iterator<ProcessThread>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < size;
+            }
+
+            @Override
+            public ProcessThread next() {
+                if (i >= size) {
+                    throw new NoSuchElementException();
+                }
+                return heap[i++];
+            }
+        };
+    }
+
+    private void insert(ProcessThread thread, long seq) {
+        if (contains(thread)) {
+            return;
+        }
+        if (size == heap.length) {
+            int capacity = heap.length * 2;
+            heap = Arrays.copyOf(heap, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            seqs = Arrays.copyOf(seqs, capacity);
+        }
+        heap[size] = thread;
+        keys[size] = keyFunction.applyAsInt(thread);
+        seqs[size] = seq;
+        thread.setHeapSlot(size);
+        siftUp(size++);
+    }
+
+    private void removeAt(int pos) {
+        ProcessThread removed = heap[pos];
+        int last = --size;
+        if (pos != last) {
+            move(last, pos);
+            siftDown(pos);
+            siftUp(pos);
+        }
+        heap[last] = null;
+        removed.setHeapSlot(-1);
+    }
+
+    private boolean less(int i, int j) {
+        if (keys[i] != keys[j]) {
+            return keys[i] < keys[j];
+        }
+        return seqs[i] < seqs[j];
+    }
+
+    private void siftUp(int pos) {
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (!less(pos, parent)) {
+                break;
+            }
+            swap(pos, parent);
+            pos = parent;
+        }
+    }
+
+    private void siftDown(int pos) {
+        while (true) {
+            int left = 2 * pos + 1;
+            if (left >= size) {
+                break;
+            }
+            int child = left;
+            int right = left + 1;
+            if (right < size && less(right, left)) {
+                child = right;
+            }
+            if (!less(child, pos)) {
+                break;
+            }
+            swap(pos, child);
+            pos = child;
+        }
+    }
+
+    private void move(int from, int to) {
+        heap[to] = heap[from];
+        keys[to] = keys[from];
+        seqs[to] = seqs[from];
+        heap[to].setHeapSlot(to);
+    }
+
+    private void swap(int i, int j) {
+        ProcessThread t = heap[i];
+        int k = keys[i];
+        long s = seqs[i];
+        heap[i] = heap[j];
+        keys[i] = keys[j];
+        seqs[i] = seqs[j];
+        heap[j] = t;
+        keys[j] = k;
+        seqs[j] = s;
+        heap[i].setHeapSlot(i);
+        heap[j].setHeapSlot(j);
+    }
+}
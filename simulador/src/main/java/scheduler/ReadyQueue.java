@@ -0,0 +1,35 @@
+package scheduler;
+
+import java.util.List;
+
+import threads.ProcessThread;
+
+/**
+ * Cola READY del scheduler. Cada implementación define en qué orden
+ * salen los hilos; entre iguales se respeta el orden de llegada.
+ */
+public interface ReadyQueue extends Iterable<ProcessThread> {
+
+    // Encola al final: pierde los empates contra los que ya estaban
+    void add(ProcessThread thread);
+
+    // Encola al frente: gana los empates (procesos expulsados por apropiación)
+    void addFirst(ProcessThread thread);
+
+    ProcessThread peek();
+
+    ProcessThread poll();
+
+    boolean remove(ProcessThread thread);
+
+    boolean contains(ProcessThread thread);
+
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // Copia en el orden en que serían despachados
+    List<ProcessThread> snapshot();
+}
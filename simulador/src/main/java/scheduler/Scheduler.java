@@ -3,15 +3,29 @@ package scheduler;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
 
+import logging.Log;
 import memory.MemoryManager;
 import process.Burst;
 import process.BurstResource;
 import process.Process;
 import process.ProcessState;
+import scheduler.algoritmos.FCFSPolicy;
+import scheduler.algoritmos.MLFQPolicy;
+import scheduler.algoritmos.PriorityPolicy;
+import scheduler.algoritmos.RoundRobinPolicy;
+import scheduler.algoritmos.SJFPolicy;
+import scheduler.algoritmos.SchedulingPolicy;
 import synchronization.SyncManager;
 import threads.IOManager;
 import threads.ProcessThread;
@@ -20,39 +34,314 @@ public class Scheduler {
     public enum Algorithm { FCFS, SJF, RR, PRIORITY }
 
     private int tiempoGlobal = 0;
-    private final List<ProcessThread> readyQueue; 
-    private ProcessThread currentThread = null;
+    // La espera en READY se calcula contra este reloj (ver Process.startWaiting)
+    private final IntSupplier waitClock = () -> tiempoGlobal;
+    private final Object readyLock = new Object();
+    // Núcleos simulados; con un solo núcleo el comportamiento es el clásico
+    private final List<Core> cores = new ArrayList<>();
+    private Supplier<SchedulingPolicy> policyFactory;
+    private int migrations = 0;
+    private int steals = 0;
     private IOManager ioManager;
     private MemoryManager memoryManager; 
     private final SyncManager syncManager;
     private Map<String, ProcessThread> delayedIOStart;
-    private final List<Process> futureArrivals = new ArrayList<>();
+    // Hilos creados cuyo proceso no terminó, solo fuera de headless (ahí no se arrancan); protegido por readyLock
+    private final Set<ProcessThread> liveThreads = new LinkedHashSet<>();
+    // Llegadas pendientes ordenadas por t_arrival; a igual llegada, por orden de registro
+    private final PriorityQueue<Arrival> futureArrivals = new PriorityQueue<>();
+    private long arrivalSeq = 0;
 
     private Algorithm currentAlgorithm = Algorithm.FCFS;
     private int quantum = 2;
-    private int currentQuantumUsed = 0;
     private int processesAddedThisCycle = 0;
+    
+    // Headless: la CPU se consume en el hilo del scheduler, sin ProcessThread vivos
+    private boolean headless = false;
+    
+    // Event-driven: saltar directamente al siguiente instante en que algo cambia
+    private boolean eventDriven = false;
+    
+    // Paginación por demanda: cada unidad de CPU toca la siguiente página de la SEQ[]
+    private boolean demandPaging = false;
+    // Procesos cuya próxima unidad ya tiene su página: la cargó el fallo que la pidió
+    private final Set<String> pageFaultServed = new HashSet<>();
+    
+    // Fábrica de hilos para los ProcessThread (virtuales por defecto)
+    private ThreadFactory threadFactory = ProcessThread.virtualThreadFactory();
 
     public Scheduler() {
-        this.readyQueue = Collections.synchronizedList(new LinkedList<>());
-        this.syncManager = SyncManager.getInstance();
-        this.ioManager = new IOManager(this);
+        this(SyncManager.getInstance());
+    }
+
+    public Scheduler(SyncManager syncManager) {
+        this.policyFactory = () -> createPolicy(Algorithm.FCFS);
+        this.cores.add(new Core(0, policyFactory.get()));
+        this.syncManager = syncManager;
+        this.ioManager = new IOManager(this, syncManager);
         this.delayedIOStart = new HashMap<>(); 
-        System.out.println("[Scheduler] Scheduler inicializado");
+        if (Log.isInfoEnabled()) {
+            Log.info("[Scheduler] Scheduler inicializado");
+        }
     }
 
     public void setMemoryManager(MemoryManager mm) {
         this.memoryManager = mm;
         this.ioManager.setMemoryManager(mm);
-        System.out.println("[Scheduler] MemoryManager configurado y pasado a IOManager");
+        if (demandPaging) {
+            mm.setGlobalReplacement(true);
+        }
+        if (Log.isInfoEnabled()) {
+            Log.info("[Scheduler] MemoryManager configurado y pasado a IOManager");
+        }
     }
 
     public void setAlgorithm(Algorithm algo) { 
+        installPolicies(() -> createPolicy(algo));
         this.currentAlgorithm = algo; 
-        System.out.println("[Scheduler] Algoritmo cambiado a: " + algo);
+        if (Log.isInfoEnabled()) {
+            Log.info("[Scheduler] Algoritmo cambiado a: " + algo);
+        }
+    }
+    
+    /**
+     * Instala una política arbitraria. getCurrentAlgorithm() pasa a ser null
+     * si la política no corresponde a ninguno de los algoritmos clásicos.
+     * Una instancia sirve para un solo núcleo; con varios núcleos usar
+     * setPolicyFactory().
+     */
+    public void setPolicy(SchedulingPolicy nueva) {
+        if (cores.size() > 1) {
+            throw new IllegalStateException("Con " + cores.size() + " núcleos use setPolicyFactory()");
+        }
+        synchronized (readyLock) {
+            migrateQueue(cores.get(0), nueva);
+        }
+        this.policyFactory = null;
+        this.currentAlgorithm = null;
+        if (Log.isInfoEnabled()) {
+            Log.info("[Scheduler] Política cambiada a: " + nueva.getName());
+        }
+    }
+    
+    /**
+     * Instala una política nueva por núcleo, creada con la fábrica dada.
+     */
+    public void setPolicyFactory(Supplier<SchedulingPolicy> factory) {
+        installPolicies(factory);
+        this.currentAlgorithm = null;
+        if (Log.isInfoEnabled()) {
+            Log.info("[Scheduler] Política cambiada a: " + cores.get(0).policy.getName() +
+                     " (" + cores.size() + " núcleo(s))");
+        }
+    }
+    
+    // Política del núcleo 0 (la única en modo monoprocesador)
+    public SchedulingPolicy getPolicy() {
+        return cores.get(0).policy;
+    }
+    
+    private void installPolicies(Supplier<SchedulingPolicy> factory) {
+        synchronized (readyLock) {
+            for (Core core : cores) {
+                migrateQueue(core, factory.get());
+            }
+        }
+        this.policyFactory = factory;
+    }
+    
+    // Los procesos que ya estaban en READY pasan a la cola de la nueva política
+    private void migrateQueue(Core core, SchedulingPolicy nueva) {
+        if (core.policy != null) {
+            for (ProcessThread thread : core.policy.snapshot()) {
+                nueva.enqueue(thread);
+            }
+        }
+        core.policy = nueva;
+    }
+    
+    /**
+     * Configura n núcleos, cada uno con su cola READY. Debe llamarse antes de
+     * que haya procesos en ejecución; los que estén en READY se reparten.
+     */
+    public void setCores(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Se necesita al menos un núcleo: " + n);
+        }
+        if (n == cores.size()) {
+            return;
+        }
+        if (policyFactory == null) {
+            throw new IllegalStateException("setPolicy() fija una sola instancia; use setPolicyFactory() antes de setCores()");
+        }
+        synchronized (readyLock) {
+            List<ProcessThread> pendientes = new ArrayList<>();
+            Map<ProcessThread, Core> origen = new HashMap<>();
+            for (Core core : cores) {
+                if (core.currentThread != null) {
+                    throw new IllegalStateException("No se puede cambiar la cantidad de núcleos con procesos en ejecución");
+                }
+                for (ProcessThread thread : core.policy.snapshot()) {
+                    pendientes.add(thread);
+                    origen.put(thread, core);
+                }
+            }
+            cores.clear();
+            for (int i = 0; i < n; i++) {
+                cores.add(new Core(i, policyFactory.get()));
+            }
+            for (ProcessThread thread : pendientes) {
+                Core destino = leastLoadedCore();
+                destino.policy.attach(thread, origen.get(thread).policy.detach(thread));
+                thread.setQueuedCore(destino.getId());
+            }
+        }
+        if (Log.isInfoEnabled()) {
+            Log.info("[Scheduler] Núcleos configurados: " + n);
+        }
     }
     
-    public void setQuantum(int q) { this.quantum = q; }
+    public int getCoreCount() {
+        return cores.size();
+    }
+    
+    public List<Core> getCores() {
+        return Collections.unmodifiableList(cores);
+    }
+    
+    public int getMigrations() {
+        return migrations;
+    }
+    
+    public int getSteals() {
+        return steals;
+    }
+    
+    /**
+     * Desbalance de carga: cuánto supera el núcleo más ocupado al promedio
+     * (0.0 = todos los núcleos trabajaron lo mismo).
+     */
+    public double getLoadImbalance() {
+        long max = 0;
+        long total = 0;
+        for (Core core : cores) {
+            max = Math.max(max, core.getBusyCycles());
+            total += core.getBusyCycles();
+        }
+        if (total == 0) {
+            return 0.0;
+        }
+        double promedio = (double) total / cores.size();
+        return max / promedio - 1.0;
+    }
+    
+    public void printCoreStatistics() {
+        System.out.println("\nESTADÍSTICAS POR NÚCLEO:");
+        System.out.println(String.format("%-6s %10s %8s %10s %11s", "CPU", "Ocupado", "Uso", "Despachos", "Migraciones"));
+        for (Core core : cores) {
+            System.out.println(String.format("%-6d %10d %7.1f%% %10d %11d", core.getId(), core.getBusyCycles(),
+                core.getUtilization(tiempoGlobal) * 100, core.getDispatches(), core.getMigrationsIn()));
+        }
+        System.out.println(String.format("Migraciones: %d, Robos: %d, Desbalance: %.1f%%",
+            migrations, steals, getLoadImbalance() * 100));
+    }
+    
+    private SchedulingPolicy createPolicy(Algorithm algo) {
+        switch (algo) {
+            case SJF:
+                return new SJFPolicy();
+            case PRIORITY:
+                return new PriorityPolicy();
+            case RR:
+                return new RoundRobinPolicy(quantum);
+            case FCFS:
+            default:
+                return new FCFSPolicy();
+        }
+    }
+    
+    // En MLFQ el quantum es el del nivel 0; los demás niveles se escalan igual
+    public void setQuantum(int q) { 
+        this.quantum = q; 
+        for (Core core : cores) {
+            if (core.policy instanceof RoundRobinPolicy) {
+                ((RoundRobinPolicy) core.policy).setQuantum(q);
+            } else if (core.policy instanceof MLFQPolicy) {
+                ((MLFQPolicy) core.policy).setBaseQuantum(q);
+            }
+        }
+    }
+    
+    /*
+     * En modo headless no se arrancan hilos por proceso ni se duerme entre
+     * ciclos: cada unidad de CPU se ejecuta directamente en el hilo que llama
+     * a runOneUnit(). Pensado para corridas batch sin GUI.
+     */
+    public void setHeadless(boolean headless) {
+        this.headless = headless;
+        if (Log.isInfoEnabled()) {
+            Log.info("[Scheduler] Modo headless: " + headless);
+        }
+    }
+    
+    public boolean isHeadless() {
+        return headless;
+    }
+    
+    /*
+     * En modo event-driven runToCompletion() avanza tiempoGlobal hasta el
+     * próximo evento (fin de ráfaga, fin de quantum, fin de E/S o llegada)
+     * en lugar de simular ciclo a ciclo los tramos donde nada cambia.
+     */
+    public void setEventDriven(boolean eventDriven) {
+        this.eventDriven = eventDriven;
+        if (Log.isInfoEnabled()) {
+            Log.info("[Scheduler] Modo event-driven: " + eventDriven);
+        }
+    }
+    
+    public boolean isEventDriven() {
+        return eventDriven;
+    }
+    
+    /*
+     * Con paginación por demanda un proceso con SEQ[] no carga todas sus
+     * páginas al despacharse: cada unidad de CPU toca la siguiente página de
+     * su secuencia y, si no está en memoria, el proceso se bloquea en un fallo
+     * de página (IOManager.startPageFault). Los procesos sin SEQ[] siguen
+     * cargando todo. Como un proceso puede tener menos frames que páginas, el
+     * MemoryManager pasa a reemplazo global.
+     */
+    public void setDemandPaging(boolean demandPaging) {
+        this.demandPaging = demandPaging;
+        if (memoryManager != null && demandPaging) {
+            memoryManager.setGlobalReplacement(true);
+        }
+        if (Log.isInfoEnabled()) {
+            Log.info("[Scheduler] Paginación por demanda: " + demandPaging);
+        }
+    }
+    
+    public boolean isDemandPaging() {
+        return demandPaging;
+    }
+    
+    /*
+     * Por defecto cada proceso corre en un hilo virtual; con
+     * ProcessThread.platformThreadFactory() se vuelve a un hilo del SO por proceso.
+     */
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+    
+    // Gantt del núcleo 0
+    public List<GanttSegment> getGanttSegments() {
+        return cores.get(0).getGanttSegments();
+    }
+    
+    public List<GanttSegment> getGanttSegments(int core) {
+        return cores.get(core).getGanttSegments();
+    }
 
     // MÉTODOS AGREGADOS PARA EL DISPLAY
     public Algorithm getCurrentAlgorithm() { 
@@ -65,18 +354,22 @@ public class Scheduler {
     
     public List<Process> getReadyProcesses() {
         List<Process> ready = new LinkedList<>();
-        synchronized (readyQueue) {
-            for (ProcessThread thread : readyQueue) {
-                if (thread.getProcess() != null && 
-                    thread.getProcess().getState() == ProcessState.READY) {
-                    ready.add(thread.getProcess());
+        synchronized (readyLock) {
+            for (Core core : cores) {
+                for (ProcessThread thread : core.policy.snapshot()) {
+                    if (thread.getProcess() != null && 
+                        thread.getProcess().getState() == ProcessState.READY) {
+                        ready.add(thread.getProcess());
+                    }
                 }
             }
         }
         return ready;
     }
     
+    // Proceso en CPU del núcleo 0
     public Process getCurrentProcess() {
+        ProcessThread currentThread = cores.get(0).currentThread;
         if (currentThread != null && currentThread.getProcess() != null) {
             Process p = currentThread.getProcess();
             // Solo retornar si realmente está en ejecución
@@ -92,6 +385,11 @@ public class Scheduler {
      * Retorna información sobre qué proceso va a ejecutar y su ráfaga
      */
     public String[] captureCurrentState() {
+        return captureState(cores.get(0));
+    }
+    
+    private String[] captureState(Core core) {
+        ProcessThread currentThread = core.currentThread;
         if (currentThread != null && currentThread.getProcess() != null) {
             Process p = currentThread.getProcess();
             if (p.getState() == ProcessState.RUNNING && !p.isFinished()) {
@@ -113,29 +411,54 @@ public class Scheduler {
     
     // FIN MÉTODOS AGREGADOS
 
+    private static final class Arrival implements Comparable<Arrival> {
+        final Process process;
+        final long seq;
+
+        Arrival(Process process, long seq) {
+            this.process = process;
+            this.seq = seq;
+        }
+
+        @Override
+        public int compareTo(Arrival otra) {
+            int c = Integer.compare(process.getT_arrival(), otra.process.getT_arrival());
+            return c != 0 ? c : Long.compare(seq, otra.seq);
+        }
+    }
+
     public void addProcess(Process p) {
-        futureArrivals.add(p);
+        futureArrivals.add(new Arrival(p, arrivalSeq++));
         p.setState(ProcessState.NEW);
 
-        System.out.println("[Scheduler] Proceso " + p.getPID() + " registrado con llegada en T=" + p.getT_arrival());
+        if (Log.isDebugEnabled()) {
+            Log.debug("[Scheduler] Proceso " + p.getPID() + " registrado con llegada en T=" + p.getT_arrival());
+        }
     }
 
     public int getCurrentCycle() {
         return tiempoGlobal;
     }
 
+    /**
+     * Ciclo de la próxima llegada pendiente, o Integer.MAX_VALUE si no hay.
+     */
+    public int peekNextArrival() {
+        Arrival siguiente = futureArrivals.peek();
+        return siguiente != null ? siguiente.process.getT_arrival() : Integer.MAX_VALUE;
+    }
+
     private void checkArrivals() {
-        List<Process> arrived = new ArrayList<>();
-        // Buscar procesos cuyo tiempo de llegada ya ocurrió
-        for (Process p : futureArrivals) {
-            if (p.getT_arrival() <= tiempoGlobal) {
-                arrived.add(p);
-            }
-        }
-        // Moverlos a READY
-        for (Process p : arrived) {
+        // Solo se miran los procesos que efectivamente llegan en este ciclo
+        while (peekNextArrival() <= tiempoGlobal) {
+            Process p = futureArrivals.poll().process;
             // Crear thread solamente ahora
-            ProcessThread thread = new ProcessThread(p, this.ioManager);
+            ProcessThread thread = new ProcessThread(p, this.ioManager, threadFactory, syncManager);
+            if (!headless) {
+                synchronized (readyLock) {
+                    liveThreads.add(thread);
+                }
+            }
 
             // El thread SOLO empieza cuando el dispatcher lo elija
             // Marcar proceso como READY
@@ -143,17 +466,22 @@ public class Scheduler {
 
             // Agregar a ready queue
             addProcessThread(thread);
-            System.out.println("[ARRIVAL] " + p.getPID() + " llegó en T=" + tiempoGlobal);
-            // Retirar de lista de futuros
-            futureArrivals.remove(p);
+            if (Log.isDebugEnabled()) {
+                Log.debug("[ARRIVAL] " + p.getPID() + " llegó en T=" + tiempoGlobal);
+            }
         }
     }
     
-    // Variable para capturar el estado antes de ejecutar
-    private String[] cycleExecutionSnapshot = null;
-    
     public boolean runOneUnit() {
-        System.out.println("\n--- CICLO T=" + tiempoGlobal + " ---");
+        if (Log.isDebugEnabled()) {
+            Log.debug("\n--- CICLO T=" + tiempoGlobal + " ---");
+        }
+        
+        synchronized (readyLock) {
+            for (Core core : cores) {
+                core.policy.onCycle(tiempoGlobal, 1);
+            }
+        }
         
         // FASE 1: Finalizar operaciones del ciclo anterior
         checkArrivals();
@@ -163,35 +491,223 @@ public class Scheduler {
         processDelayedIOOperations();
         
         processesAddedThisCycle = 0;
-        cycleExecutionSnapshot = null;
+        for (Core core : cores) {
+            core.cycleExecutionSnapshot = null;
+        }
+        
+        if (!headless) {
+            try { Thread.sleep(5); } catch (InterruptedException e) {}
+        }
+        
+        // FASE 3: Ejecución de CPU en el ciclo actual, núcleo por núcleo
+        for (Core core : cores) {
+            runCore(core);
+        }
+        
+        if (Log.isTraceEnabled()) {
+            Log.trace("[T=" + tiempoGlobal + "] E/S activas: " + ioManager.getActiveIOOperations());
+        }
+        
+        if (Log.isTraceEnabled() && ioManager.getActiveIOOperations() > 0) {
+            ioManager.printActiveOperations();
+        }
+        
+        tiempoGlobal++;
         
-        try { Thread.sleep(5); } catch (InterruptedException e) {}
+        return hasReadyOrRunning() || ioManager.hasActiveIO();
+    }
+    
+    private void runCore(Core core) {
+        checkAndHandlePreemption(core);
         
-        // FASE 3: Ejecución de CPU en el ciclo actual
-        checkAndHandlePreemption();
+        if (core.currentThread == null) {
+            dispatchNewProcess(core);
+        }
         
-        if (currentThread == null) {
-            dispatchNewProcess();
+        // Un fallo de página libera el núcleo por este ciclo
+        if (demandPaging && core.currentThread != null) {
+            touchNextPage(core);
         }
         
-        if (currentThread != null) {
-            cycleExecutionSnapshot = captureCurrentState();
-            executeCurrentProcess();
+        if (core.currentThread != null) {
+            core.cycleExecutionSnapshot = captureState(core);
+            executeCurrentProcess(core);
         } else {
-            System.out.println("[T=" + tiempoGlobal + "] IDLE");
+            if (Log.isDebugEnabled()) {
+                Log.debug("[T=" + tiempoGlobal + "]" + coreTag(core) + " IDLE");
+            }
+        }
+        
+        String[] snapshot = core.cycleExecutionSnapshot;
+        core.recordGantt(snapshot != null ? snapshot[0] : GanttSegment.IDLE, tiempoGlobal, 1);
+    }
+    
+    private boolean hasReadyOrRunning() {
+        for (Core core : cores) {
+            if (!core.policy.isEmpty() || core.currentThread != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // Etiqueta para los logs; vacía en modo monoprocesador
+    private String coreTag(Core core) {
+        return cores.size() > 1 ? " CPU" + core.getId() : "";
+    }
+    
+    /**
+     * Ejecuta ciclos hasta que no quede trabajo (incluyendo llegadas futuras y
+     * E/S por iniciar) o hasta maxCycles. Retorna los ciclos simulados.
+     */
+    public int runToCompletion(int maxCycles) {
+        int inicio = tiempoGlobal;
+        while (tiempoGlobal - inicio < maxCycles) {
+            if (eventDriven) {
+                int salto = Math.min(computeSkippableCycles(), maxCycles - (tiempoGlobal - inicio) - 1);
+                if (salto > 0) {
+                    skipCycles(salto);
+                }
+            }
+            boolean hayTrabajo = runOneUnit();
+            if (!hayTrabajo && !hasPendingWork()) {
+                break;
+            }
+        }
+        return tiempoGlobal - inicio;
+    }
+    
+    public boolean hasPendingWork() {
+        return !futureArrivals.isEmpty() || !delayedIOStart.isEmpty();
+    }
+    
+    /**
+     * Salta hasta el próximo evento y ejecuta ese ciclo con runOneUnit().
+     */
+    public boolean advanceToNextEvent() {
+        int salto = computeSkippableCycles();
+        if (salto > 0) {
+            skipCycles(salto);
+        }
+        return runOneUnit();
+    }
+    
+    /*
+     * Cuántos ciclos a partir de tiempoGlobal se pueden simular en bloque
+     * porque ninguno de ellos cambia el estado de las colas: no hay llegadas,
+     * no termina ninguna E/S, el proceso en CPU no termina su ráfaga ni su
+     * quantum, y la cola READY no puede provocar un despacho ni una apropiación.
+     */
+    private int computeSkippableCycles() {
+        if (!delayedIOStart.isEmpty()) {
+            return 0;
         }
         
-        updateWaitTimes();
+        int limite = Integer.MAX_VALUE;
+        int nextArrival = peekNextArrival();
+        if (nextArrival != Integer.MAX_VALUE) {
+            limite = nextArrival - tiempoGlobal;
+        }
+        int nextIO = ioManager.getNextCompletionCycle();
+        if (nextIO != Integer.MAX_VALUE) {
+            limite = Math.min(limite, nextIO - tiempoGlobal);
+        }
+        for (Core core : cores) {
+            int nextPolicyEvent = core.policy.nextEventCycle(tiempoGlobal);
+            if (nextPolicyEvent != Integer.MAX_VALUE) {
+                limite = Math.min(limite, nextPolicyEvent - tiempoGlobal);
+            }
+        }
+        if (limite <= 0) {
+            return 0;
+        }
         
-        System.out.println("[T=" + tiempoGlobal + "] E/S activas: " + ioManager.getActiveIOOperations());
+        boolean algunoEjecutando = false;
+        boolean hayEncolados = false;
+        for (Core core : cores) {
+            if (!core.policy.isEmpty()) {
+                hayEncolados = true;
+            }
+        }
+        for (Core core : cores) {
+            if (core.currentThread == null) {
+                // CPU ociosa: no se salta si tiene algo que despachar o
+                // podría robarle trabajo a otro núcleo
+                if (hayEncolados) {
+                    return 0;
+                }
+                continue;
+            }
+            algunoEjecutando = true;
+            limite = Math.min(limite, runningLimit(core));
+            if (limite <= 0) {
+                return 0;
+            }
+        }
+        // Todo ocioso: solo se salta si sabemos cuándo vuelve a pasar algo
+        if (!algunoEjecutando && limite == Integer.MAX_VALUE) {
+            return 0;
+        }
+        return limite;
+    }
+    
+    // Ciclos que el proceso en CPU del núcleo puede correr sin generar un evento
+    private int runningLimit(Core core) {
+        Process p = core.currentThread.getProcess();
+        if (p == null || p.getState() != ProcessState.RUNNING || p.isFinished()) {
+            return 0;
+        }
+        Burst b = p.getBurst();
+        if (b == null || b.getResource() != BurstResource.CPU) {
+            return 0;
+        }
         
-        if (ioManager.getActiveIOOperations() > 0) {
-            ioManager.printActiveOperations();
+        // Cada unidad puede fallar: no se salta mientras queden referencias
+        if (demandPaging && p.getNextPageReference() != null) {
+            return 0;
         }
         
-        tiempoGlobal++;
+        // El ciclo que termina la ráfaga o el quantum se ejecuta normalmente
+        int limite = b.getTime_remaining() - 1;
+        int restanteTurno = core.policy.unitsUntilExpiry(core.currentThread, core.currentQuantumUsed);
+        if (restanteTurno != Integer.MAX_VALUE) {
+            limite = Math.min(limite, restanteTurno - 1);
+        }
+        return Math.max(0, limite);
+    }
+    
+    private void skipCycles(int ciclos) {
+        StringBuilder pids = new StringBuilder();
+        
+        synchronized (readyLock) {
+            for (Core core : cores) {
+                core.policy.onCycle(tiempoGlobal, ciclos);
+            }
+        }
+        
+        for (Core core : cores) {
+            String pid = GanttSegment.IDLE;
+            if (core.currentThread != null) {
+                Process p = core.currentThread.getProcess();
+                pid = p.getPID();
+                syncManager.acquireProcessLock(pid);
+                try {
+                    p.getBurst().consumirUnidades(ciclos);
+                    p.setCpu_usage(p.getCpu_usage() + ciclos);
+                } finally {
+                    syncManager.releaseProcessLock(pid);
+                }
+                core.currentQuantumUsed += ciclos;
+            }
+            core.recordGantt(pid, tiempoGlobal, ciclos);
+            pids.append(pids.length() > 0 ? ", " : "").append(pid);
+        }
         
-        return !readyQueue.isEmpty() || currentThread != null || ioManager.hasActiveIO();
+        if (Log.isDebugEnabled()) {
+            Log.debug("[Scheduler] Salto de " + ciclos + " ciclos: T=" + tiempoGlobal + 
+                      " -> T=" + (tiempoGlobal + ciclos) + " (" + pids + ")");
+        }
+        tiempoGlobal += ciclos;
     }
 
     private void processDelayedIOOperations() {
@@ -209,14 +725,18 @@ public class Scheduler {
             if (p != null && p.getState() == ProcessState.READY) {
                 Burst nextBurst = p.getBurst();
                 if (nextBurst != null && nextBurst.getResource() == BurstResource.IO) {
-                    System.out.println(">>> " + p.getPID() + " INICIANDO E/S (" + 
-                                    nextBurst.getTime_total() + " ciclos) <<<");
+                    if (Log.isDebugEnabled()) {
+                        Log.debug(">>> " + p.getPID() + " INICIANDO E/S (" + 
+                                        nextBurst.getTime_total() + " ciclos) <<<");
+                    }
                     
                     syncManager.acquireProcessLock(pid);
                     try {
                         p.setState(ProcessState.BLOCKED_IO);
                         ioManager.startIOOperation(p, nextBurst.getTime_total(), thread);
-                        System.out.println("[Scheduler] E/S iniciada para " + p.getPID());
+                        if (Log.isDebugEnabled()) {
+                            Log.debug("[Scheduler] E/S iniciada para " + p.getPID());
+                        }
                     } finally {
                         syncManager.releaseProcessLock(pid);
                     }
@@ -236,162 +756,135 @@ public class Scheduler {
      * Este snapshot contiene el estado del proceso DESPUÉS de dispatch pero ANTES de ejecutar
      */
     public String[] getLastExecutionSnapshot() {
-        return cycleExecutionSnapshot;
+        return cores.get(0).cycleExecutionSnapshot;
+    }
+    
+    public String[] getLastExecutionSnapshot(int core) {
+        return cores.get(core).cycleExecutionSnapshot;
     }
     
-    private void checkAndHandlePreemption() {
-        if (currentAlgorithm != Algorithm.PRIORITY && currentAlgorithm != Algorithm.SJF) {
+    private void checkAndHandlePreemption(Core core) {
+        if (core.currentThread == null) {
             return;
         }
         
-        if (currentThread == null) {
-            return;
+        ProcessThread bestThread = null;
+        synchronized (readyLock) {
+            if (core.policy.shouldPreempt(core.currentThread)) {
+                bestThread = core.policy.pickNext();
+            }
+            if (bestThread != null) {
+                bestThread.setQueuedCore(-1);
+                bestThread.getProcess().stopWaiting(tiempoGlobal);
+            }
         }
         
-        ProcessThread bestThread = findBestAvailableThread();
-        
         if (bestThread != null && bestThread.getProcess() != null) {
-            System.out.println("[PREEMPT-CHECK] Mejor proceso encontrado: " + 
-            bestThread.getProcess().getPID());
-        }
-        
-        if (bestThread != null && bestThread != currentThread) {
-            performPreemption(bestThread);
-        }
-    }
-    
-    private ProcessThread findBestAvailableThread() {
-        ProcessThread best = null;
-        int bestValue = Integer.MAX_VALUE;
-        
-        synchronized (readyQueue) {
-            if (currentAlgorithm == Algorithm.PRIORITY) {
-                if (currentThread != null && currentThread.getProcess() != null) {
-                    best = currentThread;
-                    bestValue = currentThread.getProcess().getPriority();
-                }
-                
-                for (ProcessThread thread : readyQueue) {
-                    if (thread.getProcess() == null) continue;
-                    
-                    int priority = thread.getProcess().getPriority();
-                    if (priority < bestValue) {
-                        bestValue = priority;
-                        best = thread;
-                    }
-                }
-            }
-            else if (currentAlgorithm == Algorithm.SJF) {
-                if (currentThread != null && currentThread.getProcess() != null) {
-                    best = currentThread;
-                    bestValue = currentThread.getProcess().getBurst().getTime_remaining();
-                }
-                
-                for (ProcessThread thread : readyQueue) {
-                    if (thread.getProcess() == null) continue;
-                    
-                    int remaining = thread.getProcess().getBurst().getTime_remaining();
-                    if (remaining < bestValue) {
-                        bestValue = remaining;
-                        best = thread;
-                    }
-                }
+            if (Log.isTraceEnabled()) {
+                Log.trace("[PREEMPT-CHECK] Mejor proceso encontrado: " + 
+                bestThread.getProcess().getPID());
             }
+            performPreemption(core, bestThread);
         }
-        
-        return best;
     }
     
-    private void performPreemption(ProcessThread newThread) {
+    private void performPreemption(Core core, ProcessThread newThread) {
+        ProcessThread currentThread = core.currentThread;
         Process oldProcess = currentThread.getProcess();
         Process newProcess = newThread.getProcess();
 
-        System.out.println("[PREEMPT] ¡APROPIACIÓN! " + 
-            newProcess.getPID() + " (prio=" + newProcess.getPriority() + 
-            ") expulsa a " + oldProcess.getPID() + 
-            " (prio=" + oldProcess.getPriority() + ")");
+        if (Log.isDebugEnabled()) {
+            Log.debug("[PREEMPT] ¡APROPIACIÓN! " + 
+                newProcess.getPID() + " (prio=" + newProcess.getPriority() + 
+                ") expulsa a " + oldProcess.getPID() + 
+                " (prio=" + oldProcess.getPriority() + ")");
+        }
 
-        // 1) Devolver el viejo proceso a READY
+        // 1) Devolver el viejo proceso a READY (newThread ya salió de la cola)
         syncManager.acquireProcessLock(oldProcess.getPID());
         try {
             oldProcess.setState(ProcessState.READY);
-            synchronized (readyQueue) {
+            synchronized (readyLock) {
                 // añadir al frente para que sea elegido pronto
-                readyQueue.add(0, currentThread); 
+                core.policy.enqueuePreempted(currentThread); 
+                currentThread.setQueuedCore(core.getId());
+            }
+            oldProcess.startWaiting(tiempoGlobal, waitClock);
+            if (Log.isDebugEnabled()) {
+                Log.debug("[PREEMPT] " + oldProcess.getPID() + " vuelto a cola READY");
             }
-            System.out.println("[PREEMPT] " + oldProcess.getPID() + " vuelto a cola READY");
         } finally {
             syncManager.releaseProcessLock(oldProcess.getPID());
         }
 
-        // 2) Remover newThread de readyQueue si está ahí
-        synchronized (readyQueue) {
-            if (readyQueue.contains(newThread)) {
-                readyQueue.remove(newThread);
-                System.out.println("[PREEMPT] " + newProcess.getPID() + " removido de cola READY");
+        // 2) Asegurarnos de que el hilo del nuevo proceso está arrancado
+        if (startThreadIfNeeded(newThread)) {
+            if (Log.isDebugEnabled()) {
+                Log.debug("[PREEMPT] " + newProcess.getPID() + " hilo iniciado por preemption");
             }
         }
 
-        // 3) Asegurarnos de que el hilo del nuevo proceso está arrancado
-        if (!newThread.isAlive()) {
-            newThread.start();
-            System.out.println("[PREEMPT] " + newProcess.getPID() + " hilo iniciado por preemption");
-        }
+        // 3) Pasar a ser el hilo actual
+        assignToCore(core, newThread);
 
-        // 4) Pasar a ser el hilo actual
-        currentThread = newThread;
-        currentQuantumUsed = 0;
-
-        // 5) Establecer estado RUNNING y tiempos bajo lock del proceso
+        // 4) Establecer estado RUNNING y tiempos bajo lock del proceso
         syncManager.acquireProcessLock(newProcess.getPID());
         try {
             if (newProcess.getT_start() == -1) {
                 newProcess.setT_start(tiempoGlobal);
-                System.out.println("[PREEMPT] " + newProcess.getPID() + " - Tiempo inicio: " + tiempoGlobal);
+                if (Log.isDebugEnabled()) {
+                    Log.debug("[PREEMPT] " + newProcess.getPID() + " - Tiempo inicio: " + tiempoGlobal);
+                }
             }
             newProcess.setState(ProcessState.RUNNING);
-            System.out.println("[PREEMPT] " + newProcess.getPID() + " establecido como RUNNING");
+            if (Log.isDebugEnabled()) {
+                Log.debug("[PREEMPT] " + newProcess.getPID() + " establecido como RUNNING");
+            }
         } finally {
             syncManager.releaseProcessLock(newProcess.getPID());
         }
     }
     
-    private void dispatchNewProcess() {
+    private void dispatchNewProcess(Core core) {
         ProcessThread selectedThread = null;
         
-        synchronized (readyQueue) {
-            if (readyQueue.isEmpty()) {
-                System.out.println("[DISPATCH] Cola READY vacía, nada que despachar");
+        synchronized (readyLock) {
+            if (core.policy.isEmpty() && !stealWork(core)) {
+                if (Log.isDebugEnabled()) {
+                    Log.debug("[DISPATCH]" + coreTag(core) + " Cola READY vacía, nada que despachar");
+                }
                 return;
             }
             
-            switch (currentAlgorithm) {
-                case SJF:
-                    selectedThread = selectSJF();
-                    break;
-                case PRIORITY:
-                    selectedThread = selectPriority();
-                    break;
-                case FCFS:
-                case RR:
-                    selectedThread = readyQueue.remove(0);
-                    break;
+            selectedThread = core.policy.pickNext();
+            if (selectedThread != null) {
+                selectedThread.setQueuedCore(-1);
+                selectedThread.getProcess().stopWaiting(tiempoGlobal);
             }
         }
         
         if (selectedThread == null) {
-            System.out.println("[DISPATCH] No se pudo seleccionar proceso");
+            if (Log.isDebugEnabled()) {
+                Log.debug("[DISPATCH] No se pudo seleccionar proceso");
+            }
             return;
         }
         
         Process p = selectedThread.getProcess();
-        System.out.println("[DISPATCH] Proceso seleccionado: " + p.getPID());
+        if (Log.isDebugEnabled()) {
+            Log.debug("[DISPATCH] Proceso seleccionado: " + p.getPID());
+        }
         
-        if (memoryManager != null) {
-            boolean ok = memoryManager.ensurePages(p);
+        if (memoryManager != null && demandPaging && p.getFuturePageSequence() != null) {
+            // Sus páginas se cargan de a una, al tocarlas
+            memoryManager.ensureProcess(p);
+        } else if (memoryManager != null) {
+            boolean ok = memoryManager.ensurePages(p, core.getId());
             
             if (!ok) {
-                System.out.println("[T=" + tiempoGlobal + "] BLOQUEO MEM: " + p.getPID() +"  ESPERANDO CARGA COMPLETA");
+                if (Log.isDebugEnabled()) {
+                    Log.debug("[T=" + tiempoGlobal + "] BLOQUEO MEM: " + p.getPID() +"  ESPERANDO CARGA COMPLETA");
+                }
                 p.setState(ProcessState.BLOCKED_MEM);
                 ioManager.startFullLoadFault(p, memoryManager, selectedThread);
                 
@@ -399,12 +892,9 @@ public class Scheduler {
             }
         }
         
-        if (!selectedThread.isAlive()) {
-            selectedThread.start();
-        }
+        startThreadIfNeeded(selectedThread);
         
-        currentThread = selectedThread;
-        currentQuantumUsed = 0;
+        assignToCore(core, selectedThread);
         
         syncManager.acquireProcessLock(p.getPID());
         try {
@@ -412,30 +902,120 @@ public class Scheduler {
                 p.setT_start(tiempoGlobal);
             }
             p.setState(ProcessState.RUNNING);
-            System.out.println("[T=" + tiempoGlobal + "] DISPATCH (" + currentAlgorithm + "): " + p.getPID());
+            if (Log.isDebugEnabled()) {
+                Log.debug("[T=" + tiempoGlobal + "]" + coreTag(core) + " DISPATCH (" + core.policy.getName() + "): " + p.getPID());
+            }
         } finally {
             syncManager.releaseProcessLock(p.getPID());
         }
     }
     
-    private void executeCurrentProcess() {
+    /*
+     * Un núcleo ocioso sin trabajo propio le roba el siguiente proceso al
+     * núcleo con la cola READY más larga. El estado que la política guarda
+     * del proceso (nivel MLFQ, vruntime) se muda con él. Se llama con
+     * readyLock tomado.
+     */
+    private boolean stealWork(Core thief) {
+        Core victim = null;
+        for (Core core : cores) {
+            if (core != thief && !core.policy.isEmpty() &&
+                (victim == null || core.policy.size() > victim.policy.size())) {
+                victim = core;
+            }
+        }
+        if (victim == null) {
+            return false;
+        }
+        ProcessThread robado = victim.policy.iterator().next();
+        thief.policy.attach(robado, victim.policy.detach(robado));
+        robado.setQueuedCore(thief.getId());
+        steals++;
+        if (Log.isDebugEnabled()) {
+            Log.debug("[STEAL] CPU" + thief.getId() + " roba " + robado.getProcess().getPID() +
+                      " de CPU" + victim.getId());
+        }
+        return true;
+    }
+    
+    /*
+     * Paginación por demanda: la unidad de CPU que el núcleo va a ejecutar
+     * toca la siguiente página de la SEQ[]. Un acierto actualiza los bits y
+     * la historia del algoritmo; un fallo bloquea al proceso en BLOCKED_MEM
+     * y libera el núcleo por este ciclo. La carga que completa el fallo ya
+     * cuenta como la referencia, así que al volver no se toca de nuevo.
+     */
+    private void touchNextPage(Core core) {
+        ProcessThread thread = core.currentThread;
+        Process p = thread.getProcess();
+        if (memoryManager == null || p.getState() != ProcessState.RUNNING) {
+            return;
+        }
+        Burst b = p.getBurst();
+        if (b == null || b.getResource() != BurstResource.CPU || pageFaultServed.remove(p.getPID())) {
+            return;
+        }
+        Integer pagina = p.getNextPageReference();
+        if (pagina == null) {
+            return;
+        }
+        
+        boolean escritura = p.isNextPageReferenceWrite();
+        p.advancePageReference();
+        if (memoryManager.isPageLoaded(p.getPID(), pagina)) {
+            memoryManager.loadPage(p.getPID(), pagina, escritura, core.getId());
+            return;
+        }
+        
+        if (Log.isDebugEnabled()) {
+            Log.debug("[T=" + tiempoGlobal + "]" + coreTag(core) + " FALLO DE PÁGINA: " + 
+                      p.getPID() + " página " + pagina);
+        }
+        syncManager.acquireProcessLock(p.getPID());
+        try {
+            p.setState(ProcessState.BLOCKED_MEM);
+        } finally {
+            syncManager.releaseProcessLock(p.getPID());
+        }
+        pageFaultServed.add(p.getPID());
+        ioManager.startPageFault(p, pagina, escritura, memoryManager, thread);
+        core.currentThread = null;
+        core.currentQuantumUsed = 0;
+    }
+    
+    private void assignToCore(Core core, ProcessThread thread) {
+        boolean migrado = thread.getLastCore() >= 0 && thread.getLastCore() != core.getId();
+        if (migrado) {
+            migrations++;
+        }
+        thread.setLastCore(core.getId());
+        core.countDispatch(migrado);
+        if (memoryManager != null) {
+            memoryManager.contextSwitch(core.getId(), thread.getProcess().getPID());
+        }
+        core.currentThread = thread;
+        core.currentQuantumUsed = 0;
+    }
+    
+    private void executeCurrentProcess(Core core) {
+        ProcessThread currentThread = core.currentThread;
         Process p = currentThread.getProcess();
         
         if (p.getState() == ProcessState.BLOCKED_IO || 
             p.getState() == ProcessState.BLOCKED_MEM ||
             p.getState() == ProcessState.TERMINATED) {
             
-            System.out.println("[EXECUTE] " + p.getPID() + 
-                            " no puede ejecutar (estado: " + p.getState() + ")");
+            if (Log.isTraceEnabled()) {
+                Log.trace("[EXECUTE] " + p.getPID() + 
+                                " no puede ejecutar (estado: " + p.getState() + ")");
+            }
             
             if (p.getState() == ProcessState.TERMINATED) {
-                p.setT_finish(tiempoGlobal);
-                currentThread.terminate();
-                syncManager.cleanupProcess(p.getPID());
+                finishProcess(currentThread);
             }
             
-            currentThread = null;
-            currentQuantumUsed = 0;
+            core.currentThread = null;
+            core.currentQuantumUsed = 0;
             return;
         }
         
@@ -444,124 +1024,101 @@ public class Scheduler {
         Burst currentBurst = p.getBurst(); // Necesitarás este método
         if (currentBurst != null && currentBurst.getResource() == BurstResource.IO) {
             // Este proceso debería iniciar I/O, no ejecutar CPU
-            System.out.println("[EXECUTE] " + p.getPID() + 
-                            " debería iniciar I/O, saltando ejecución CPU");
+            if (Log.isTraceEnabled()) {
+                Log.trace("[EXECUTE] " + p.getPID() + 
+                                " debería iniciar I/O, saltando ejecución CPU");
+            }
             return;
         }
         
-        currentThread.startExecution();
-        try { Thread.sleep(20); } catch (InterruptedException e) {}
+        if (headless) {
+            currentThread.executeUnitInline();
+        } else {
+            // Handoff bloqueante: esperamos exactamente a que el hilo consuma la unidad
+            currentThread.startExecution();
+            currentThread.awaitUnitCompletion();
+        }
         
         syncManager.acquireProcessLock(p.getPID());
         try {
             if (currentThread.isBurstCompleted()) {
-                handleBurstCompletion(); 
+                handleBurstCompletion(core); 
             } else {
-                handleBurstContinuation();
+                handleBurstContinuation(core);
             }
         } finally {
             syncManager.releaseProcessLock(p.getPID());
         }
     }
     
-    private void handleBurstCompletion() {
+    private boolean startThreadIfNeeded(ProcessThread thread) {
+        if (headless || thread.isAlive()) {
+            return false;
+        }
+        thread.start();
+        return true;
+    }
+    
+    private void handleBurstCompletion(Core core) {
+        ProcessThread currentThread = core.currentThread;
         Process p = currentThread.getProcess();
-        System.out.println("[T=" + tiempoGlobal + "] " + p.getPID() + " completó ráfaga");
+        if (Log.isDebugEnabled()) {
+            Log.debug("[T=" + tiempoGlobal + "] " + p.getPID() + " completó ráfaga");
+        }
         
         if (p.isFinished()) {
-            p.setT_finish(tiempoGlobal);
-            System.out.println(p.getPID() + " TERMINADO COMPLETAMENTE ");
-            p.setState(ProcessState.TERMINATED);
-            currentThread.terminate();
-            syncManager.cleanupProcess(p.getPID());
-            currentThread = null;
-            currentQuantumUsed = 0;
+            if (Log.isDebugEnabled()) {
+                Log.debug(p.getPID() + " TERMINADO COMPLETAMENTE ");
+            }
+            finishProcess(currentThread);
+            core.currentThread = null;
+            core.currentQuantumUsed = 0;
             return;
         }
         
         Burst nextBurst = p.getBurst();
         
         if (nextBurst.getResource() == BurstResource.IO) {
-            System.out.println(">>> " + p.getPID() + " PREPARADO PARA I/O en ciclo T=" + 
-                            (tiempoGlobal + 1) + " (" + nextBurst.getTime_total() + " ciclos) <<<");
+            if (Log.isDebugEnabled()) {
+                Log.debug(">>> " + p.getPID() + " PREPARADO PARA I/O en ciclo T=" + 
+                                (tiempoGlobal + 1) + " (" + nextBurst.getTime_total() + " ciclos) <<<");
+            }
             
             p.setState(ProcessState.READY);
             
             delayedIOStart.put(p.getPID(), currentThread);
             
             // NO agregar a readyQueue normal - irá a blocked en siguiente ciclo
-            currentThread = null;
-            currentQuantumUsed = 0;
+            core.currentThread = null;
+            core.currentQuantumUsed = 0;
             
         } else {
             // El siguiente es CPU, volver a ready
             p.setState(ProcessState.READY);
             addProcessThread(currentThread);
-            currentThread = null;
-            currentQuantumUsed = 0;
+            core.currentThread = null;
+            core.currentQuantumUsed = 0;
         }
     }
     
-    private void handleBurstContinuation() {
+    private void handleBurstContinuation(Core core) {
+        ProcessThread currentThread = core.currentThread;
         Process p = currentThread.getProcess();
         
-        if (currentAlgorithm == Algorithm.RR) {
-            currentQuantumUsed++;
-            if (currentQuantumUsed >= quantum) {
-                System.out.println("[T=" + tiempoGlobal + "] RR QUANTUM: " + p.getPID() + " desalojado.");
-                p.setState(ProcessState.READY);
-                addProcessThread(currentThread);
-                currentThread = null;
-                currentQuantumUsed = 0;
-            }
+        core.currentQuantumUsed++;
+        boolean expirado;
+        synchronized (readyLock) {
+            expirado = core.policy.onTick(currentThread, core.currentQuantumUsed);
         }
-    }
-    
-    private void updateWaitTimes() {
-        synchronized (readyQueue) {
-            for (ProcessThread thread : readyQueue) {
-                Process proc = thread.getProcess();
-                if (proc.getState() == ProcessState.READY) {
-                    proc.setT_wait(proc.getT_wait() + 1);
-                }
-            }
-        }
-    }
-    
-    private ProcessThread selectSJF() {
-        int shortestTime = Integer.MAX_VALUE;
-        int selectedIndex = -1;
-        
-        for (int i = 0; i < readyQueue.size(); i++) {
-            ProcessThread t = readyQueue.get(i);
-            if (t.getProcess() == null) continue;
-            
-            int remaining = t.getProcess().getBurst().getTime_remaining();
-            if (remaining < shortestTime) {
-                shortestTime = remaining;
-                selectedIndex = i;
-            }
-        }
-        
-        return (selectedIndex != -1) ? readyQueue.remove(selectedIndex) : null;
-    }
-    
-    private ProcessThread selectPriority() {
-        int highestPriority = Integer.MAX_VALUE;
-        int selectedIndex = -1;
-        
-        for (int i = 0; i < readyQueue.size(); i++) {
-            ProcessThread t = readyQueue.get(i);
-            if (t.getProcess() == null) continue;
-            
-            int priority = t.getProcess().getPriority();
-            if (priority < highestPriority) {
-                highestPriority = priority;
-                selectedIndex = i;
+        if (expirado) {
+            if (Log.isDebugEnabled()) {
+                Log.debug("[T=" + tiempoGlobal + "]" + coreTag(core) + " " + core.policy.getName() + " QUANTUM: " + p.getPID() + " desalojado.");
             }
+            p.setState(ProcessState.READY);
+            addProcessThread(currentThread);
+            core.currentThread = null;
+            core.currentQuantumUsed = 0;
         }
-        
-        return (selectedIndex != -1) ? readyQueue.remove(selectedIndex) : null;
     }
     
     public void addProcessThread(ProcessThread thread) {
@@ -573,8 +1130,10 @@ public class Scheduler {
                 p.getState() == ProcessState.BLOCKED_MEM ||
                 p.getState() == ProcessState.TERMINATED) {
                 
-                System.out.println("[Scheduler] " + p.getPID() + " en estado " + 
-                p.getState() + ", no se añade a READY");
+                if (Log.isDebugEnabled()) {
+                    Log.debug("[Scheduler] " + p.getPID() + " en estado " + 
+                    p.getState() + ", no se añade a READY");
+                }
                 return;
             }
             
@@ -582,11 +1141,19 @@ public class Scheduler {
                 p.setState(ProcessState.READY);
             }
             
-            synchronized (readyQueue) {
-                if (!readyQueue.contains(thread)) {
-                    readyQueue.add(thread);
+            synchronized (readyLock) {
+                // Supresión de duplicados en O(1): el hilo sabe si ya está en alguna cola
+                if (!thread.isQueued()) {
+                    // Afinidad: vuelve al núcleo donde ejecutó; si es nuevo, al menos cargado
+                    Core core = thread.getLastCore() >= 0 && thread.getLastCore() < cores.size()
+                        ? cores.get(thread.getLastCore()) : leastLoadedCore();
+                    core.policy.enqueue(thread);
+                    thread.setQueuedCore(core.getId());
+                    p.startWaiting(tiempoGlobal, waitClock);
                     processesAddedThisCycle++;
-                    System.out.println("[T=" + tiempoGlobal + "] " + p.getPID() + " añadido a READY.");
+                    if (Log.isDebugEnabled()) {
+                        Log.debug("[T=" + tiempoGlobal + "]" + coreTag(core) + " " + p.getPID() + " añadido a READY.");
+                    }
                 }
             }
             
@@ -594,20 +1161,86 @@ public class Scheduler {
             syncManager.releaseGlobalLock();
         }
     }
+    
+    /**
+     * Termina el proceso del hilo: fin, hilo, políticas y locks. También la
+     * usa el IOManager cuando el proceso termina fuera de la CPU (última
+     * ráfaga de E/S o carga de memoria fallida).
+     */
+    public void finishProcess(ProcessThread thread) {
+        Process p = thread.getProcess();
+        p.setState(ProcessState.TERMINATED);
+        p.setT_finish(tiempoGlobal);
+        thread.terminate();
+        processTerminated(thread);
+        syncManager.cleanupProcess(p.getPID());
+    }
+    
+    /*
+     * Las políticas sueltan el estado del proceso terminado. Se avisa a todos
+     * los núcleos: si falló la carga al despacharlo nunca llegó a correr y
+     * su estado quedó en el núcleo que lo sacó de la cola.
+     */
+    public void processTerminated(ProcessThread thread) {
+        synchronized (readyLock) {
+            liveThreads.remove(thread);
+            for (Core core : cores) {
+                core.policy.onTerminate(thread);
+            }
+        }
+    }
+    
+    private Core leastLoadedCore() {
+        Core best = cores.get(0);
+        for (int i = 1; i < cores.size(); i++) {
+            if (cores.get(i).load() < best.load()) {
+                best = cores.get(i);
+            }
+        }
+        return best;
+    }
 
     public int getReadyQueueSize() {
-        synchronized (readyQueue) {
-            return readyQueue.size();
+        synchronized (readyLock) {
+            int total = 0;
+            for (Core core : cores) {
+                total += core.policy.size();
+            }
+            return total;
         }
     }
 
     public String getCurrentProcessId() {
+        ProcessThread currentThread = cores.get(0).currentThread;
         return (currentThread != null && currentThread.getProcess() != null) ? 
             currentThread.getProcess().getPID() : "NONE";
     }
     
     public IOManager getIOManager() { return ioManager; }
     
+    /**
+     * Termina los hilos de todos los procesos que no terminaron (en cola, en
+     * CPU o bloqueados) y espera a que salgan. Para descartar un scheduler a
+     * mitad de corrida sin dejar hilos estacionados.
+     */
+    public void terminateProcessThreads() {
+        List<ProcessThread> vivos;
+        synchronized (readyLock) {
+            vivos = new ArrayList<>(liveThreads);
+            liveThreads.clear();
+        }
+        for (ProcessThread thread : vivos) {
+            thread.terminate();
+        }
+        try {
+            for (ProcessThread thread : vivos) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public void shutdown() { 
         if (ioManager != null) ioManager.shutdown(); 
         syncManager.signalAllProcesses(); 
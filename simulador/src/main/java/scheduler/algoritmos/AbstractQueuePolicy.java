@@ -0,0 +1,69 @@
+package scheduler.algoritmos;
+
+import java.util.Iterator;
+import java.util.List;
+
+import scheduler.ReadyQueue;
+import threads.ProcessThread;
+
+/**
+ * Base para políticas que delegan la cola READY en un ReadyQueue.
+ * Por defecto no expulsa ni tiene quantum.
+ */
+public abstract class AbstractQueuePolicy implements SchedulingPolicy {
+    protected final ReadyQueue queue;
+
+    protected AbstractQueuePolicy(ReadyQueue queue) {
+        this.queue = queue;
+    }
+
+    @Override
+    public void enqueue(ProcessThread thread) {
+        queue.add(thread);
+    }
+
+    @Override
+    public void enqueuePreempted(ProcessThread thread) {
+        queue.addFirst(thread);
+    }
+
+    @Override
+    public ProcessThread pickNext() {
+        return queue.poll();
+    }
+
+    @Override
+    public boolean shouldPreempt(ProcessThread running) {
+        return false;
+    }
+
+    @Override
+    public boolean onTick(ProcessThread running, int unitsUsed) {
+        return false;
+    }
+
+    @Override
+    public boolean remove(ProcessThread thread) {
+        return queue.remove(thread);
+    }
+
+    @Override
+    public boolean contains(ProcessThread thread) {
+        return queue.contains(thread);
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public List<ProcessThread> snapshot() {
+        return queue.snapshot();
+    }
+
+    @Override
+    public Iterator<ProcessThread> iterator() {
+        return queue.iterator();
+    }
+}
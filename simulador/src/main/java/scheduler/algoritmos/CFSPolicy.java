@@ -0,0 +1,455 @@
+package scheduler.algoritmos;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import process.Process;
+import process.ProcessState;
+import threads.ProcessThread;
+
+/**
+ * Completely Fair Scheduler. Cada proceso acumula un vruntime que crece
+ * más lento cuanto mayor es su peso (derivado de la prioridad, menor valor =
+ * más peso). Se despacha siempre el de menor vruntime, guardado en un árbol
+ * (TreeSet). El turno de cada proceso es su parte proporcional de la
+ * latencia objetivo, nunca menor que la granularidad mínima.
+ *
+ * Como en Linux, el turno se calcula sobre la cola de esta instancia: con
+ * varios núcleos cada uno tiene la suya y el peso que reparte la latencia es
+ * solo el de los procesos listos en ese núcleo, no el de todo el sistema.
+ */
+public class CFSPolicy implements SchedulingPolicy {
+    public static final int DEFAULT_TARGET_LATENCY = 12;
+    public static final int DEFAULT_MIN_GRANULARITY = 2;
+
+    // Peso de prioridad 0 y resolución del vruntime (unidades por ciclo)
+    private static final int NICE_0_WEIGHT = 1024;
+    private static final long VRUNTIME_SCALE = 1024;
+
+    private final int targetLatency;
+    private final int minGranularity;
+
+    private final TreeSet<Entry> tree = new TreeSet<>(
+        Comparator.comparingLong((Entry e) -> e.key).thenComparingLong(e -> e.seq));
+    private final Map<ProcessThread, Entry> entries = new LinkedHashMap<>();
+    // Procesos despachados que todavía no se sabe si dejaron de estar listos
+    private final List<Entry> onCpu = new ArrayList<>();
+    private long nextSeq = 0;
+    private long treeWeight = 0;
+    private long minVruntime = 0;
+    private boolean wakeupPending = false;
+
+    // Reloj de reparto justo: CPU ideal acumulada por unidad de peso
+    private double fairClock = 0.0;
+    private int pendingCycles = 0;
+
+    // Desvíos de los procesos terminados, ya sin entrada en el mapa
+    private int finishedCount = 0;
+    private double finishedAbsSum = 0.0;
+    private double finishedMax = 0.0;
+
+    private static class Entry {
+        final ProcessThread thread;
+        final int weight;
+        long seq;
+        long key;             // vruntime con el que está en el árbol
+        long vruntimeBase;    // vruntime = base + (cpu - cpuBase) escalado por peso
+        int cpuBase;
+        int cpuAtStart;
+        int slice;
+        boolean queued;
+        boolean runnable;
+        boolean finished;
+        double fairStart;
+        double idealCpu;
+
+        Entry(ProcessThread thread, int weight) {
+            this.thread = thread;
+            this.weight = weight;
+        }
+    }
+
+    public CFSPolicy() {
+        this(DEFAULT_TARGET_LATENCY, DEFAULT_MIN_GRANULARITY);
+    }
+
+    public CFSPolicy(int targetLatency, int minGranularity) {
+        if (targetLatency <= 0 || minGranularity <= 0) {
+            throw new IllegalArgumentException("Latencia y granularidad deben ser positivas");
+        }
+        this.targetLatency = targetLatency;
+        this.minGranularity = minGranularity;
+    }
+
+    /**
+     * Peso al estilo Linux: cada nivel de prioridad vale ~25% menos CPU que el anterior.
+     */
+    public static int weightOf(int priority) {
+        return (int) Math.max(1, Math.round(NICE_0_WEIGHT / Math.pow(1.25, priority)));
+    }
+
+    private Entry entryOf(ProcessThread thread) {
+        Entry e = entries.get(thread);
+        if (e == null) {
+            Process p = thread.getProcess();
+            e = new Entry(thread, weightOf(p.getPriority()));
+            e.cpuBase = p.getCpu_usage();
+            e.cpuAtStart = e.cpuBase;
+            e.vruntimeBase = minVruntime;
+            e.slice = targetLatency;
+            entries.put(thread, e);
+        }
+        return e;
+    }
+
+    // Se calcula desde el uso de CPU acumulado, así da igual si las unidades
+    // se ejecutaron de a una o en un salto
+    private long vruntime(Entry e) {
+        long delta = e.thread.getProcess().getCpu_usage() - e.cpuBase;
+        return e.vruntimeBase + delta * VRUNTIME_SCALE * NICE_0_WEIGHT / e.weight;
+    }
+
+    private void setVruntime(Entry e, long v) {
+        e.vruntimeBase = v;
+        e.cpuBase = e.thread.getProcess().getCpu_usage();
+    }
+
+    private void updateMinVruntime() {
+        long candidato = Long.MAX_VALUE;
+        for (Entry e : onCpu) {
+            if (e.thread.getProcess().getState() == ProcessState.RUNNING) {
+                candidato = Math.min(candidato, vruntime(e));
+            }
+        }
+        if (!tree.isEmpty()) {
+            candidato = Math.min(candidato, tree.first().key);
+        }
+        if (candidato != Long.MAX_VALUE) {
+            minVruntime = Math.max(minVruntime, candidato);
+        }
+    }
+
+    private void push(ProcessThread thread) {
+        updateMinVruntime();
+        Entry e = entryOf(thread);
+        if (e.queued) {
+            return;
+        }
+        if (e.runnable) {
+            // Venía de la CPU (quantum, apropiación): conserva su vruntime
+            onCpu.remove(e);
+        } else {
+            // Llega o despierta: no puede traer más crédito que media latencia
+            long credito = (long) targetLatency * VRUNTIME_SCALE / 2;
+            setVruntime(e, Math.max(vruntime(e), minVruntime - credito));
+            e.runnable = true;
+            e.fairStart = fairClock;
+            wakeupPending = true;
+        }
+        e.key = vruntime(e);
+        e.seq = nextSeq++;
+        e.queued = true;
+        tree.add(e);
+        treeWeight += e.weight;
+    }
+
+    @Override
+    public void enqueue(ProcessThread thread) {
+        push(thread);
+    }
+
+    @Override
+    public void enqueuePreempted(ProcessThread thread) {
+        push(thread);
+    }
+
+    @Override
+    public ProcessThread pickNext() {
+        Entry e = tree.pollFirst();
+        wakeupPending = false;
+        if (e == null) {
+            return null;
+        }
+        e.queued = false;
+        treeWeight -= e.weight;
+        long total = treeWeight + e.weight;
+        e.slice = (int) Math.max(minGranularity, (long) targetLatency * e.weight / total);
+        onCpu.add(e);
+        updateMinVruntime();
+        return e.thread;
+    }
+
+    // Solo se evalúa tras una llegada o un despertar, como el wakeup preemption de Linux
+    @Override
+    public boolean shouldPreempt(ProcessThread running) {
+        if (!wakeupPending || tree.isEmpty()) {
+            return false;
+        }
+        wakeupPending = false;
+        long ventaja = vruntime(entryOf(running)) - tree.first().key;
+        return ventaja > (long) minGranularity * VRUNTIME_SCALE;
+    }
+
+    @Override
+    public boolean onTick(ProcessThread running, int unitsUsed) {
+        return unitsUsed >= entryOf(running).slice;
+    }
+
+    @Override
+    public int unitsUntilExpiry(ProcessThread running, int unitsUsed) {
+        return entryOf(running).slice - unitsUsed;
+    }
+
+    @Override
+    public void onCycle(int tiempoGlobal, int ciclos) {
+        // Repartir los ciclos anteriores entre los que estuvieron listos
+        long pesoListo = runnableWeight();
+        if (pesoListo > 0) {
+            fairClock += (double) pendingCycles / pesoListo;
+        }
+        pendingCycles = ciclos;
+
+        // Los que dejaron la CPU sin volver a la cola (E/S, fin, memoria) ya no compiten
+        Iterator<Entry> it = onCpu.iterator();
+        while (it.hasNext()) {
+            Entry e = it.next();
+            if (e.thread.getProcess().getState() != ProcessState.RUNNING) {
+                e.idealCpu += e.weight * (fairClock - e.fairStart);
+                e.runnable = false;
+                it.remove();
+                if (e.finished) {
+                    fold(e);
+                }
+            }
+        }
+    }
+
+    /*
+     * El proceso terminó: si todavía cuenta para el reparto del último ciclo
+     * se suelta en el próximo onCycle, cuando su CPU ideal ya es definitiva.
+     */
+    @Override
+    public void onTerminate(ProcessThread thread) {
+        Entry e = entries.get(thread);
+        if (e == null) {
+            return;
+        }
+        if (e.queued) {
+            tree.remove(e);
+            e.queued = false;
+            treeWeight -= e.weight;
+            e.idealCpu += e.weight * (fairClock - e.fairStart);
+            e.runnable = false;
+        }
+        e.finished = true;
+        if (!e.runnable) {
+            fold(e);
+        }
+    }
+
+    // Acumula el desvío final del proceso y borra su entrada
+    private void fold(Entry e) {
+        double desvio = Math.abs(getFairnessDeviation(e.thread));
+        finishedCount++;
+        finishedAbsSum += desvio;
+        finishedMax = Math.max(finishedMax, desvio);
+        entries.remove(e.thread);
+    }
+
+    private long runnableWeight() {
+        long peso = treeWeight;
+        for (Entry e : onCpu) {
+            peso += e.weight;
+        }
+        return peso;
+    }
+
+    @Override
+    public boolean remove(ProcessThread thread) {
+        Entry e = entries.get(thread);
+        if (e == null || !e.queued) {
+            return false;
+        }
+        tree.remove(e);
+        e.queued = false;
+        treeWeight -= e.weight;
+        // Sale de esta política: deja de contar para el reparto
+        e.idealCpu += e.weight * (fairClock - e.fairStart);
+        e.runnable = false;
+        return true;
+    }
+
+    /*
+     * Al migrar el vruntime viaja relativo al mínimo de la cola, como en
+     * Linux: el hilo no llega a la otra cola con crédito ni con deuda por la
+     * diferencia entre los relojes de ambas.
+     */
+    @Override
+    public Object detach(ProcessThread thread) {
+        Entry e = entries.remove(thread);
+        if (e == null) {
+            return null;
+        }
+        if (e.queued) {
+            tree.remove(e);
+            e.queued = false;
+            treeWeight -= e.weight;
+        }
+        onCpu.remove(e);
+        if (e.runnable) {
+            e.idealCpu += e.weight * (fairClock - e.fairStart);
+        }
+        updateMinVruntime();
+        setVruntime(e, vruntime(e) - minVruntime);
+        return e;
+    }
+
+    @Override
+    public void attach(ProcessThread thread, Object state) {
+        if (!(state instanceof Entry)) {
+            enqueue(thread);
+            return;
+        }
+        Entry e = (Entry) state;
+        updateMinVruntime();
+        setVruntime(e, e.vruntimeBase + minVruntime);
+        entries.put(thread, e);
+        e.runnable = true;
+        e.fairStart = fairClock;
+        e.key = vruntime(e);
+        e.seq = nextSeq++;
+        e.queued = true;
+        tree.add(e);
+        treeWeight += e.weight;
+    }
+
+    @Override
+    public boolean contains(ProcessThread thread) {
+        Entry e = entries.get(thread);
+        return e != null && e.queued;
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+    @Override
+    public List<ProcessThread> snapshot() {
+        List<ProcessThread> copia = new ArrayList<>(tree.size());
+        for (Entry e : tree) {
+            copia.add(e.thread);
+        }
+        return copia;
+    }
+
+    @Override
+    public Iterator<ProcessThread> iterator() {
+        Iterator<Entry> it = tree.iterator();
+        return new Iterator<ProcessThread>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public ProcessThread next() {
+                return it.next().thread;
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return "CFS";
+    }
+
+    public int getTargetLatency() {
+        return targetLatency;
+    }
+
+    public int getMinGranularity() {
+        return minGranularity;
+    }
+
+    // Procesos con entrada en el árbol, en CPU o bloqueados; los terminados, en CPU o en E/S, se sueltan
+    public int getTrackedCount() {
+        return entries.size();
+    }
+
+    // vruntime en ciclos ponderados, o -1 si la política no conoce al proceso
+    public double getVruntime(ProcessThread thread) {
+        Entry e = entries.get(thread);
+        return e == null ? -1 : (double) vruntime(e) / VRUNTIME_SCALE;
+    }
+
+    public int getSlice(ProcessThread thread) {
+        Entry e = entries.get(thread);
+        return e == null ? 0 : e.slice;
+    }
+
+    /**
+     * CPU que le correspondía al proceso si el reparto entre los listos
+     * fuera exactamente proporcional al peso (mientras estuvo en esta política).
+     */
+    public double getIdealCpu(ProcessThread thread) {
+        Entry e = entries.get(thread);
+        if (e == null) {
+            return 0.0;
+        }
+        if (!e.runnable) {
+            return e.idealCpu;
+        }
+        long pesoListo = runnableWeight();
+        double reloj = fairClock + (pesoListo > 0 ? (double) pendingCycles / pesoListo : 0.0);
+        return e.idealCpu + e.weight * (reloj - e.fairStart);
+    }
+
+    // Desvío de justicia: CPU recibida menos CPU ideal (positivo = recibió de más)
+    public double getFairnessDeviation(ProcessThread thread) {
+        Entry e = entries.get(thread);
+        if (e == null) {
+            return 0.0;
+        }
+        int recibida = thread.getProcess().getCpu_usage() - e.cpuAtStart;
+        return recibida - getIdealCpu(thread);
+    }
+
+    public double getMaxFairnessDeviation() {
+        double max = finishedMax;
+        for (ProcessThread t : entries.keySet()) {
+            max = Math.max(max, Math.abs(getFairnessDeviation(t)));
+        }
+        return max;
+    }
+
+    public void printStatistics() {
+        System.out.println("\nESTADÍSTICAS CFS:");
+        System.out.println("Latencia objetivo: " + targetLatency + ", Granularidad mínima: " + minGranularity);
+        System.out.println(String.format("%-6s %6s %10s %6s %8s %8s",
+                "PID", "Peso", "vruntime", "CPU", "Ideal", "Desvío"));
+        double sumaAbs = 0.0;
+        for (Map.Entry<ProcessThread, Entry> me : entries.entrySet()) {
+            ProcessThread t = me.getKey();
+            Entry e = me.getValue();
+            double desvio = getFairnessDeviation(t);
+            sumaAbs += Math.abs(desvio);
+            System.out.println(String.format("%-6s %6d %10.2f %6d %8.2f %8.2f",
+                    t.getProcess().getPID(), e.weight, getVruntime(t),
+                    t.getProcess().getCpu_usage() - e.cpuAtStart, getIdealCpu(t), desvio));
+        }
+        int total = entries.size() + finishedCount;
+        if (finishedCount > 0) {
+            System.out.println("Terminados (sin detalle): " + finishedCount);
+        }
+        if (total > 0) {
+            System.out.println(String.format("Desvío máximo: %.2f, Desvío medio absoluto: %.2f",
+                    getMaxFairnessDeviation(), (sumaAbs + finishedAbsSum) / total));
+        }
+    }
+}
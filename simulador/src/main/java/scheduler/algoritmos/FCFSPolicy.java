@@ -0,0 +1,15 @@
+package scheduler.algoritmos;
+
+import scheduler.FifoReadyQueue;
+
+public class FCFSPolicy extends AbstractQueuePolicy {
+
+    public FCFSPolicy() {
+        super(new FifoReadyQueue());
+    }
+
+    @Override
+    public String getName() {
+        return "FCFS";
+    }
+}
@@ -0,0 +1,397 @@
+package scheduler.algoritmos;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import logging.Log;
+import scheduler.FifoReadyQueue;
+import threads.ProcessThread;
+
+/**
+ * Multi-level feedback queue. El nivel 0 es el de mayor prioridad; cada
+ * nivel es una cola FIFO con su propio quantum (un quantum <= 0 significa
+ * sin límite, FCFS). Un proceso que agota su quantum baja un nivel; uno
+ * que deja la CPU antes (E/S, fin de ráfaga) conserva su nivel. Cada
+ * boostPeriod ciclos todos los procesos vuelven al nivel 0.
+ */
+public class MLFQPolicy implements SchedulingPolicy {
+    public static final int DEFAULT_BOOST_PERIOD = 50;
+
+    private final int[] quantums;
+    private final FifoReadyQueue[] levels;
+    private final LevelStats[] stats;
+    private final int boostPeriod;
+    private final Map<ProcessThread, Entry> entries = new IdentityHashMap<>();
+    private int size = 0;
+    private int boosts = 0;
+    private int now = 0;
+
+    // Estado por proceso
+    private static class Entry {
+        int level;          // nivel donde está (o volverá a) encolado
+        int runLevel;       // nivel con el que fue despachado por última vez
+        boolean queued;
+        boolean boostedWhileRunning;
+        int enqueuedAt;
+    }
+
+    /**
+     * Métricas acumuladas de un nivel.
+     */
+    public static class LevelStats {
+        private long lengthSum;
+        private long sampledCycles;
+        private int maxLength;
+        private long residenceSum;
+        private int residenceCount;
+        private int dispatches;
+        private int demotions;
+
+        public double getAverageLength() {
+            return sampledCycles == 0 ? 0.0 : (double) lengthSum / sampledCycles;
+        }
+
+        public int getMaxLength() { return maxLength; }
+
+        // Ciclos promedio que un proceso pasa encolado en este nivel
+        public double getAverageResidence() {
+            return residenceCount == 0 ? 0.0 : (double) residenceSum / residenceCount;
+        }
+
+        public long getTotalResidence() { return residenceSum; }
+
+        public int getDispatches() { return dispatches; }
+
+        public int getDemotions() { return demotions; }
+    }
+
+    public MLFQPolicy(int[] quantums, int boostPeriod) {
+        if (quantums == null || quantums.length == 0) {
+            throw new IllegalArgumentException("MLFQ necesita al menos un nivel");
+        }
+        this.quantums = quantums.clone();
+        this.boostPeriod = boostPeriod;
+        this.levels = new FifoReadyQueue[quantums.length];
+        this.stats = new LevelStats[quantums.length];
+        for (int i = 0; i < quantums.length; i++) {
+            levels[i] = new FifoReadyQueue();
+            stats[i] = new LevelStats();
+        }
+    }
+
+    // El quantum se duplica en cada nivel: base, 2*base, 4*base...
+    public MLFQPolicy(int levelCount, int baseQuantum, int boostPeriod) {
+        this(doublingQuantums(levelCount, baseQuantum), boostPeriod);
+    }
+
+    private static int[] doublingQuantums(int levelCount, int baseQuantum) {
+        if (levelCount <= 0) {
+            throw new IllegalArgumentException("MLFQ necesita al menos un nivel");
+        }
+        int[] q = new int[levelCount];
+        for (int i = 0; i < levelCount; i++) {
+            q[i] = baseQuantum << i;
+        }
+        return q;
+    }
+
+    private Entry entryOf(ProcessThread thread) {
+        Entry e = entries.get(thread);
+        if (e == null) {
+            e = new Entry();
+            entries.put(thread, e);
+        }
+        return e;
+    }
+
+    private void push(ProcessThread thread, boolean front) {
+        Entry e = entryOf(thread);
+        if (front) {
+            levels[e.level].addFirst(thread);
+        } else {
+            levels[e.level].add(thread);
+        }
+        e.queued = true;
+        e.enqueuedAt = now;
+        size++;
+        LevelStats s = stats[e.level];
+        s.maxLength = Math.max(s.maxLength, levels[e.level].size());
+    }
+
+    private void leaveQueue(Entry e) {
+        e.queued = false;
+        size--;
+        LevelStats s = stats[e.level];
+        s.residenceSum += now - e.enqueuedAt;
+        s.residenceCount++;
+    }
+
+    @Override
+    public void enqueue(ProcessThread thread) {
+        push(thread, false);
+    }
+
+    @Override
+    public void enqueuePreempted(ProcessThread thread) {
+        push(thread, true);
+    }
+
+    @Override
+    public ProcessThread pickNext() {
+        for (int i = 0; i < levels.length; i++) {
+            ProcessThread t = levels[i].poll();
+            if (t != null) {
+                Entry e = entries.get(t);
+                leaveQueue(e);
+                e.runLevel = i;
+                e.boostedWhileRunning = false;
+                stats[i].dispatches++;
+                return t;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean shouldPreempt(ProcessThread running) {
+        int level = entryOf(running).level;
+        for (int i = 0; i < level; i++) {
+            if (!levels[i].isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean onTick(ProcessThread running, int unitsUsed) {
+        Entry e = entryOf(running);
+        int q = quantums[e.runLevel];
+        if (q <= 0 || unitsUsed < q) {
+            return false;
+        }
+        // Si hubo boost durante el turno, el proceso se queda arriba
+        if (!e.boostedWhileRunning && e.runLevel < levels.length - 1) {
+            e.level = e.runLevel + 1;
+            stats[e.runLevel].demotions++;
+        }
+        return true;
+    }
+
+    @Override
+    public int unitsUntilExpiry(ProcessThread running, int unitsUsed) {
+        int q = quantums[entryOf(running).runLevel];
+        return q <= 0 ? Integer.MAX_VALUE : q - unitsUsed;
+    }
+
+    @Override
+    public void onCycle(int tiempoGlobal, int ciclos) {
+        now = tiempoGlobal;
+        for (int i = 0; i < levels.length; i++) {
+            stats[i].lengthSum += (long) levels[i].size() * ciclos;
+            stats[i].sampledCycles += ciclos;
+        }
+        if (boostPeriod > 0 && tiempoGlobal > 0 && nextEventCycle(tiempoGlobal) < tiempoGlobal + ciclos) {
+            boost();
+        }
+    }
+
+    @Override
+    public int nextEventCycle(int tiempoGlobal) {
+        if (boostPeriod <= 0) {
+            return Integer.MAX_VALUE;
+        }
+        int t = Math.max(tiempoGlobal, 1);
+        return ((t + boostPeriod - 1) / boostPeriod) * boostPeriod;
+    }
+
+    // Todos los procesos vuelven al nivel 0, conservando el orden por nivel
+    private void boost() {
+        boosts++;
+        for (int i = 1; i < levels.length; i++) {
+            ProcessThread t;
+            while ((t = levels[i].poll()) != null) {
+                Entry e = entries.get(t);
+                leaveQueue(e);
+                e.level = 0;
+                push(t, false);
+            }
+        }
+        for (Entry e : entries.values()) {
+            if (!e.queued) {
+                e.level = 0;
+                e.boostedWhileRunning = true;
+            }
+        }
+        if (Log.isDebugEnabled()) {
+            Log.debug("[MLFQ] Boost en T=" + now + ": todos los procesos al nivel 0");
+        }
+    }
+
+    // El nivel, el último despacho y el momento en que entró a READY viajan con el hilo
+    @Override
+    public Object detach(ProcessThread thread) {
+        Entry e = entries.remove(thread);
+        if (e != null && e.queued && levels[e.level].remove(thread)) {
+            e.queued = false;
+            size--;
+        }
+        return e;
+    }
+
+    @Override
+    public void attach(ProcessThread thread, Object state) {
+        if (!(state instanceof Entry)) {
+            enqueue(thread);
+            return;
+        }
+        Entry e = (Entry) state;
+        int enqueuedAt = e.enqueuedAt;
+        e.level = Math.min(e.level, levels.length - 1);
+        e.runLevel = Math.min(e.runLevel, levels.length - 1);
+        entries.put(thread, e);
+        push(thread, false);
+        e.enqueuedAt = enqueuedAt;
+    }
+
+    @Override
+    public void onTerminate(ProcessThread thread) {
+        Entry e = entries.remove(thread);
+        if (e != null && e.queued && levels[e.level].remove(thread)) {
+            leaveQueue(e);
+        }
+    }
+
+    @Override
+    public boolean remove(ProcessThread thread) {
+        Entry e = entries.get(thread);
+        if (e == null || !e.queued || !levels[e.level].remove(thread)) {
+            return false;
+        }
+        leaveQueue(e);
+        return true;
+    }
+
+    @Override
+    public boolean contains(ProcessThread thread) {
+        Entry e = entries.get(thread);
+        return e != null && e.queued;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<ProcessThread> snapshot() {
+        List<ProcessThread> copia = new ArrayList<>(size);
+        for (FifoReadyQueue level : levels) {
+            copia.addAll(level.snapshot());
+        }
+        return copia;
+    }
+
+    @Override
+    public Iterator<ProcessThread> iterator() {
+        return new Iterator<ProcessThread>() {
+            private int level = 0;
+            private Iterator<ProcessThread> current = levels[0].iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && level < levels.length - 1) {
+                    current = levels[++level].iterator();
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public ProcessThread next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return "MLFQ";
+    }
+
+    public int getLevelCount() {
+        return levels.length;
+    }
+
+    public int getQuantum(int level) {
+        return quantums[level];
+    }
+
+    /**
+     * Cambia el quantum del nivel 0 y escala los demás en la misma
+     * proporción: con Q, 2Q, 4Q queda q, 2q, 4q. Los niveles sin límite
+     * siguen sin límite; si el nivel 0 no tiene límite no cambia nada.
+     */
+    public void setBaseQuantum(int quantum) {
+        if (quantum <= 0) {
+            throw new IllegalArgumentException("Quantum inválido: " + quantum);
+        }
+        int base = quantums[0];
+        if (base <= 0) {
+            return;
+        }
+        for (int i = 0; i < quantums.length; i++) {
+            if (quantums[i] > 0) {
+                quantums[i] = (int) Math.max(1, (long) quantums[i] * quantum / base);
+            }
+        }
+    }
+
+    // Procesos de los que la política guarda estado (encolados, en CPU o bloqueados)
+    public int getTrackedCount() {
+        return entries.size();
+    }
+
+    public int getBoostPeriod() {
+        return boostPeriod;
+    }
+
+    // Nivel actual del proceso, o -1 si la política no lo conoce
+    public int getLevel(ProcessThread thread) {
+        Entry e = entries.get(thread);
+        return e == null ? -1 : e.level;
+    }
+
+    public int getQueueLength(int level) {
+        return levels[level].size();
+    }
+
+    public LevelStats getStats(int level) {
+        return stats[level];
+    }
+
+    public int getBoosts() {
+        return boosts;
+    }
+
+    public void printStatistics() {
+        System.out.println("\nESTADÍSTICAS MLFQ:");
+        System.out.println("Niveles: " + levels.length + ", Boost cada: " +
+                (boostPeriod > 0 ? boostPeriod + " ciclos" : "nunca") + ", Boosts: " + boosts);
+        System.out.println(String.format("%-6s %8s %10s %8s %10s %10s %10s",
+                "Nivel", "Quantum", "Long.prom", "Long.max", "Resid.prom", "Despachos", "Descensos"));
+        for (int i = 0; i < levels.length; i++) {
+            LevelStats s = stats[i];
+            System.out.println(String.format("%-6d %8s %10.2f %8d %10.2f %10d %10d",
+                    i, quantums[i] > 0 ? String.valueOf(quantums[i]) : "-",
+                    s.getAverageLength(), s.getMaxLength(), s.getAverageResidence(),
+                    s.getDispatches(), s.getDemotions()));
+        }
+    }
+}
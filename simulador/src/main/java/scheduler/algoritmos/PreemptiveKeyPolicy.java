@@ -0,0 +1,31 @@
+package scheduler.algoritmos;
+
+import java.util.function.ToIntFunction;
+
+import scheduler.HeapReadyQueue;
+import threads.ProcessThread;
+
+/**
+ * Política apropiativa que elige siempre la clave mínima. Un proceso en
+ * READY expulsa al que está en CPU solo si su clave es estrictamente menor.
+ */
+public abstract class PreemptiveKeyPolicy extends AbstractQueuePolicy {
+    private final ToIntFunction<ProcessThread> key;
+
+    protected PreemptiveKeyPolicy(ToIntFunction<ProcessThread> key) {
+        super(new HeapReadyQueue(key));
+        this.key = key;
+    }
+
+    @Override
+    public boolean shouldPreempt(ProcessThread running) {
+        ProcessThread candidate = queue.peek();
+        if (candidate == null || candidate.getProcess() == null) {
+            return false;
+        }
+        if (running == null || running.getProcess() == null) {
+            return true;
+        }
+        return key.applyAsInt(candidate) < key.applyAsInt(running);
+    }
+}
@@ -0,0 +1,16 @@
+package scheduler.algoritmos;
+
+/**
+ * Prioridad apropiativa: menor número = mayor prioridad.
+ */
+public class PriorityPolicy extends PreemptiveKeyPolicy {
+
+    public PriorityPolicy() {
+        super(t -> t.getProcess().getPriority());
+    }
+
+    @Override
+    public String getName() {
+        return "PRIORITY";
+    }
+}
@@ -0,0 +1,36 @@
+package scheduler.algoritmos;
+
+import scheduler.FifoReadyQueue;
+import threads.ProcessThread;
+
+public class RoundRobinPolicy extends AbstractQueuePolicy {
+    private int quantum;
+
+    public RoundRobinPolicy(int quantum) {
+        super(new FifoReadyQueue());
+        this.quantum = quantum;
+    }
+
+    public int getQuantum() {
+        return quantum;
+    }
+
+    public void setQuantum(int quantum) {
+        this.quantum = quantum;
+    }
+
+    @Override
+    public boolean onTick(ProcessThread running, int unitsUsed) {
+        return unitsUsed >= quantum;
+    }
+
+    @Override
+    public int unitsUntilExpiry(ProcessThread running, int unitsUsed) {
+        return quantum - unitsUsed;
+    }
+
+    @Override
+    public String getName() {
+        return "RR";
+    }
+}
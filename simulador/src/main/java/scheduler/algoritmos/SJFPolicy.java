@@ -0,0 +1,16 @@
+package scheduler.algoritmos;
+
+/**
+ * SJF apropiativo (SRTF): clave = tiempo restante de la ráfaga actual.
+ */
+public class SJFPolicy extends PreemptiveKeyPolicy {
+
+    public SJFPolicy() {
+        super(t -> t.getProcess().getBurst().getTime_remaining());
+    }
+
+    @Override
+    public String getName() {
+        return "SJF";
+    }
+}
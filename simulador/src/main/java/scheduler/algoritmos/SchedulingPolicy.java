@@ -0,0 +1,78 @@
+package scheduler.algoritmos;
+
+import java.util.List;
+
+import threads.ProcessThread;
+
+/**
+ * Política de planificación. Cada política es dueña de su cola READY y
+ * decide qué proceso sigue, cuándo expulsar al que está en CPU y cuándo
+ * se le acaba el turno. El Scheduler solo la consulta.
+ */
+public interface SchedulingPolicy extends Iterable<ProcessThread> {
+
+    // Proceso que llega o vuelve a READY (llegada, fin de E/S, fin de quantum)
+    void enqueue(ProcessThread thread);
+
+    // Proceso expulsado por apropiación: gana los empates
+    void enqueuePreempted(ProcessThread thread);
+
+    // Saca de la cola el siguiente a despachar, o null si está vacía
+    ProcessThread pickNext();
+
+    // ¿Hay en la cola alguien que deba expulsar al que está en CPU?
+    boolean shouldPreempt(ProcessThread running);
+
+    // Se llama tras cada unidad de CPU que no terminó la ráfaga.
+    // Retorna true si el proceso debe dejar la CPU (fin de quantum).
+    boolean onTick(ProcessThread running, int unitsUsed);
+
+    // Unidades que le quedan al proceso antes de que onTick lo desaloje
+    default int unitsUntilExpiry(ProcessThread running, int unitsUsed) {
+        return Integer.MAX_VALUE;
+    }
+
+    // Se llama al inicio de cada ciclo (o de un salto de 'ciclos' ciclos)
+    default void onCycle(int tiempoGlobal, int ciclos) {
+    }
+
+    // Próximo ciclo >= tiempoGlobal en que la política cambia por sí sola
+    // (p. ej. un boost). El scheduler no salta por encima de ese ciclo.
+    default int nextEventCycle(int tiempoGlobal) {
+        return Integer.MAX_VALUE;
+    }
+
+    /*
+     * Migración entre núcleos (robo de trabajo). detach saca al hilo de la
+     * cola y devuelve el estado que la política guarda de él (nivel,
+     * vruntime, desde cuándo espera); attach lo encola en otra instancia de
+     * la misma política con ese estado. Sin estado propio basta con encolar.
+     */
+    default Object detach(ProcessThread thread) {
+        remove(thread);
+        return null;
+    }
+
+    default void attach(ProcessThread thread, Object state) {
+        enqueue(thread);
+    }
+
+    // El proceso terminó: la política suelta lo que guardaba de él
+    default void onTerminate(ProcessThread thread) {
+    }
+
+    boolean remove(ProcessThread thread);
+
+    boolean contains(ProcessThread thread);
+
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // Copia de la cola en orden de despacho
+    List<ProcessThread> snapshot();
+
+    String getName();
+}
@@ -0,0 +1,324 @@
+package simulation;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import logging.AsyncFileSink;
+import logging.ConsoleSink;
+import logging.Level;
+import logging.Log;
+import memory.MemoryManager;
+import memory.Prefetcher;
+import memory.TLB;
+import memory.algoritmos.ARC;
+import memory.algoritmos.Clock;
+import memory.algoritmos.EnhancedSecondChance;
+import memory.algoritmos.FIFO;
+import memory.algoritmos.LRU;
+import memory.algoritmos.Optimo;
+import memory.algoritmos.ReplacementAlgorithm;
+import memory.algoritmos.TwoQ;
+import process.InputParser;
+import process.Process;
+import process.ProcessState;
+import scheduler.Core;
+import scheduler.Scheduler;
+import scheduler.algoritmos.CFSPolicy;
+import scheduler.algoritmos.MLFQPolicy;
+
+/**
+ * Ejecuta una simulación completa sin GUI, en modo headless.
+ *
+ * Uso: HeadlessRunner archivo [FCFS|SJF|RR|PRIORITY|MLFQ|CFS] [quantum] [frames] [FIFO|LRU|OPTIMO|CLOCK|ESC|ARC|2Q] [opciones]
+ *
+ * Opciones: --quiet, --event, --demand (paginación por demanda según la
+ * SEQ[] de cada proceso), --prefetch=N (lectura anticipada de N páginas por
+ * fallo) o --prefetch=adaptive[:N] (ventana que crece hasta N mientras el
+ * proceso recorra en orden), --tlb=N (TLB de N entradas; con --tlb-ways=N,
+ * --tlb-policy=LRU|RANDOM, --tlb-asid y --tlb-penalty=N), --cores=N, --boost=N (MLFQ),
+ * --latency=N y --granularity=N (CFS), --log=OFF|ERROR|WARN|INFO|DEBUG|TRACE
+ * y --logfile=ruta (log asíncrono a archivo en vez de consola).
+ * Con --quiet el log se apaga salvo que se pida --log o --logfile.
+ */
+public class HeadlessRunner {
+
+    private static final int MAX_CYCLES = Integer.MAX_VALUE;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Uso: HeadlessRunner archivo [FCFS|SJF|RR|PRIORITY|MLFQ|CFS] [quantum] [frames] [FIFO|LRU|OPTIMO|CLOCK|ESC|ARC|2Q] [--quiet] [--event] [--demand] [--prefetch=N|adaptive[:N]] [--tlb=N] [--tlb-ways=N] [--tlb-policy=LRU|RANDOM] [--tlb-asid] [--tlb-penalty=N] [--cores=N] [--boost=N] [--latency=N] [--granularity=N] [--log=NIVEL] [--logfile=ruta]");
+            System.exit(1);
+        }
+
+        String archivo = args[0];
+        String algoritmo = args.length > 1 ? args[1].toUpperCase() : "FCFS";
+        int quantum = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        int frames = args.length > 3 ? Integer.parseInt(args[3]) : 8;
+        String memoria = args.length > 4 ? args[4] : "FIFO";
+        boolean quiet = false;
+        boolean eventDriven = false;
+        boolean demanda = false;
+        boolean asid = false;
+        Map<String, String> opciones = new HashMap<>();
+        for (String arg : args) {
+            if (arg.equals("--quiet")) {
+                quiet = true;
+            } else if (arg.equals("--event")) {
+                eventDriven = true;
+            } else if (arg.equals("--demand")) {
+                demanda = true;
+            } else if (arg.equals("--tlb-asid")) {
+                asid = true;
+            } else if (arg.startsWith("--") && arg.contains("=")) {
+                int igual = arg.indexOf('=');
+                opciones.put(arg.substring(2, igual), arg.substring(igual + 1));
+            }
+        }
+        int nucleos = intOption(opciones, "cores", 1);
+        configureLog(opciones, quiet);
+
+        InputParser parser = new InputParser(archivo);
+        parser.obtenerProcesos();
+        parser.crearProcesos();
+        ArrayList<Process> procesos = parser.get_process();
+
+        PrintStream consola = System.out;
+        if (quiet) {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+
+        long inicio = System.nanoTime();
+        int ciclos;
+        MemoryManager memory;
+        Scheduler scheduler;
+        try {
+            scheduler = new Scheduler();
+            scheduler.setHeadless(true);
+            scheduler.setEventDriven(eventDriven);
+            scheduler.setDemandPaging(demanda);
+            configurePolicy(scheduler, algoritmo, quantum, opciones);
+            scheduler.setCores(nucleos);
+
+            memory = new MemoryManager(frames, createReplacementAlgorithm(memoria, procesos));
+            memory.setPrefetcher(createPrefetcher(opciones.get("prefetch")));
+            memory.setTlb(createTlb(opciones, asid));
+            scheduler.setMemoryManager(memory);
+
+            for (Process p : procesos) {
+                scheduler.addProcess(p);
+            }
+
+            ciclos = scheduler.runToCompletion(MAX_CYCLES);
+            scheduler.shutdown();
+        } finally {
+            Log.flush();
+            System.setOut(consola);
+        }
+        long nanos = System.nanoTime() - inicio;
+        closeLog(opciones.get("logfile"));
+
+        printSummary(procesos, memory, ciclos, nanos);
+        if (demanda) {
+            printResidency(procesos, memory);
+        }
+        if (memory.getPrefetcher() != null) {
+            printPrefetch(procesos, memory);
+        }
+        List<TLB> tlbs = memory.getTlbs();
+        for (int i = 0; i < tlbs.size(); i++) {
+            printTlb(tlbs.size() > 1 ? "CPU" + i + " " : "", tlbs.get(i));
+        }
+        if (scheduler.getCoreCount() > 1) {
+            scheduler.printCoreStatistics();
+        }
+        for (Core core : scheduler.getCores()) {
+            if (scheduler.getCoreCount() > 1 &&
+                (core.getPolicy() instanceof MLFQPolicy || core.getPolicy() instanceof CFSPolicy)) {
+                System.out.println("\nCPU" + core.getId() + ":");
+            }
+            if (core.getPolicy() instanceof MLFQPolicy) {
+                ((MLFQPolicy) core.getPolicy()).printStatistics();
+            } else if (core.getPolicy() instanceof CFSPolicy) {
+                ((CFSPolicy) core.getPolicy()).printStatistics();
+            }
+        }
+    }
+
+    // MLFQ y CFS no son Scheduler.Algorithm: se instalan como política
+    static void configurePolicy(Scheduler scheduler, String nombre, int quantum, Map<String, String> opciones) {
+        if (nombre.equals("MLFQ")) {
+            int boostPeriod = intOption(opciones, "boost", MLFQPolicy.DEFAULT_BOOST_PERIOD);
+            scheduler.setPolicyFactory(() -> new MLFQPolicy(3, quantum, boostPeriod));
+        } else if (nombre.equals("CFS")) {
+            int latencia = intOption(opciones, "latency", CFSPolicy.DEFAULT_TARGET_LATENCY);
+            int granularidad = intOption(opciones, "granularity", CFSPolicy.DEFAULT_MIN_GRANULARITY);
+            scheduler.setPolicyFactory(() -> new CFSPolicy(latencia, granularidad));
+        } else {
+            scheduler.setAlgorithm(Scheduler.Algorithm.valueOf(nombre));
+            scheduler.setQuantum(quantum);
+        }
+    }
+
+    private static int intOption(Map<String, String> opciones, String nombre, int porDefecto) {
+        String valor = opciones.get(nombre);
+        return valor != null ? Integer.parseInt(valor) : porDefecto;
+    }
+
+    private static void configureLog(Map<String, String> opciones, boolean quiet) throws IOException {
+        String nivel = opciones.get("log");
+        String archivo = opciones.get("logfile");
+        if (nivel != null) {
+            Log.setLevel(Level.valueOf(nivel.toUpperCase()));
+        } else if (quiet && archivo == null) {
+            Log.setLevel(Level.OFF);
+        }
+        if (archivo != null) {
+            Log.setSink(new AsyncFileSink(Paths.get(archivo)));
+        }
+    }
+
+    private static void closeLog(String archivo) {
+        if (!(Log.getSink() instanceof AsyncFileSink)) {
+            return;
+        }
+        AsyncFileSink sink = (AsyncFileSink) Log.getSink();
+        Log.setSink(new ConsoleSink());
+        System.out.println("Log: " + sink.getWritten() + " líneas en " + archivo +
+                           (sink.getDropped() > 0 ? " (" + sink.getDropped() + " descartadas)" : ""));
+    }
+
+    // "N" es ventana fija; "adaptive" o "adaptive:N", adaptativa con máximo N
+    static Prefetcher createPrefetcher(String valor) {
+        if (valor == null) {
+            return null;
+        }
+        if (valor.toLowerCase().startsWith("adaptive")) {
+            int dosPuntos = valor.indexOf(':');
+            int maximo = dosPuntos >= 0 ? Integer.parseInt(valor.substring(dosPuntos + 1)) : Prefetcher.DEFAULT_MAX_WINDOW;
+            return new Prefetcher(maximo, true);
+        }
+        return new Prefetcher(Integer.parseInt(valor), false);
+    }
+
+    // --tlb=N lo activa; por defecto totalmente asociativo, LRU y sin ASID
+    static TLB createTlb(Map<String, String> opciones, boolean asid) {
+        if (!opciones.containsKey("tlb")) {
+            return null;
+        }
+        int entradas = intOption(opciones, "tlb", 0);
+        return new TLB(entradas, intOption(opciones, "tlb-ways", entradas),
+                       TLB.Replacement.valueOf(opciones.getOrDefault("tlb-policy", "LRU").toUpperCase()),
+                       asid, intOption(opciones, "tlb-penalty", TLB.DEFAULT_MISS_PENALTY));
+    }
+
+    public static ReplacementAlgorithm createReplacementAlgorithm(String nombre, List<Process> procesos) {
+        switch (nombre.toUpperCase()) {
+            case "LRU":
+                return new LRU();
+            case "CLOCK":
+                return new Clock();
+            case "ESC":
+                return new EnhancedSecondChance();
+            case "ARC":
+                return new ARC();
+            case "2Q":
+                return new TwoQ();
+            case "OPTIMO":
+            case "OPT":
+                Optimo optimo = new Optimo();
+                Map<String, List<Integer>> futuras = new HashMap<>();
+                for (Process p : procesos) {
+                    if (p.getFuturePageSequence() != null) {
+                        futuras.put(p.getPID(), p.getFuturePageSequence());
+                    }
+                }
+                optimo.setFutureAccessSequences(futuras);
+                return optimo;
+            case "FIFO":
+            default:
+                return new FIFO();
+        }
+    }
+
+    private static void printSummary(List<Process> procesos, MemoryManager memory, int ciclos, long nanos) {
+        System.out.println("\n=== RESULTADO HEADLESS ===");
+        System.out.println(String.format("%-6s %8s %8s %8s %8s %8s", "PID", "Llegada", "Inicio", "Fin", "Espera", "Fallos"));
+        for (Process p : procesos) {
+            System.out.println(String.format("%-6s %8d %8d %8d %8d %8d",
+                p.getPID(), p.getT_arrival(), p.getT_start(), p.getT_finish(),
+                p.getT_wait(), memory.getPageFaults(p.getPID())));
+        }
+        int[] esperas = new int[procesos.size()];
+        long sumaEspera = 0;
+        int terminados = 0;
+        for (int i = 0; i < procesos.size(); i++) {
+            esperas[i] = procesos.get(i).getT_wait();
+            sumaEspera += esperas[i];
+            if (procesos.get(i).getState() == ProcessState.TERMINATED) {
+                terminados++;
+            }
+        }
+        Arrays.sort(esperas);
+        if (esperas.length > 0) {
+            int p95 = esperas[(int) Math.ceil(0.95 * esperas.length) - 1];
+            System.out.println(String.format("Espera promedio: %.2f, Espera p95: %d, Espera máxima: %d",
+                (double) sumaEspera / esperas.length, p95, esperas[esperas.length - 1]));
+        }
+        System.out.println(String.format("Throughput: %.4f procesos/ciclo", ciclos > 0 ? (double) terminados / ciclos : 0.0));
+        double segundos = nanos / 1_000_000_000.0;
+        System.out.println("Ciclos simulados: " + ciclos);
+        System.out.println(String.format("Tiempo real: %.3f s (%.0f ciclos/s)", segundos,
+            segundos > 0 ? ciclos / segundos : 0.0));
+    }
+
+    private static void printTlb(String prefijo, TLB tlb) {
+        long aciertos = tlb.getTotalHits();
+        long fallos = tlb.getTotalMisses();
+        long accesos = aciertos + fallos;
+        System.out.println(String.format("%sTLB %s: %d accesos, %.1f%% aciertos, %d cambios de contexto, %d vaciados",
+            prefijo, tlb.getName(), accesos, accesos > 0 ? 100.0 * aciertos / accesos : 0.0,
+            tlb.getContextSwitches(), tlb.getFlushes()));
+        System.out.println(String.format("%sAcceso efectivo a memoria: %.2f ciclos (penalidad por fallo de TLB: %d)",
+            prefijo, tlb.getEffectiveAccessTime(), tlb.getMissPenalty()));
+    }
+
+    // Precisión de la lectura anticipada: cuántas de las páginas traídas se usaron
+    private static void printPrefetch(List<Process> procesos, MemoryManager memory) {
+        int traidas = 0;
+        int usadas = 0;
+        int desperdiciadas = 0;
+        for (Process p : procesos) {
+            traidas += memory.getPrefetched(p.getPID());
+            usadas += memory.getPrefetchHits(p.getPID());
+            desperdiciadas += memory.getPrefetchWasted(p.getPID());
+        }
+        System.out.println(String.format("Prefetch %s: %d traídas, %d usadas (%.1f%%), %d desperdiciadas",
+            memory.getPrefetcher().getName(), traidas, usadas, traidas > 0 ? 100.0 * usadas / traidas : 0.0,
+            desperdiciadas));
+    }
+
+    // Con paginación por demanda solo quedan en memoria las páginas tocadas
+    private static void printResidency(List<Process> procesos, MemoryManager memory) {
+        int residentes = 0;
+        int declaradas = 0;
+        long referencias = 0;
+        int fallos = 0;
+        for (Process p : procesos) {
+            residentes += memory.getResidentPages(p.getPID());
+            declaradas += p.getPages();
+            fallos += memory.getPageFaults(p.getPID());
+            if (p.getFuturePageSequence() != null) {
+                referencias += p.getFuturePageSequence().size();
+            }
+        }
+        System.out.println(String.format("Paginación por demanda: %d referencias, %d fallos, %d de %d páginas residentes al final",
+            referencias, fallos, residentes, declaradas));
+    }
+}
@@ -0,0 +1,356 @@
+package simulation;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import logging.Level;
+import logging.Log;
+import memory.MemoryManager;
+import memory.TLB;
+import process.InputParser;
+import process.Process;
+import process.ProcessState;
+import scheduler.Scheduler;
+import synchronization.SyncManager;
+
+/**
+ * Barrido de parámetros sin GUI: corre la misma carga con cada combinación
+ * de algoritmo × quantum × frames × reemplazo de páginas y emite una tabla
+ * consolidada. Cada configuración es una simulación headless independiente
+ * (copia de los procesos, Scheduler, MemoryManager y SyncManager propios),
+ * así que se reparten en paralelo sobre un ForkJoinPool.
+ *
+ * Uso: ParameterSweep archivo [--algos=FCFS,SJF,RR,PRIORITY] [--quantums=1-20]
+ *      [--frames=4,8,16] [--memory=FIFO,LRU,OPTIMO,CLOCK,ESC,ARC,2Q] [--threads=N] [--event] [--csv=ruta]
+ *      [--demand] [--tlb=N] [--tlb-ways=N] [--tlb-policy=LRU|RANDOM] [--tlb-asid] [--tlb-penalty=N]
+ *
+ * El quantum solo se barre en los algoritmos que lo usan (RR y MLFQ); los
+ * demás corren una vez por combinación de memoria. Con --tlb cada
+ * simulación tiene su propio TLB y la tabla agrega el porcentaje de aciertos
+ * del TLB, los cambios de contexto y el tiempo efectivo de acceso; junto con
+ * --demand (una referencia por unidad de CPU) muestra cómo el quantum de RR
+ * cambia el costo de acceso a memoria.
+ */
+public class ParameterSweep {
+
+    private static final List<String> CON_QUANTUM = List.of("RR", "MLFQ");
+
+    /**
+     * Una combinación de parámetros del barrido.
+     */
+    public static class Config {
+        private final String algoritmo;
+        private final int quantum;
+        private final int frames;
+        private final String memoria;
+
+        public Config(String algoritmo, int quantum, int frames, String memoria) {
+            this.algoritmo = algoritmo;
+            this.quantum = quantum;
+            this.frames = frames;
+            this.memoria = memoria;
+        }
+
+        public String getAlgoritmo() { return algoritmo; }
+        public int getQuantum() { return quantum; }
+        public int getFrames() { return frames; }
+        public String getMemoria() { return memoria; }
+
+        @Override
+        public String toString() {
+            return algoritmo + (CON_QUANTUM.contains(algoritmo) ? " q=" + quantum : "") +
+                   " frames=" + frames + " " + memoria;
+        }
+    }
+
+    /**
+     * Métricas de una simulación. Los promedios son sobre los procesos que
+     * ejecutaron y terminaron.
+     */
+    public static class Result {
+        private final Config config;
+        private final int ciclos;
+        private final int terminados;
+        private final double esperaMedia;
+        private final double retornoMedio;
+        private final double respuestaMedia;
+        private final int fallos;
+        private final int reemplazos;
+        private final TLB tlb;
+
+        Result(Config config, int ciclos, int terminados, double esperaMedia, double retornoMedio,
+               double respuestaMedia, int fallos, int reemplazos, TLB tlb) {
+            this.config = config;
+            this.ciclos = ciclos;
+            this.terminados = terminados;
+            this.esperaMedia = esperaMedia;
+            this.retornoMedio = retornoMedio;
+            this.respuestaMedia = respuestaMedia;
+            this.fallos = fallos;
+            this.reemplazos = reemplazos;
+            this.tlb = tlb;
+        }
+
+        public Config getConfig() { return config; }
+        public int getCiclos() { return ciclos; }
+        public int getTerminados() { return terminados; }
+        public double getEsperaMedia() { return esperaMedia; }
+        public double getRetornoMedio() { return retornoMedio; }
+        public double getRespuestaMedia() { return respuestaMedia; }
+        public int getFallos() { return fallos; }
+        public int getReemplazos() { return reemplazos; }
+        // TLB de la simulación con sus contadores, o null si corrió sin TLB
+        public TLB getTlb() { return tlb; }
+
+        public double getTlbHitRate() {
+            long accesos = tlb.getTotalHits() + tlb.getTotalMisses();
+            return accesos > 0 ? (double) tlb.getTotalHits() / accesos : 0;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Uso: ParameterSweep archivo [--algos=FCFS,SJF,RR,PRIORITY] [--quantums=1-20] " +
+                               "[--frames=4,8,16] [--memory=FIFO,LRU,OPTIMO,CLOCK,ESC,ARC,2Q] [--threads=N] [--event] [--csv=ruta] " +
+                               "[--demand] [--tlb=N] [--tlb-ways=N] [--tlb-policy=LRU|RANDOM] [--tlb-asid] [--tlb-penalty=N]");
+            System.exit(1);
+        }
+
+        Map<String, String> opciones = new HashMap<>();
+        boolean eventDriven = false;
+        boolean demanda = false;
+        boolean asid = false;
+        for (String arg : args) {
+            if (arg.equals("--event")) {
+                eventDriven = true;
+            } else if (arg.equals("--demand")) {
+                demanda = true;
+            } else if (arg.equals("--tlb-asid")) {
+                asid = true;
+            } else if (arg.startsWith("--") && arg.contains("=")) {
+                int igual = arg.indexOf('=');
+                opciones.put(arg.substring(2, igual), arg.substring(igual + 1));
+            }
+        }
+
+        InputParser parser = new InputParser(args[0]);
+        parser.obtenerProcesos();
+        parser.crearProcesos();
+        List<Process> carga = parser.get_process();
+
+        List<Config> configs = buildConfigs(
+            splitList(opciones.getOrDefault("algos", "FCFS,SJF,RR,PRIORITY")),
+            parseInts(opciones.getOrDefault("quantums", "1-20")),
+            parseInts(opciones.getOrDefault("frames", "4,8,16")),
+            splitList(opciones.getOrDefault("memory", "FIFO,LRU,OPTIMO")));
+        int hilos = opciones.containsKey("threads")
+            ? Integer.parseInt(opciones.get("threads"))
+            : Runtime.getRuntime().availableProcessors();
+        TLB tlb = HeadlessRunner.createTlb(opciones, asid);
+
+        Level nivelAnterior = Log.getLevel();
+        Log.setLevel(Level.OFF);
+        long inicio = System.nanoTime();
+        List<Result> resultados;
+        try {
+            resultados = sweep(carga, configs, hilos, eventDriven, demanda, tlb);
+        } finally {
+            Log.setLevel(nivelAnterior);
+        }
+        double segundos = (System.nanoTime() - inicio) / 1_000_000_000.0;
+
+        printTable(resultados);
+        System.out.println(String.format("%d configuraciones en %.2f s con %d hilos",
+            resultados.size(), segundos, hilos));
+        if (opciones.containsKey("csv")) {
+            writeCsv(resultados, opciones.get("csv"));
+        }
+    }
+
+    /**
+     * Producto cartesiano de los parámetros. Los algoritmos sin quantum
+     * aparecen una sola vez por combinación de frames y memoria.
+     */
+    public static List<Config> buildConfigs(List<String> algoritmos, List<Integer> quantums,
+                                            List<Integer> frames, List<String> memorias) {
+        List<Config> configs = new ArrayList<>();
+        for (String algoritmo : algoritmos) {
+            List<Integer> qs = CON_QUANTUM.contains(algoritmo) ? quantums : quantums.subList(0, 1);
+            for (int q : qs) {
+                for (int f : frames) {
+                    for (String memoria : memorias) {
+                        configs.add(new Config(algoritmo, q, f, memoria));
+                    }
+                }
+            }
+        }
+        return configs;
+    }
+
+    /**
+     * Corre cada configuración sobre una copia de la carga, en paralelo.
+     * Los resultados vuelven en el mismo orden que las configuraciones.
+     */
+    public static List<Result> sweep(List<Process> carga, List<Config> configs, int paralelismo,
+                                     boolean eventDriven) {
+        return sweep(carga, configs, paralelismo, eventDriven, false, null);
+    }
+
+    /**
+     * Como sweep(), con paginación por demanda y un TLB (null: sin TLB) del
+     * que cada simulación usa una copia vacía.
+     */
+    public static List<Result> sweep(List<Process> carga, List<Config> configs, int paralelismo,
+                                     boolean eventDriven, boolean demandPaging, TLB tlb) {
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, paralelismo));
+        try {
+            List<ForkJoinTask<Result>> tareas = new ArrayList<>(configs.size());
+            for (Config config : configs) {
+                tareas.add(pool.submit(() -> simulate(carga, config, eventDriven, demandPaging,
+                                                      tlb != null ? tlb.copy() : null)));
+            }
+            List<Result> resultados = new ArrayList<>(tareas.size());
+            for (ForkJoinTask<Result> tarea : tareas) {
+                resultados.add(tarea.join());
+            }
+            return resultados;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Una simulación headless completa y aislada del resto del barrido.
+     */
+    public static Result simulate(List<Process> carga, Config config, boolean eventDriven) {
+        return simulate(carga, config, eventDriven, false, null);
+    }
+
+    public static Result simulate(List<Process> carga, Config config, boolean eventDriven,
+                                  boolean demandPaging, TLB tlb) {
+        List<Process> procesos = new ArrayList<>(carga.size());
+        for (Process p : carga) {
+            procesos.add(p.copy());
+        }
+
+        SyncManager sync = new SyncManager();
+        Scheduler scheduler = new Scheduler(sync);
+        scheduler.setHeadless(true);
+        scheduler.setEventDriven(eventDriven);
+        scheduler.setDemandPaging(demandPaging);
+        HeadlessRunner.configurePolicy(scheduler, config.getAlgoritmo(), config.getQuantum(),
+                                       Collections.emptyMap());
+        MemoryManager memory = new MemoryManager(config.getFrames(),
+            HeadlessRunner.createReplacementAlgorithm(config.getMemoria(), procesos), sync);
+        memory.setTlb(tlb);
+        scheduler.setMemoryManager(memory);
+        for (Process p : procesos) {
+            scheduler.addProcess(p);
+        }
+        int ciclos = scheduler.runToCompletion(Integer.MAX_VALUE);
+        scheduler.shutdown();
+
+        int terminados = 0;
+        long espera = 0;
+        long retorno = 0;
+        long respuesta = 0;
+        int fallos = 0;
+        int reemplazos = 0;
+        for (Process p : procesos) {
+            fallos += memory.getPageFaults(p.getPID());
+            reemplazos += memory.getReplacements(p.getPID());
+            // Los que terminan sin haber ejecutado (t_start = -1) no entran en los promedios
+            if (p.getState() != ProcessState.TERMINATED || p.getT_start() < 0) {
+                continue;
+            }
+            terminados++;
+            espera += p.getT_wait();
+            retorno += p.getT_finish() - p.getT_arrival();
+            respuesta += p.getT_start() - p.getT_arrival();
+        }
+        int n = Math.max(1, terminados);
+        return new Result(config, ciclos, terminados, (double) espera / n, (double) retorno / n,
+                          (double) respuesta / n, fallos, reemplazos, tlb);
+    }
+
+    private static void printTable(List<Result> resultados) {
+        boolean conTlb = !resultados.isEmpty() && resultados.get(0).getTlb() != null;
+        System.out.println(String.format("%-9s %3s %6s %-7s %8s %6s %9s %9s %9s %7s %7s",
+            "Algoritmo", "Q", "Frames", "Memoria", "Ciclos", "Term", "Espera", "Retorno", "Respuesta", "Fallos", "Reempl") +
+            (conTlb ? String.format(" %7s %8s %8s", "TLB%", "Cambios", "EAT") : ""));
+        Result mejor = null;
+        for (Result r : resultados) {
+            Config c = r.getConfig();
+            System.out.println(String.format("%-9s %3s %6d %-7s %8d %6d %9.2f %9.2f %9.2f %7d %7d",
+                c.getAlgoritmo(), CON_QUANTUM.contains(c.getAlgoritmo()) ? String.valueOf(c.getQuantum()) : "-",
+                c.getFrames(), c.getMemoria(), r.getCiclos(), r.getTerminados(), r.getEsperaMedia(),
+                r.getRetornoMedio(), r.getRespuestaMedia(), r.getFallos(), r.getReemplazos()) +
+                (conTlb ? String.format(" %6.1f%% %8d %8.2f", 100 * r.getTlbHitRate(),
+                    r.getTlb().getContextSwitches(), r.getTlb().getEffectiveAccessTime()) : ""));
+            if (mejor == null || r.getEsperaMedia() < mejor.getEsperaMedia()) {
+                mejor = r;
+            }
+        }
+        if (mejor != null) {
+            System.out.println(String.format("Menor espera media: %s (%.2f)", mejor.getConfig(), mejor.getEsperaMedia()));
+        }
+    }
+
+    private static void writeCsv(List<Result> resultados, String ruta) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Paths.get(ruta), StandardCharsets.UTF_8))) {
+            boolean conTlb = !resultados.isEmpty() && resultados.get(0).getTlb() != null;
+            out.println("algoritmo,quantum,frames,memoria,ciclos,terminados,espera,retorno,respuesta,fallos,reemplazos" +
+                        (conTlb ? ",tlb_aciertos,cambios_contexto,acceso_efectivo" : ""));
+            for (Result r : resultados) {
+                Config c = r.getConfig();
+                out.println(String.format(Locale.ROOT, "%s,%d,%d,%s,%d,%d,%.4f,%.4f,%.4f,%d,%d",
+                    c.getAlgoritmo(), c.getQuantum(), c.getFrames(), c.getMemoria(), r.getCiclos(),
+                    r.getTerminados(), r.getEsperaMedia(), r.getRetornoMedio(), r.getRespuestaMedia(),
+                    r.getFallos(), r.getReemplazos()) +
+                    (conTlb ? String.format(Locale.ROOT, ",%.4f,%d,%.4f", r.getTlbHitRate(),
+                        r.getTlb().getContextSwitches(), r.getTlb().getEffectiveAccessTime()) : ""));
+            }
+        }
+        System.out.println("CSV: " + ruta);
+    }
+
+    private static List<String> splitList(String valor) {
+        List<String> lista = new ArrayList<>();
+        for (String parte : valor.split(",")) {
+            if (!parte.isBlank()) {
+                lista.add(parte.trim().toUpperCase());
+            }
+        }
+        return lista;
+    }
+
+    // Acepta listas ("2,4,8") y rangos ("1-20"), combinables: "1-4,8,16"
+    static List<Integer> parseInts(String valor) {
+        List<Integer> lista = new ArrayList<>();
+        for (String parte : valor.split(",")) {
+            parte = parte.trim();
+            int guion = parte.indexOf('-', 1);
+            if (guion > 0) {
+                int desde = Integer.parseInt(parte.substring(0, guion));
+                int hasta = Integer.parseInt(parte.substring(guion + 1));
+                for (int i = desde; i <= hasta; i++) {
+                    lista.add(i);
+                }
+            } else if (!parte.isEmpty()) {
+                lista.add(Integer.parseInt(parte));
+            }
+        }
+        return lista;
+    }
+}
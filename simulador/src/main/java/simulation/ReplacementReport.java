@@ -0,0 +1,226 @@
+package simulation;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import logging.Level;
+import logging.Log;
+import memory.MemoryManager;
+import memory.algoritmos.ARC;
+import memory.algoritmos.Clock;
+import memory.algoritmos.FIFO;
+import memory.algoritmos.LRU;
+import memory.algoritmos.Optimo;
+import memory.algoritmos.ReplacementAlgorithm;
+import memory.algoritmos.TwoQ;
+import process.InputParser;
+import process.Process;
+import synchronization.SyncManager;
+
+/**
+ * Compara la tasa de aciertos de los algoritmos de reemplazo sobre trazas
+ * de referencias a páginas, sin pasar por el scheduler:
+ *
+ * - los archivos de carga de un directorio que tengan alguna SEQ[] (los
+ *   procesos sin SEQ[] recorren sus páginas en orden), intercalando una
+ *   referencia por proceso;
+ * - cargas generadas con WorkloadGenerator (conjunto de trabajo y bucle);
+ * - un conjunto caliente interrumpido por barridos de páginas nuevas, el
+ *   caso en que LRU y FIFO pierden el conjunto caliente.
+ *
+ * Las trazas corren con reemplazo global (MemoryManager.setGlobalReplacement).
+ * OPTIMO mide la distancia dentro de la secuencia de cada proceso, así que
+ * con varios procesos es una referencia y no una cota exacta.
+ *
+ * Uso: ReplacementReport [directorio] [--frames=4,8,16] [--seed=N]
+ */
+public class ReplacementReport {
+
+    static final List<String> ALGORITMOS = List.of("FIFO", "LRU", "CLOCK", "ARC", "2Q", "OPTIMO");
+
+    /**
+     * Traza de referencias: proceso y página de cada acceso.
+     */
+    static class Trace {
+        final String nombre;
+        final Map<String, Integer> paginas = new LinkedHashMap<>();
+        final List<String> pids = new ArrayList<>();
+        final List<Integer> paginasRef = new ArrayList<>();
+
+        Trace(String nombre) {
+            this.nombre = nombre;
+        }
+
+        void add(String pid, int pagina) {
+            pids.add(pid);
+            paginasRef.add(pagina);
+            paginas.merge(pid, pagina + 1, Math::max);
+        }
+
+        int size() {
+            return pids.size();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        String directorio = "src/main/resources";
+        List<Integer> frames = ParameterSweep.parseInts("4,8,16");
+        long seed = 42;
+        for (String arg : args) {
+            if (arg.startsWith("--frames=")) {
+                frames = ParameterSweep.parseInts(arg.substring("--frames=".length()));
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(arg.substring("--seed=".length()));
+            } else if (!arg.startsWith("--")) {
+                directorio = arg;
+            }
+        }
+
+        Level nivelAnterior = Log.getLevel();
+        Log.setLevel(Level.OFF);
+        try {
+            List<Trace> trazas = new ArrayList<>();
+            File[] archivos = new File(directorio).listFiles((d, n) -> n.endsWith(".txt"));
+            if (archivos != null) {
+                Arrays.sort(archivos);
+                for (File archivo : archivos) {
+                    List<Process> procesos = parse(archivo.getPath());
+                    // Sin SEQ[] solo habría fallos obligatorios: no dice nada del algoritmo
+                    if (procesos.stream().anyMatch(p -> p.getFuturePageSequence() != null)) {
+                        trazas.add(fromWorkload(archivo.getName(), procesos));
+                    }
+                }
+            }
+            trazas.add(generated("gen-working-set", seed, WorkloadGenerator.LocalityModel.WORKING_SET));
+            trazas.add(generated("gen-loop", seed, WorkloadGenerator.LocalityModel.LOOP));
+            trazas.add(hotSetWithScans("caliente+barridos", seed, 8, 40, 2_000));
+
+            System.out.println(String.format("%-34s %6s %7s %7s %7s %7s %7s %7s %7s",
+                "Traza", "Frames", "Refs", "FIFO", "LRU", "CLOCK", "ARC", "2Q", "OPTIMO"));
+            for (Trace traza : trazas) {
+                for (int f : frames) {
+                    StringBuilder fila = new StringBuilder(String.format("%-34s %6d %7d",
+                        traza.nombre, f, traza.size()));
+                    for (String algoritmo : ALGORITMOS) {
+                        fila.append(String.format(" %6.1f%%", 100 * hitRate(traza, algoritmo, f)));
+                    }
+                    System.out.println(fila);
+                }
+            }
+        } finally {
+            Log.setLevel(nivelAnterior);
+        }
+    }
+
+    /**
+     * Fracción de referencias que no fallan al correr la traza con el
+     * algoritmo y la cantidad de frames dados.
+     */
+    static double hitRate(Trace traza, String algoritmo, int frames) {
+        MemoryManager memory = new MemoryManager(frames, create(algoritmo, traza), new SyncManager());
+        memory.setGlobalReplacement(true);
+        for (Map.Entry<String, Integer> e : traza.paginas.entrySet()) {
+            memory.createProcess(e.getKey(), e.getValue());
+        }
+        for (int i = 0; i < traza.size(); i++) {
+            memory.loadPage(traza.pids.get(i), traza.paginasRef.get(i));
+        }
+        long fallos = 0;
+        for (String pid : traza.paginas.keySet()) {
+            fallos += memory.getPageFaults(pid);
+        }
+        return traza.size() == 0 ? 0 : 1.0 - (double) fallos / traza.size();
+    }
+
+    static ReplacementAlgorithm create(String algoritmo, Trace traza) {
+        switch (algoritmo) {
+            case "LRU":
+                return new LRU();
+            case "CLOCK":
+                return new Clock();
+            case "ARC":
+                return new ARC();
+            case "2Q":
+                return new TwoQ();
+            case "OPTIMO":
+                Map<String, List<Integer>> futuras = new HashMap<>();
+                for (int i = 0; i < traza.size(); i++) {
+                    futuras.computeIfAbsent(traza.pids.get(i), k -> new ArrayList<>()).add(traza.paginasRef.get(i));
+                }
+                Optimo optimo = new Optimo();
+                optimo.setFutureAccessSequences(futuras);
+                return optimo;
+            default:
+                return new FIFO();
+        }
+    }
+
+    private static List<Process> parse(String ruta) throws IOException {
+        InputParser parser = new InputParser(ruta);
+        parser.obtenerProcesos();
+        parser.crearProcesos();
+        return parser.get_process();
+    }
+
+    // Una referencia por proceso y por turno, hasta agotar todas las secuencias
+    static Trace fromWorkload(String nombre, List<Process> procesos) {
+        Trace traza = new Trace(nombre);
+        List<List<Integer>> secuencias = new ArrayList<>();
+        for (Process p : procesos) {
+            List<Integer> seq = p.getFuturePageSequence();
+            if (seq == null || seq.isEmpty()) {
+                seq = new ArrayList<>();
+                for (int i = 0; i < p.getPages(); i++) {
+                    seq.add(i);
+                }
+            }
+            secuencias.add(seq);
+        }
+        boolean quedan = true;
+        for (int paso = 0; quedan; paso++) {
+            quedan = false;
+            for (int i = 0; i < procesos.size(); i++) {
+                if (paso < secuencias.get(i).size()) {
+                    traza.add(procesos.get(i).getPID(), secuencias.get(i).get(paso));
+                    quedan = true;
+                }
+            }
+        }
+        return traza;
+    }
+
+    private static Trace generated(String nombre, long seed, WorkloadGenerator.LocalityModel modelo) {
+        WorkloadGenerator gen = new WorkloadGenerator(seed);
+        gen.setPages(4, 16);
+        gen.setLocality(modelo, 200);
+        return fromWorkload(nombre, gen.generate(8));
+    }
+
+    /**
+     * Un proceso con 'caliente' páginas muy usadas; cada tanto recorre
+     * 'barrido' páginas que no vuelve a tocar hasta el próximo barrido.
+     */
+    static Trace hotSetWithScans(String nombre, long seed, int caliente, int barrido, int rondas) {
+        Trace traza = new Trace(nombre);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int r = 0; r < rondas; r++) {
+            if (r % 20 == 19) {
+                for (int i = 0; i < barrido; i++) {
+                    traza.add("H", caliente + i);
+                }
+            } else {
+                for (int i = 0; i < 10; i++) {
+                    traza.add("H", random.nextInt(caliente));
+                }
+            }
+        }
+        return traza;
+    }
+}
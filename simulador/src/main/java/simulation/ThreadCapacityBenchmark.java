@@ -0,0 +1,95 @@
+package simulation;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+
+import process.Burst;
+import process.BurstResource;
+import process.Process;
+import process.ProcessState;
+import threads.ProcessThread;
+
+/**
+ * Mide cuántos ProcessThread vivos y en espera se pueden sostener a la vez
+ * con hilos virtuales y con hilos de plataforma. Cada proceso se arranca,
+ * queda bloqueado esperando su turno, ejecuta una unidad de CPU con el
+ * mismo handoff que usa el Scheduler y termina.
+ *
+ * Uso: ThreadCapacityBenchmark [virtual|platform|ambos] [N1 N2 ...]
+ */
+public class ThreadCapacityBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {1_000, 10_000, 50_000, 100_000};
+
+    public static void main(String[] args) throws InterruptedException {
+        String modo = args.length > 0 ? args[0].toLowerCase() : "ambos";
+        int[] tamanos = DEFAULT_SIZES;
+        if (args.length > 1) {
+            tamanos = new int[args.length - 1];
+            for (int i = 1; i < args.length; i++) {
+                tamanos[i - 1] = Integer.parseInt(args[i]);
+            }
+        }
+
+        PrintStream consola = System.out;
+        consola.println(String.format("%-9s %9s %9s %11s %12s %10s", "Hilos", "Pedidos", "Vivos", "Arranque ms", "Handoff ms", "Heap MB"));
+        for (int n : tamanos) {
+            if (!modo.equals("platform")) {
+                consola.println(run("virtual", ProcessThread.virtualThreadFactory(), n));
+            }
+            if (!modo.equals("virtual")) {
+                consola.println(run("platform", ProcessThread.platformThreadFactory(), n));
+            }
+        }
+    }
+
+    private static String run(String nombre, ThreadFactory factory, int n) throws InterruptedException {
+        PrintStream consola = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        List<ProcessThread> hilos = new ArrayList<>(n);
+        long arranque;
+        long handoff;
+        long heap;
+        try {
+            System.gc();
+            long inicio = System.nanoTime();
+            try {
+                for (int i = 0; i < n; i++) {
+                    ArrayList<Burst> bursts = new ArrayList<>();
+                    bursts.add(new Burst(BurstResource.CPU, 1));
+                    Process p = new Process("B" + i, 0, bursts, 1, 1);
+                    p.setState(ProcessState.RUNNING);
+                    ProcessThread t = new ProcessThread(p, null, factory);
+                    t.start();
+                    hilos.add(t);
+                }
+            } catch (OutOfMemoryError e) {
+                // Límite de hilos del SO alcanzado: se informa cuántos se lograron crear
+            }
+            arranque = System.nanoTime() - inicio;
+            Runtime rt = Runtime.getRuntime();
+            heap = rt.totalMemory() - rt.freeMemory();
+
+            // Todos vivos a la vez: cada uno ejecuta su unidad y se despierta al scheduler
+            inicio = System.nanoTime();
+            for (ProcessThread t : hilos) {
+                t.startExecution();
+                t.awaitUnitCompletion();
+            }
+            handoff = System.nanoTime() - inicio;
+        } finally {
+            for (ProcessThread t : hilos) {
+                t.terminate();
+            }
+            for (ProcessThread t : hilos) {
+                t.join();
+            }
+            System.setOut(consola);
+        }
+        return String.format("%-9s %9d %9d %11.1f %12.1f %10.1f", nombre, n, hilos.size(),
+            arranque / 1e6, handoff / 1e6, heap / (1024.0 * 1024.0));
+    }
+}
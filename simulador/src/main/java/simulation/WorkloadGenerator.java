@@ -0,0 +1,412 @@
+package simulation;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import process.Burst;
+import process.BurstResource;
+import process.Process;
+
+/**
+ * Genera cargas sintéticas reproducibles (misma semilla, misma carga), ya
+ * sea como objetos Process o como líneas en el formato de InputParser:
+ *
+ *     P1 0 CPU(5),E/S(3),CPU(2) 1 3 SEQ[0,1w,2]
+ *
+ * Los procesos se generan de a uno con next(), así que write() puede
+ * escribir millones de procesos sin tenerlos todos en memoria.
+ *
+ * Uso: WorkloadGenerator salida N [--seed=S] [--arrival=POISSON|BURSTY|BATCH]
+ *      [--interarrival=X] [--bursts=UNIFORM|EXPONENTIAL|PARETO] [--cpu=X] [--io=X]
+ *      [--ioprob=P] [--iobound=F] [--maxbursts=N] [--priorities=MIN-MAX] [--pages=MIN-MAX]
+ *      [--locality=NONE|UNIFORM|WORKING_SET|LOOP] [--seq=N] [--writes=F]
+ */
+public class WorkloadGenerator {
+
+    // Cómo llegan los procesos
+    public enum ArrivalModel {
+        POISSON,   // tiempos entre llegadas exponenciales
+        BURSTY,    // ráfagas de llegadas casi simultáneas separadas por pausas
+        BATCH      // todos en T=0
+    }
+
+    // Distribución de la duración de cada ráfaga
+    public enum BurstDistribution {
+        UNIFORM,
+        EXPONENTIAL,
+        PARETO     // cola pesada: muchos cortos, pocos muy largos
+    }
+
+    // Patrón de accesos de la secuencia SEQ[]
+    public enum LocalityModel {
+        NONE,
+        UNIFORM,       // páginas al azar
+        WORKING_SET,   // la mayoría de los accesos caen en un conjunto que cambia por fases
+        LOOP           // recorrido secuencial repetido
+    }
+
+    private static final double PARETO_ALPHA = 1.5;
+    private static final double IO_BOUND_CPU_FACTOR = 0.25;
+    private static final double WORKING_SET_HIT = 0.9;
+    private static final int WORKING_SET_PHASE = 20;
+
+    private final SplittableRandom random;
+
+    private ArrivalModel arrivalModel = ArrivalModel.POISSON;
+    private double meanInterarrival = 2.0;
+    private double meanBurstSize = 20.0;
+    private double meanBurstGap = 50.0;
+
+    private BurstDistribution burstDistribution = BurstDistribution.EXPONENTIAL;
+    private double meanCpuBurst = 8.0;
+    private double meanIoBurst = 4.0;
+    private int maxBurstLength = 10_000;
+    private double ioProbability = 0.5;
+    private double ioBoundFraction = 0.3;
+    private int maxBursts = 9;
+
+    private boolean priorities = true;
+    private int minPriority = 1;
+    private int maxPriority = 5;
+    private int minPages = 1;
+    private int maxPages = 8;
+
+    private LocalityModel localityModel = LocalityModel.NONE;
+    private int sequenceLength = 16;
+    private double writeRatio = 0.0;
+
+    private int generated = 0;
+    private double clock = 0.0;
+    private int remainingInBurst = 0;
+
+    public WorkloadGenerator(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    public void setArrivalModel(ArrivalModel model) { this.arrivalModel = model; }
+
+    /**
+     * Media de ciclos entre llegadas (POISSON) o dentro de una ráfaga de
+     * llegadas (BURSTY, donde se usa la décima parte).
+     */
+    public void setMeanInterarrival(double media) { this.meanInterarrival = media; }
+
+    // BURSTY: procesos por ráfaga y ciclos de pausa entre ráfagas (medias)
+    public void setBurstiness(double procesosPorRafaga, double pausa) {
+        this.meanBurstSize = procesosPorRafaga;
+        this.meanBurstGap = pausa;
+    }
+
+    public void setBurstDistribution(BurstDistribution distribucion) { this.burstDistribution = distribucion; }
+
+    public void setBurstLengths(double mediaCpu, double mediaIo) {
+        this.meanCpuBurst = mediaCpu;
+        this.meanIoBurst = mediaIo;
+    }
+
+    public void setMaxBurstLength(int max) { this.maxBurstLength = max; }
+
+    /**
+     * Mezcla CPU/E-S: tras cada ráfaga de CPU sigue un par E/S + CPU con
+     * probabilidad ioProbability (hasta maxBursts ráfagas en total). Una
+     * fracción ioBoundFraction de los procesos tiene ráfagas de CPU cortas.
+     */
+    public void setIoMix(double ioProbability, double ioBoundFraction, int maxBursts) {
+        this.ioProbability = ioProbability;
+        this.ioBoundFraction = ioBoundFraction;
+        this.maxBursts = Math.max(1, maxBursts);
+    }
+
+    public void setPriorities(int min, int max) {
+        this.priorities = true;
+        this.minPriority = min;
+        this.maxPriority = max;
+    }
+
+    // Formato corto, sin prioridad explícita
+    public void disablePriorities() { this.priorities = false; }
+
+    public void setPages(int min, int max) {
+        this.minPages = Math.max(1, min);
+        this.maxPages = Math.max(this.minPages, max);
+    }
+
+    public void setLocality(LocalityModel modelo, int largo) {
+        this.localityModel = modelo;
+        this.sequenceLength = largo;
+    }
+
+    // Fracción de las referencias de la SEQ[] que son escrituras (sufijo w)
+    public void setWriteRatio(double ratio) { this.writeRatio = ratio; }
+
+    public int getGenerated() { return generated; }
+
+    /**
+     * Siguiente proceso de la carga. Los tiempos de llegada no decrecen.
+     */
+    public Process next() {
+        generated++;
+        String pid = "P" + generated;
+        int llegada = nextArrival();
+
+        boolean ioBound = random.nextDouble() < ioBoundFraction;
+        double mediaCpu = ioBound ? Math.max(1.0, meanCpuBurst * IO_BOUND_CPU_FACTOR) : meanCpuBurst;
+        ArrayList<Burst> bursts = new ArrayList<>();
+        bursts.add(new Burst(BurstResource.CPU, sampleBurst(mediaCpu)));
+        while (bursts.size() + 2 <= maxBursts && random.nextDouble() < ioProbability) {
+            bursts.add(new Burst(BurstResource.IO, sampleBurst(meanIoBurst)));
+            bursts.add(new Burst(BurstResource.CPU, sampleBurst(mediaCpu)));
+        }
+
+        int paginas = minPages + random.nextInt(maxPages - minPages + 1);
+        Process p = priorities
+            ? new Process(pid, llegada, bursts, minPriority + random.nextInt(maxPriority - minPriority + 1), paginas)
+            : new Process(pid, llegada, bursts, paginas);
+        if (localityModel != LocalityModel.NONE && sequenceLength > 0) {
+            p.setFuturePageSequence(pageSequence(paginas));
+            if (writeRatio > 0) {
+                BitSet escrituras = new BitSet(sequenceLength);
+                for (int i = 0; i < sequenceLength; i++) {
+                    if (random.nextDouble() < writeRatio) {
+                        escrituras.set(i);
+                    }
+                }
+                p.setPageWrites(escrituras);
+            }
+        }
+        return p;
+    }
+
+    public List<Process> generate(int n) {
+        List<Process> procesos = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            procesos.add(next());
+        }
+        return procesos;
+    }
+
+    public void write(Path archivo, int n) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(archivo, StandardCharsets.UTF_8)) {
+            write(out, n);
+        }
+    }
+
+    public void write(Writer out, int n) throws IOException {
+        StringBuilder sb = new StringBuilder(128);
+        for (int i = 0; i < n; i++) {
+            sb.setLength(0);
+            appendLine(sb, next(), priorities);
+            sb.append('\n');
+            out.write(sb.toString());
+        }
+    }
+
+    /**
+     * Línea en el formato de InputParser.
+     */
+    public static String formatLine(Process p, boolean conPrioridad) {
+        StringBuilder sb = new StringBuilder(64);
+        appendLine(sb, p, conPrioridad);
+        return sb.toString();
+    }
+
+    private static void appendLine(StringBuilder sb, Process p, boolean conPrioridad) {
+        sb.append(p.getPID()).append(' ').append(p.getT_arrival()).append(' ');
+        List<Burst> bursts = p.getBursts();
+        for (int i = 0; i < bursts.size(); i++) {
+            Burst b = bursts.get(i);
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(b.getResource() == BurstResource.CPU ? "CPU(" : "E/S(").append(b.getTime_total()).append(')');
+        }
+        if (conPrioridad) {
+            sb.append(' ').append(p.getPriority());
+        }
+        sb.append(' ').append(p.getPages());
+        List<Integer> seq = p.getFuturePageSequence();
+        if (seq != null) {
+            sb.append(" SEQ[");
+            for (int i = 0; i < seq.size(); i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append(seq.get(i));
+                if (p.isPageReferenceWrite(i)) {
+                    sb.append('w');
+                }
+            }
+            sb.append(']');
+        }
+    }
+
+    private int nextArrival() {
+        switch (arrivalModel) {
+            case BATCH:
+                return 0;
+            case BURSTY:
+                if (remainingInBurst == 0) {
+                    // Pausa hasta la próxima ráfaga de llegadas
+                    if (generated > 1) {
+                        clock += exponential(meanBurstGap);
+                    }
+                    remainingInBurst = 1 + (int) exponential(meanBurstSize - 1);
+                } else {
+                    clock += exponential(meanInterarrival / 10.0);
+                }
+                remainingInBurst--;
+                return (int) clock;
+            case POISSON:
+            default:
+                if (generated > 1) {
+                    clock += exponential(meanInterarrival);
+                }
+                return (int) clock;
+        }
+    }
+
+    private int sampleBurst(double media) {
+        double x;
+        switch (burstDistribution) {
+            case UNIFORM:
+                x = 1 + random.nextDouble() * (2 * media - 2);
+                break;
+            case PARETO:
+                // Escala elegida para que la media sea la pedida
+                double xm = media * (PARETO_ALPHA - 1) / PARETO_ALPHA;
+                x = xm / Math.pow(1.0 - random.nextDouble(), 1.0 / PARETO_ALPHA);
+                break;
+            case EXPONENTIAL:
+            default:
+                x = exponential(media);
+                break;
+        }
+        return (int) Math.max(1, Math.min(maxBurstLength, Math.round(x)));
+    }
+
+    private double exponential(double media) {
+        if (media <= 0) {
+            return 0;
+        }
+        return -media * Math.log(1.0 - random.nextDouble());
+    }
+
+    private List<Integer> pageSequence(int paginas) {
+        List<Integer> seq = new ArrayList<>(sequenceLength);
+        switch (localityModel) {
+            case LOOP:
+                for (int i = 0; i < sequenceLength; i++) {
+                    seq.add(i % paginas);
+                }
+                break;
+            case WORKING_SET:
+                int tam = Math.max(1, paginas / 4);
+                int base = 0;
+                for (int i = 0; i < sequenceLength; i++) {
+                    if (i % WORKING_SET_PHASE == 0) {
+                        base = random.nextInt(paginas);
+                    }
+                    if (random.nextDouble() < WORKING_SET_HIT) {
+                        seq.add((base + random.nextInt(tam)) % paginas);
+                    } else {
+                        seq.add(random.nextInt(paginas));
+                    }
+                }
+                break;
+            case UNIFORM:
+            default:
+                for (int i = 0; i < sequenceLength; i++) {
+                    seq.add(random.nextInt(paginas));
+                }
+                break;
+        }
+        return seq;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: WorkloadGenerator salida N [--seed=S] [--arrival=POISSON|BURSTY|BATCH] " +
+                               "[--interarrival=X] [--bursts=UNIFORM|EXPONENTIAL|PARETO] [--cpu=X] [--io=X] " +
+                               "[--ioprob=P] [--iobound=F] [--maxbursts=N] [--priorities=MIN-MAX] [--pages=MIN-MAX] " +
+                               "[--locality=NONE|UNIFORM|WORKING_SET|LOOP] [--seq=N] [--writes=F]");
+            System.exit(1);
+        }
+        Path salida = Paths.get(args[0]);
+        int n = Integer.parseInt(args[1]);
+
+        long seed = 42;
+        for (String arg : args) {
+            if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(arg.substring(7));
+            }
+        }
+        WorkloadGenerator gen = new WorkloadGenerator(seed);
+
+        double mediaCpu = gen.meanCpuBurst;
+        double mediaIo = gen.meanIoBurst;
+        double ioProb = gen.ioProbability;
+        double ioBound = gen.ioBoundFraction;
+        int maxRafagas = gen.maxBursts;
+        LocalityModel localidad = gen.localityModel;
+        int largoSeq = gen.sequenceLength;
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                continue;
+            }
+            String nombre = arg.substring(2, arg.indexOf('='));
+            String valor = arg.substring(arg.indexOf('=') + 1);
+            switch (nombre) {
+                case "arrival": gen.setArrivalModel(ArrivalModel.valueOf(valor.toUpperCase())); break;
+                case "interarrival": gen.setMeanInterarrival(Double.parseDouble(valor)); break;
+                case "bursts": gen.setBurstDistribution(BurstDistribution.valueOf(valor.toUpperCase())); break;
+                case "cpu": mediaCpu = Double.parseDouble(valor); break;
+                case "io": mediaIo = Double.parseDouble(valor); break;
+                case "ioprob": ioProb = Double.parseDouble(valor); break;
+                case "iobound": ioBound = Double.parseDouble(valor); break;
+                case "maxbursts": maxRafagas = Integer.parseInt(valor); break;
+                case "priorities":
+                    if (valor.equalsIgnoreCase("no")) {
+                        gen.disablePriorities();
+                    } else {
+                        int[] rango = parseRange(valor);
+                        gen.setPriorities(rango[0], rango[1]);
+                    }
+                    break;
+                case "pages":
+                    int[] rango = parseRange(valor);
+                    gen.setPages(rango[0], rango[1]);
+                    break;
+                case "locality": localidad = LocalityModel.valueOf(valor.toUpperCase()); break;
+                case "seq": largoSeq = Integer.parseInt(valor); break;
+                case "writes": gen.setWriteRatio(Double.parseDouble(valor)); break;
+                default: break;
+            }
+        }
+        gen.setBurstLengths(mediaCpu, mediaIo);
+        gen.setIoMix(ioProb, ioBound, maxRafagas);
+        gen.setLocality(localidad, largoSeq);
+
+        long inicio = System.nanoTime();
+        gen.write(salida, n);
+        System.out.println(String.format("%d procesos escritos en %s (%.2f s)", n, salida,
+            (System.nanoTime() - inicio) / 1_000_000_000.0));
+    }
+
+    private static int[] parseRange(String valor) {
+        int guion = valor.indexOf('-');
+        if (guion < 0) {
+            int v = Integer.parseInt(valor);
+            return new int[]{v, v};
+        }
+        return new int[]{Integer.parseInt(valor.substring(0, guion)), Integer.parseInt(valor.substring(guion + 1))};
+    }
+}
@@ -5,6 +5,8 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.Condition;
 
+import logging.Log;
+
 public class SyncManager {
     private static final SyncManager INSTANCE = new SyncManager();
     
@@ -12,11 +14,18 @@ public class SyncManager {
     private final ConcurrentHashMap<String, ProcessLock> processLocks;
     private final ConcurrentHashMap<String, Condition> processConditions;
 
-    private SyncManager() {
+    /**
+     * Instancia propia, independiente de getInstance(). Sirve para correr
+     * varias simulaciones en paralelo sin que compartan locks (los PIDs se
+     * repiten entre simulaciones).
+     */
+    public SyncManager() {
         this.globalMutex = new ReentrantLock();
         this.processLocks = new ConcurrentHashMap<>();
         this.processConditions = new ConcurrentHashMap<>();
-        System.out.println("[SyncManager] Instancia creada");
+        if (Log.isInfoEnabled()) {
+            Log.info("[SyncManager] Instancia creada");
+        }
     }
 
     public static SyncManager getInstance() {
@@ -62,7 +71,9 @@ public class SyncManager {
     public void cleanupProcess(String pid) {
         processLocks.remove(pid);
         processConditions.remove(pid);
-        System.out.println("[SyncManager] Limpiados recursos para: " + pid);
+        if (Log.isDebugEnabled()) {
+            Log.debug("[SyncManager] Limpiados recursos para: " + pid);
+        }
     }
 
     private static class ProcessLock {
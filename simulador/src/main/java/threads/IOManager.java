@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import logging.Log;
 import memory.MemoryManager;
 import process.Process;
 import process.ProcessState;
@@ -25,6 +26,7 @@ public class IOManager {
     Process process;
     String operationType;      
     Integer pageNumber;        
+    boolean write;             // El fallo lo causó una escritura: la página llega modificada
     MemoryManager memoryManager;
     
     IOCounter(int duration, int currentCycle, ProcessThread thread, 
@@ -39,12 +41,14 @@ public class IOManager {
             this.pageNumber = pageNumber;
             this.memoryManager = memoryManager;
             
-            System.out.println("[IOManager-TIMING] " + process.getPID() + 
-                " - Operación: " + operationType +
-                ", Creado en: T=" + currentCycle +
-                ", Consume desde: T=" + startConsumeCycle +  // CAMBIADO
-                ", Duración: " + duration +
-                ", Disponible: T=" + availableAtCycle);  // CAMBIADO
+            if (Log.isTraceEnabled()) {
+                Log.trace("[IOManager-TIMING] " + process.getPID() + 
+                    " - Operación: " + operationType +
+                    ", Creado en: T=" + currentCycle +
+                    ", Consume desde: T=" + startConsumeCycle +  // CAMBIADO
+                    ", Duración: " + duration +
+                    ", Disponible: T=" + availableAtCycle);  // CAMBIADO
+            }
         }
         
         int getConsumedCycles(int currentCycle) {
@@ -88,15 +92,23 @@ public class IOManager {
     }
     
     public IOManager(Scheduler scheduler) {
+        this(scheduler, SyncManager.getInstance());
+    }
+    
+    public IOManager(Scheduler scheduler, SyncManager syncManager) {
         this.scheduler = scheduler;
-        this.syncManager = SyncManager.getInstance();
+        this.syncManager = syncManager;
         this.ioCounters = new HashMap<>();
-        System.out.println("[IOManager] IOManager inicializado");
+        if (Log.isInfoEnabled()) {
+            Log.info("[IOManager] IOManager inicializado");
+        }
     }
     
     public void setMemoryManager(MemoryManager memoryManager) {
         this.memoryManager = memoryManager;
-        System.out.println("[IOManager] MemoryManager configurado");
+        if (Log.isInfoEnabled()) {
+            Log.info("[IOManager] MemoryManager configurado");
+        }
     }
     
     private int getCurrentCycle() {
@@ -110,15 +122,17 @@ public class IOManager {
         syncManager.acquireProcessLock(pid);
         try {
             if (ioCounters.containsKey(pid + "_IO")) {
-                System.out.println("[IOManager-WARN] " + pid + " ya está en E/S");
+                Log.warn("[IOManager-WARN] " + pid + " ya está en E/S");
                 return;
             }
             
-            System.out.println("[IOManager] INICIANDO E/S para " + pid + 
-                " - Creado en: T=" + currentCycle +
-                ", Consume desde: T=" + currentCycle +  // CAMBIADO: SIN +1
-                ", Duración: " + duration +
-                ", Disponible: T=" + (currentCycle + duration));  // CAMBIADO: SIN +1
+            if (Log.isDebugEnabled()) {
+                Log.debug("[IOManager] INICIANDO E/S para " + pid + 
+                    " - Creado en: T=" + currentCycle +
+                    ", Consume desde: T=" + currentCycle +  // CAMBIADO: SIN +1
+                    ", Duración: " + duration +
+                    ", Disponible: T=" + (currentCycle + duration));  // CAMBIADO: SIN +1
+            }
             
             IOCounter counter = new IOCounter(duration, currentCycle, thread, process, 
                                             "IO", null, null);
@@ -132,12 +146,17 @@ public class IOManager {
     }
     
     public void startPageFault(Process process, int pageNumber, MemoryManager memory, ProcessThread thread) {
+        startPageFault(process, pageNumber, false, memory, thread);
+    }
+    
+    public void startPageFault(Process process, int pageNumber, boolean write, MemoryManager memory,
+                               ProcessThread thread) {
         String pid = process.getPID();
         int currentCycle = getCurrentCycle();
         
         MemoryManager mm = (this.memoryManager != null) ? this.memoryManager : memory;
         if (mm == null) {
-            System.err.println("[IOManager-ERROR] No hay MemoryManager para fallo de página");
+            Log.error("[IOManager-ERROR] No hay MemoryManager para fallo de página");
             return;
         }
         
@@ -145,14 +164,17 @@ public class IOManager {
         
         syncManager.acquireProcessLock(pid);
         try {
-            System.out.println("[IOManager-PF] PAGE FAULT: " + pid + 
-                " - Página: " + pageNumber +
-                ", Creado en: T=" + currentCycle +
-                ", Consume desde: T=" + currentCycle +  // CAMBIADO: SIN +1
-                ", Disponible: T=" + (currentCycle + faultDuration));  // CAMBIADO: SIN +1
+            if (Log.isDebugEnabled()) {
+                Log.debug("[IOManager-PF] PAGE FAULT: " + pid + 
+                    " - Página: " + pageNumber +
+                    ", Creado en: T=" + currentCycle +
+                    ", Consume desde: T=" + currentCycle +  // CAMBIADO: SIN +1
+                    ", Disponible: T=" + (currentCycle + faultDuration));  // CAMBIADO: SIN +1
+            }
             
             IOCounter counter = new IOCounter(faultDuration, currentCycle, thread, process,
                             "PAGE_FAULT", pageNumber, mm);
+            counter.write = write;
             
             ioCounters.put(pid + "_PF", counter);
             
@@ -173,7 +195,7 @@ public class IOManager {
         
         MemoryManager mm = (this.memoryManager != null) ? this.memoryManager : memory;
         if (mm == null) {
-            System.err.println("[IOManager-ERROR] No hay MemoryManager para carga completa");
+            Log.error("[IOManager-ERROR] No hay MemoryManager para carga completa");
             return;
         }
         
@@ -181,11 +203,13 @@ public class IOManager {
         
         syncManager.acquireProcessLock(pid);
         try {
-            System.out.println("[IOManager-MEM] FULL LOAD: " + pid + 
-                " - Páginas: " + process.getPages() +
-                ", Creado en: T=" + currentCycle +
-                ", Consume desde: T=" + currentCycle +  // CAMBIADO: SIN +1
-                ", Disponible: T=" + (currentCycle + loadDuration));  // CAMBIADO: SIN +1
+            if (Log.isDebugEnabled()) {
+                Log.debug("[IOManager-MEM] FULL LOAD: " + pid + 
+                    " - Páginas: " + process.getPages() +
+                    ", Creado en: T=" + currentCycle +
+                    ", Consume desde: T=" + currentCycle +  // CAMBIADO: SIN +1
+                    ", Disponible: T=" + (currentCycle + loadDuration));  // CAMBIADO: SIN +1
+            }
             
             IOCounter counter = new IOCounter(loadDuration, currentCycle, thread, process,
                             "FULL_LOAD", null, mm);
@@ -211,20 +235,26 @@ public class IOManager {
         int currentCycle = getCurrentCycle();
         List<String> completed = new ArrayList<>();
         
-        System.out.println("[IOManager-CHECK] T=" + currentCycle + " - Verificando " + ioCounters.size() + " operaciones:");
+        if (Log.isTraceEnabled()) {
+            Log.trace("[IOManager-CHECK] T=" + currentCycle + " - Verificando " + ioCounters.size() + " operaciones:");
+        }
         
         for (Map.Entry<String, IOCounter> entry : ioCounters.entrySet()) {
             String operationId = entry.getKey();
             IOCounter counter = entry.getValue();
             
             String status = counter.getStatus(currentCycle);
-            System.out.println("[IOManager-STATUS] " + operationId + " - " + status);
+            if (Log.isTraceEnabled()) {
+                Log.trace("[IOManager-STATUS] " + operationId + " - " + status);
+            }
             
             if (counter.shouldComplete(currentCycle)) {
                 completed.add(operationId);
-                System.out.println("[IOManager] ¡" + counter.operationType + 
-                    " DISPONIBLE para " + counter.process.getPID() + 
-                    " en T=" + currentCycle + "!");
+                if (Log.isDebugEnabled()) {
+                    Log.debug("[IOManager] ¡" + counter.operationType + 
+                        " DISPONIBLE para " + counter.process.getPID() + 
+                        " en T=" + currentCycle + "!");
+                }
             }
         }
         
@@ -240,10 +270,14 @@ public class IOManager {
         String pid = counter.process.getPID();
         int currentCycle = getCurrentCycle();
         
-        System.out.println("\n[IOManager] === " + counter.operationType + " COMPLETADO para " + pid + " ===");
-        System.out.println("[IOManager-TIMING] Creado: T=" + counter.startConsumeCycle +
-            ", Consumió: T=" + counter.startConsumeCycle + " a T=" + (counter.availableAtCycle - 1) +
-            ", Disponible: T=" + currentCycle);
+        if (Log.isDebugEnabled()) {
+            Log.debug("\n[IOManager] === " + counter.operationType + " COMPLETADO para " + pid + " ===");
+        }
+        if (Log.isTraceEnabled()) {
+            Log.trace("[IOManager-TIMING] Creado: T=" + counter.startConsumeCycle +
+                ", Consumió: T=" + counter.startConsumeCycle + " a T=" + (counter.availableAtCycle - 1) +
+                ", Disponible: T=" + currentCycle);
+        }
         
         syncManager.acquireProcessLock(pid);
         try {
@@ -258,7 +292,7 @@ public class IOManager {
                     completeFullLoad(counter);
                     break;
                 default:
-                    System.err.println("[IOManager-ERROR] Tipo desconocido: " + counter.operationType);
+                    Log.error("[IOManager-ERROR] Tipo desconocido: " + counter.operationType);
                     counter.process.setState(ProcessState.READY);
                     if (counter.thread != null) {
                         scheduler.addProcessThread(counter.thread);
@@ -266,7 +300,7 @@ public class IOManager {
             }
             
         } catch (Exception e) {
-            System.err.println("[IOManager-ERROR] Error completando operación: " + e.getMessage());
+            Log.error("[IOManager-ERROR] Error completando operación: " + e.getMessage());
             e.printStackTrace();
         } finally {
             syncManager.releaseProcessLock(pid);
@@ -276,46 +310,71 @@ public class IOManager {
     private void completeIO(IOCounter counter) {
         Process p = counter.process;
         
-        System.out.println("[IOManager-IO] Avanzando a siguiente ráfaga de " + p.getPID());
+        if (Log.isDebugEnabled()) {
+            Log.debug("[IOManager-IO] Avanzando a siguiente ráfaga de " + p.getPID());
+        }
         
         p.nextBurst();
         
         if (p.getState() == ProcessState.TERMINATED) {
-            System.out.println("[IOManager-IO] " + p.getPID() + " TERMINÓ completamente");
+            if (Log.isDebugEnabled()) {
+                Log.debug("[IOManager-IO] " + p.getPID() + " TERMINÓ completamente");
+            }
+            if (counter.thread != null) {
+                scheduler.finishProcess(counter.thread);
+            }
         } else {
             p.setState(ProcessState.READY);
-            System.out.println("[IOManager-IO] " + p.getPID() + " reactivado a READY");
+            if (Log.isDebugEnabled()) {
+                Log.debug("[IOManager-IO] " + p.getPID() + " reactivado a READY");
+            }
             
             if (counter.thread != null) {
                 scheduler.addProcessThread(counter.thread);
-                System.out.println("[IOManager-IO] " + p.getPID() + " añadido al scheduler");
+                if (Log.isDebugEnabled()) {
+                    Log.debug("[IOManager-IO] " + p.getPID() + " añadido al scheduler");
+                }
             }
         }
     }
     
+    // Núcleo donde corrió el proceso por última vez: ahí queda la traducción en el TLB
+    private int coreOf(IOCounter counter) {
+        return counter.thread != null ? Math.max(0, counter.thread.getLastCore()) : 0;
+    }
+    
     private void completePageFault(IOCounter counter) {
         Process p = counter.process;
         MemoryManager mm = counter.memoryManager;
         
         if (mm != null && counter.pageNumber != null) {
-            System.out.println("[IOManager-PF] Cargando página " + counter.pageNumber + " para " + p.getPID());
+            if (Log.isDebugEnabled()) {
+                Log.debug("[IOManager-PF] Cargando página " + counter.pageNumber + " para " + p.getPID());
+            }
             
-            boolean success = mm.loadPage(p.getPID(), counter.pageNumber);
+            boolean success = mm.loadPage(p.getPID(), counter.pageNumber, counter.write, coreOf(counter));
             
             if (success) {
-                System.out.println("[IOManager-PF] Página cargada exitosamente");
+                if (Log.isDebugEnabled()) {
+                    Log.debug("[IOManager-PF] Página cargada exitosamente");
+                }
                 p.setState(ProcessState.READY);
                 
                 if (counter.thread != null) {
                     scheduler.addProcessThread(counter.thread);
-                    System.out.println("[IOManager-PF] " + p.getPID() + " reactivado");
+                    if (Log.isDebugEnabled()) {
+                        Log.debug("[IOManager-PF] " + p.getPID() + " reactivado");
+                    }
                 }
             } else {
-                System.err.println("[IOManager-PF-ERROR] Fallo al cargar página");
+                Log.error("[IOManager-PF-ERROR] Fallo al cargar página");
                 p.setState(ProcessState.TERMINATED);
+                if (counter.thread != null) {
+                    scheduler.finishProcess(counter.thread);
+                }
             }
         } else {
-            System.err.println("[IOManager-PF-ERROR] Datos incompletos para " + p.getPID());
+            Log.error("[IOManager-PF-ERROR] Datos incompletos para " + p.getPID());
             p.setState(ProcessState.READY);
             if (counter.thread != null) {
                 scheduler.addProcessThread(counter.thread);
@@ -328,24 +387,33 @@ public class IOManager {
         MemoryManager mm = counter.memoryManager;
         
         if (mm != null) {
-            System.out.println("[IOManager-MEM] Cargando " + p.getPages() + " páginas de " + p.getPID());
+            if (Log.isDebugEnabled()) {
+                Log.debug("[IOManager-MEM] Cargando " + p.getPages() + " páginas de " + p.getPID());
+            }
             
-            boolean success = mm.ensurePages(p);
+            boolean success = mm.ensurePages(p, coreOf(counter));
             
             if (success) {
-                System.out.println("[IOManager-MEM] Carga completa exitosa");
+                if (Log.isDebugEnabled()) {
+                    Log.debug("[IOManager-MEM] Carga completa exitosa");
+                }
                 p.setState(ProcessState.READY);
                 
                 if (counter.thread != null) {
                     scheduler.addProcessThread(counter.thread);
-                    System.out.println("[IOManager-MEM] " + p.getPID() + " reactivado");
+                    if (Log.isDebugEnabled()) {
+                        Log.debug("[IOManager-MEM] " + p.getPID() + " reactivado");
+                    }
                 }
             } else {
-                System.err.println("[IOManager-MEM-ERROR] Fallo en carga completa");
+                Log.error("[IOManager-MEM-ERROR] Fallo en carga completa");
                 p.setState(ProcessState.TERMINATED);
+                if (counter.thread != null) {
+                    scheduler.finishProcess(counter.thread);
+                }
             }
         } else {
-            System.err.println("[IOManager-MEM-ERROR] No hay MemoryManager para " + p.getPID());
+            Log.error("[IOManager-MEM-ERROR] No hay MemoryManager para " + p.getPID());
             p.setState(ProcessState.READY);
             if (counter.thread != null) {
                 scheduler.addProcessThread(counter.thread);
@@ -361,24 +429,42 @@ public class IOManager {
         return !ioCounters.isEmpty();
     }
     
+    /**
+     * Ciclo más cercano en el que alguna operación queda disponible,
+     * o Integer.MAX_VALUE si no hay operaciones activas.
+     */
+    public int getNextCompletionCycle() {
+        int next = Integer.MAX_VALUE;
+        for (IOCounter counter : ioCounters.values()) {
+            next = Math.min(next, counter.availableAtCycle);
+        }
+        return next;
+    }
+    
+    // Se vuelca a nivel TRACE: con el log más bajo no se recorre nada
     public void printActiveOperations() {
+        if (!Log.isTraceEnabled()) {
+            return;
+        }
         if (ioCounters.isEmpty()) {
-            System.out.println("[IOManager] No hay operaciones activas");
+            Log.trace("[IOManager] No hay operaciones activas");
             return;
         }
         
         int currentCycle = getCurrentCycle();
-        System.out.println("\n[IOManager] Operaciones activas (T=" + currentCycle + "):");
+        Log.trace("\n[IOManager] Operaciones activas (T=" + currentCycle + "):");
         
         for (Map.Entry<String, IOCounter> entry : ioCounters.entrySet()) {
             IOCounter counter = entry.getValue();
             String status = counter.getStatus(currentCycle);
-            System.out.println("  " + entry.getKey() + ": " + status);
+            Log.trace("  " + entry.getKey() + ": " + status);
         }
     }
     
     public void shutdown() {
         ioCounters.clear();
-        System.out.println("[IOManager] Apagado");
+        if (Log.isInfoEnabled()) {
+            Log.info("[IOManager] Apagado");
+        }
     }
 }
\ No newline at end of file
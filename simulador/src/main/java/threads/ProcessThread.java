@@ -1,50 +1,129 @@
 package threads;
 
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import logging.Log;
 import process.Burst;
 import process.BurstResource;
 import process.Process;
 import process.ProcessState;
 import synchronization.SyncManager;
 
-public class ProcessThread extends Thread {
+/**
+ * Ejecución de un proceso simulado. Por defecto cada proceso corre en un
+ * hilo virtual, así una carga de decenas de miles de procesos no necesita
+ * un hilo del sistema operativo por proceso. La espera usa ReentrantLock y
+ * Condition (no synchronized/wait) para no fijar el hilo virtual a su carrier.
+ */
+public class ProcessThread implements Runnable {
+    private static final ThreadFactory VIRTUAL_FACTORY = Thread.ofVirtual().name("proceso-", 0).factory();
+    private static final ThreadFactory PLATFORM_FACTORY = Thread.ofPlatform().name("proceso-", 0).factory();
+    
     private Process process;
     private volatile boolean running = false;
     private volatile boolean terminated = false;
-    private final Object executionLock = new Object();
+    private final ReentrantLock executionLock = new ReentrantLock();
+    private final Condition executionChanged = executionLock.newCondition();
+    private final ThreadFactory threadFactory;
+    private volatile Thread thread;
     private volatile boolean burstCompleted = false;
     private IOManager ioManager;
     private volatile boolean shouldStartIO = false;
     private SyncManager syncManager;
+    // Último núcleo donde ejecutó (-1 si todavía no ejecutó); para contar migraciones
+    private int lastCore = -1;
+    // Núcleo en cuya cola READY está el hilo (-1 si no está encolado); lo mantiene el Scheduler
+    private int queuedCore = -1;
+    // Posición en el HeapReadyQueue que lo contiene (-1 si no está en ninguno); la mantiene esa cola
+    private int heapSlot = -1;
     
     public ProcessThread(Process process, IOManager ioManager) {
+        this(process, ioManager, VIRTUAL_FACTORY);
+    }
+    
+    public ProcessThread(Process process, IOManager ioManager, ThreadFactory threadFactory) {
+        this(process, ioManager, threadFactory, SyncManager.getInstance());
+    }
+    
+    public ProcessThread(Process process, IOManager ioManager, ThreadFactory threadFactory, SyncManager syncManager) {
         this.process = process;
         this.ioManager = ioManager;
-        this.syncManager = SyncManager.getInstance();
+        this.threadFactory = threadFactory;
+        this.syncManager = syncManager;
+    }
+    
+    public static ThreadFactory virtualThreadFactory() {
+        return VIRTUAL_FACTORY;
+    }
+    
+    public static ThreadFactory platformThreadFactory() {
+        return PLATFORM_FACTORY;
+    }
+    
+    // Crea el hilo (virtual o de plataforma según la fábrica) y lo arranca
+    public void start() {
+        if (thread != null) {
+            throw new IllegalThreadStateException("Hilo ya iniciado para " + process.getPID());
+        }
+        thread = threadFactory.newThread(this);
+        thread.start();
+    }
+    
+    public boolean isAlive() {
+        Thread t = thread;
+        return t != null && t.isAlive();
+    }
+    
+    public boolean isVirtual() {
+        Thread t = thread;
+        return t != null && t.isVirtual();
+    }
+    
+    public void join() throws InterruptedException {
+        Thread t = thread;
+        if (t != null) {
+            t.join();
+        }
     }
     
     @Override
     public void run() {
-        System.out.println("[ProcessThread] Hilo iniciado para: " + process.getPID());
+        if (Log.isTraceEnabled()) {
+            Log.trace("[ProcessThread] Hilo iniciado para: " + process.getPID());
+        }
         
         while (!terminated) {
-            synchronized (executionLock) {
+            executionLock.lock();
+            try {
                 while (!running && !terminated) {
-                    try {
-                        executionLock.wait();
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        return;
-                    }
+                    executionChanged.await();
                 }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                executionLock.unlock();
             }
             
             if (terminated) break;
             
             executeOneUnit();
-            running = false;
+            
+            // Avisar al scheduler que la unidad ya fue consumida
+            executionLock.lock();
+            try {
+                running = false;
+                executionChanged.signalAll();
+            } finally {
+                executionLock.unlock();
+            }
         }
         
-        System.out.println("[ProcessThread] Hilo terminado para: " + process.getPID());
+        if (Log.isTraceEnabled()) {
+            Log.trace("[ProcessThread] Hilo terminado para: " + process.getPID());
+        }
         syncManager.cleanupProcess(process.getPID());
     }
     
@@ -53,20 +132,26 @@ public class ProcessThread extends Thread {
         try {
             if (process.getState() == ProcessState.BLOCKED_IO || 
                 process.getState() == ProcessState.BLOCKED_MEM) {
-                System.out.println("[ProcessThread] " + process.getPID() + 
-                    " está bloqueado (" + process.getState() + "), no ejecuta");
+                if (Log.isTraceEnabled()) {
+                    Log.trace("[ProcessThread] " + process.getPID() + 
+                        " está bloqueado (" + process.getState() + "), no ejecuta");
+                }
                 burstCompleted = true;
                 return;
             }
             
             if (process.getState() == ProcessState.TERMINATED) {
-                System.out.println("[ProcessThread] " + process.getPID() + " ya terminó");
+                if (Log.isTraceEnabled()) {
+                    Log.trace("[ProcessThread] " + process.getPID() + " ya terminó");
+                }
                 burstCompleted = true;
                 return;
             }
             
             if (process.isFinished()) {
-                System.out.println("[ProcessThread]  " + process.getPID() + " TERMINÓ");
+                if (Log.isTraceEnabled()) {
+                    Log.trace("[ProcessThread]  " + process.getPID() + " TERMINÓ");
+                }
                 process.setState(ProcessState.TERMINATED);
                 burstCompleted = true;
                 return;
@@ -74,27 +159,33 @@ public class ProcessThread extends Thread {
             
             Burst currentBurst = process.getBurst();
             if (currentBurst == null) {
-                System.out.println("[ProcessThread]  " + process.getPID() + " no tiene ráfaga actual");
+                if (Log.isTraceEnabled()) {
+                    Log.trace("[ProcessThread]  " + process.getPID() + " no tiene ráfaga actual");
+                }
                 burstCompleted = true;
                 return;
             }
             
-            System.out.println("[ProcessThread] " + process.getPID() + 
-                " - Ráfaga: " + currentBurst.getResource() + 
-                "(" + currentBurst.getTime_remaining() + "/" + 
-                currentBurst.getTime_total() + "), Estado: " + process.getState());
+            if (Log.isTraceEnabled()) {
+                Log.trace("[ProcessThread] " + process.getPID() + 
+                    " - Ráfaga: " + currentBurst.getResource() + 
+                    "(" + currentBurst.getTime_remaining() + "/" + 
+                    currentBurst.getTime_total() + "), Estado: " + process.getState());
+            }
             
             if (currentBurst.getResource() == BurstResource.CPU) {
                 if (process.getState() == ProcessState.READY || 
                     process.getState() == ProcessState.RUNNING) {
                     executeCPUUnit(currentBurst);
                 } else {
-                    System.out.println("[ProcessThread] " + process.getPID() + 
-                                    " no puede ejecutar CPU en estado: " + process.getState());
+                    if (Log.isTraceEnabled()) {
+                        Log.trace("[ProcessThread] " + process.getPID() + 
+                                        " no puede ejecutar CPU en estado: " + process.getState());
+                    }
                     burstCompleted = true;
                 }
             } else if (currentBurst.getResource() == BurstResource.IO) {
-                System.out.println("[ProcessThread-WARN] " + process.getPID() + 
+                Log.warn("[ProcessThread-WARN] " + process.getPID() + 
                                 " tiene ráfaga IO en executeOneUnit() - Estado incorrecto");
                 burstCompleted = true;
             }
@@ -109,19 +200,25 @@ public class ProcessThread extends Thread {
         currentBurst.consumirUnidad();
         process.setCpu_usage(process.getCpu_usage() + 1);
         
-        System.out.println("[ProcessThread] " + process.getPID() + 
-                        " ejecutó CPU. Restante: " + currentBurst.getTime_remaining());
+        if (Log.isTraceEnabled()) {
+            Log.trace("[ProcessThread] " + process.getPID() + 
+                            " ejecutó CPU. Restante: " + currentBurst.getTime_remaining());
+        }
         
         if (currentBurst.isFinished()) {
-            System.out.println("[ProcessThread] " + process.getPID() + " COMPLETÓ ráfaga CPU");
+            if (Log.isTraceEnabled()) {
+                Log.trace("[ProcessThread] " + process.getPID() + " COMPLETÓ ráfaga CPU");
+            }
             boolean wasLastBurst = (process.getInd_burst() == process.getBursts().size() - 1);
             
             process.nextBurst();
             burstCompleted = true;
             
-            System.out.println("[ProcessThread-DEBUG] " + process.getPID() + 
-                " - ¿Era última ráfaga?: " + wasLastBurst +
-                ", Estado después: " + process.getState());
+            if (Log.isTraceEnabled()) {
+                Log.trace("[ProcessThread-DEBUG] " + process.getPID() + 
+                    " - ¿Era última ráfaga?: " + wasLastBurst +
+                    ", Estado después: " + process.getState());
+            }
             
         } else {
             burstCompleted = false;
@@ -130,40 +227,77 @@ public class ProcessThread extends Thread {
     
     private void startIOOperation() {
         if (process.isFinished() || process.getState() == ProcessState.TERMINATED) {
-            System.out.println("[ProcessThread]  " + process.getPID() + 
-                            " - Proceso terminó, no se inicia E/S");
+            if (Log.isTraceEnabled()) {
+                Log.trace("[ProcessThread]  " + process.getPID() + 
+                                " - Proceso terminó, no se inicia E/S");
+            }
             burstCompleted = true;
             return;
         }
         
         Burst ioBurst = process.getBurst();
         if (ioBurst != null && ioBurst.getResource() == BurstResource.IO) {
-            System.out.println("[ProcessThread]  " + process.getPID() + 
-                            " INICIANDO E/S - Duración: " + ioBurst.getTime_total() + " unidades");
+            if (Log.isTraceEnabled()) {
+                Log.trace("[ProcessThread]  " + process.getPID() + 
+                                " INICIANDO E/S - Duración: " + ioBurst.getTime_total() + " unidades");
+            }
             
             process.setState(ProcessState.BLOCKED_IO);
             
             ioManager.startIOOperation(process, ioBurst.getTime_total(), this);
             burstCompleted = true;
             
-            System.out.println("[ProcessThread]  " + process.getPID() + 
-                            " - E/S iniciada, estado: BLOCKED_IO por " + 
-                            ioBurst.getTime_total() + " ciclos");
+            if (Log.isTraceEnabled()) {
+                Log.trace("[ProcessThread]  " + process.getPID() + 
+                                " - E/S iniciada, estado: BLOCKED_IO por " + 
+                                ioBurst.getTime_total() + " ciclos");
+            }
         } else {
-            System.out.println("[ProcessThread] " + process.getPID() + 
-                            " - No hay ráfaga E/S válida");
+            if (Log.isTraceEnabled()) {
+                Log.trace("[ProcessThread] " + process.getPID() + 
+                                " - No hay ráfaga E/S válida");
+            }
             burstCompleted = true;
         }
     }
     
     public void startExecution() {
-        synchronized (executionLock) {
+        executionLock.lock();
+        try {
             running = true;
             burstCompleted = false;
-            executionLock.notify();
+            executionChanged.signalAll();
+        } finally {
+            executionLock.unlock();
         }
     }
     
+    /**
+     * Bloquea al llamador hasta que el hilo termine la unidad pedida con
+     * startExecution(). Reemplaza la espera fija con Thread.sleep().
+     */
+    public void awaitUnitCompletion() {
+        executionLock.lock();
+        try {
+            while (running && !terminated && isAlive()) {
+                executionChanged.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executionLock.unlock();
+        }
+    }
+    
+    /**
+     * Modo headless: consume la unidad de CPU en el hilo que llama
+     * (el del scheduler), sin despertar a este hilo.
+     */
+    public void executeUnitInline() {
+        burstCompleted = false;
+        executeOneUnit();
+    }
+    
     public Process getProcess() {
         return process;
     }
@@ -180,6 +314,34 @@ public class ProcessThread extends Thread {
         return process.getState() == ProcessState.TERMINATED;
     }
     
+    public int getLastCore() {
+        return lastCore;
+    }
+    
+    public void setLastCore(int lastCore) {
+        this.lastCore = lastCore;
+    }
+    
+    public int getQueuedCore() {
+        return queuedCore;
+    }
+    
+    public void setQueuedCore(int queuedCore) {
+        this.queuedCore = queuedCore;
+    }
+    
+    public boolean isQueued() {
+        return queuedCore >= 0;
+    }
+    
+    public int getHeapSlot() {
+        return heapSlot;
+    }
+    
+    public void setHeapSlot(int heapSlot) {
+        this.heapSlot = heapSlot;
+    }
+    
     public boolean isBlockedByIO() {
         return process.getState() == ProcessState.BLOCKED_IO;
     }
@@ -187,8 +349,11 @@ public class ProcessThread extends Thread {
     public void terminate() {
         terminated = true;
         running = false;
-        synchronized (executionLock) {
-            executionLock.notify();
+        executionLock.lock();
+        try {
+            executionChanged.signalAll();
+        } finally {
+            executionLock.unlock();
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+package logging;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+public class LogTest {
+
+    private static class ListSink implements LogSink {
+        final List<String> lineas = new ArrayList<>();
+
+        @Override
+        public void write(Level level, String message) {
+            lineas.add(level + ":" + message);
+        }
+    }
+
+    @Test
+    public void testNivelFiltraMensajes() {
+        ListSink sink = new ListSink();
+        Log.setSink(sink);
+        try {
+            Log.setLevel(Level.INFO);
+            assertTrue(Log.isInfoEnabled());
+            assertTrue(Log.isErrorEnabled());
+            assertFalse(Log.isDebugEnabled());
+            assertFalse(Log.isTraceEnabled());
+
+            Log.error("e");
+            Log.info("i");
+            Log.debug("d");
+            Log.trace("t");
+            assertEquals(List.of("ERROR:e", "INFO:i"), sink.lineas);
+
+            Log.setLevel(Level.OFF);
+            assertFalse(Log.isErrorEnabled());
+            Log.error("nada");
+            assertEquals(2, sink.lineas.size());
+        } finally {
+            Log.setLevel(Level.TRACE);
+            Log.setSink(new ConsoleSink());
+        }
+    }
+
+    @Test
+    public void testArchivoAsincronoConservaOrden() throws IOException {
+        Path archivo = Files.createTempFile("simlog", ".log");
+        AsyncFileSink sink = new AsyncFileSink(archivo, 128);
+        for (int i = 0; i < 100; i++) {
+            sink.write(Level.DEBUG, "linea " + i);
+        }
+        sink.flush();
+        assertEquals(100, sink.getWritten());
+        assertEquals(0, sink.getDropped());
+        // flush() deja las líneas en el archivo sin esperar al cierre
+        assertEquals(100, Files.readAllLines(archivo, StandardCharsets.UTF_8).size());
+        sink.close();
+
+        List<String> lineas = Files.readAllLines(archivo, StandardCharsets.UTF_8);
+        assertEquals(100, lineas.size());
+        int anterior = -1;
+        for (String linea : lineas) {
+            assertTrue(linea.startsWith("DEBUG linea "));
+            int n = Integer.parseInt(linea.substring("DEBUG linea ".length()));
+            assertTrue(n > anterior);
+            anterior = n;
+        }
+        Files.delete(archivo);
+    }
+
+    @Test
+    public void testBufferLlenoDescartaSinBloquear() throws IOException {
+        Path archivo = Files.createTempFile("simlog", ".log");
+        AsyncFileSink sink = new AsyncFileSink(archivo, 4);
+        for (int i = 0; i < 50_000; i++) {
+            sink.write(Level.TRACE, "x" + i);
+        }
+        sink.close();
+        assertEquals(50_000, sink.getWritten() + sink.getDropped());
+        assertEquals(sink.getWritten(), Files.readAllLines(archivo, StandardCharsets.UTF_8).size());
+
+        // Cerrado, ya no acepta nada
+        sink.write(Level.TRACE, "tarde");
+        assertEquals(50_001, sink.getWritten() + sink.getDropped());
+        Files.delete(archivo);
+    }
+
+    // Se bloquea en la primera escritura real hasta que el test lo suelta, y falla
+    private static class WriterRoto extends Writer {
+        final CountDownLatch adentro = new CountDownLatch(1);
+        final CountDownLatch soltar = new CountDownLatch(1);
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            adentro.countDown();
+            try {
+                soltar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("disco lleno");
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void testEscritorMuertoConBufferLlenoNoBloquea() throws InterruptedException {
+        WriterRoto roto = new WriterRoto();
+        AsyncFileSink sink = new AsyncFileSink(roto, 4);
+        sink.write(Level.INFO, "primera");
+        roto.adentro.await();
+        // El escritor quedó trabado en el disco: el buffer se llena
+        for (int i = 0; i < 10; i++) {
+            sink.write(Level.INFO, "x" + i);
+        }
+        assertEquals(6, sink.getDropped());
+
+        Log.setSink(sink);
+        roto.soltar.countDown();
+        sink.flush();
+        Log.setSink(new ConsoleSink());
+        sink.write(Level.INFO, "tarde");
+        assertEquals(7, sink.getDropped());
+    }
+}
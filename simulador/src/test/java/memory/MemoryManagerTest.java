@@ -0,0 +1,85 @@
+package memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static memory.MemoryTestSupport.crearMemoria;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+import memory.algoritmos.FIFO;
+import memory.algoritmos.LRU;
+
+public class MemoryManagerTest {
+
+    // Cada frame ocupado apunta a una entrada presente que apunta de vuelta a él
+    private void verificarTablaInvertida(MemoryManager memory) {
+        int ocupados = 0;
+        for (Frame frame : memory.getPhysicalMemory()) {
+            if (!frame.isOccupied()) {
+                assertNull(frame.getOwnerProcessId());
+                continue;
+            }
+            ocupados++;
+            PageTable pt = memory.getPageTable(frame.getOwnerProcessId());
+            PageTableEntry entry = pt.getEntry(frame.getOwnerPage());
+            assertTrue(entry.isPresent());
+            assertEquals(frame.getId(), entry.getFrameNumber());
+        }
+        int presentes = 0;
+        for (PageTable pt : memory.getAllPageTables().values()) {
+            for (int i = 0; i < pt.getTotalPages(); i++) {
+                if (pt.isPageLoaded(i)) {
+                    presentes++;
+                }
+            }
+        }
+        assertEquals(ocupados, presentes);
+    }
+
+    @Test
+    public void testDuenoDelFrameTrasReemplazos() {
+        MemoryManager memory = crearMemoria(3, new FIFO());
+        memory.createProcess("P1", 4);
+        memory.createProcess("P2", 3);
+
+        memory.loadPage("P1", 0);
+        memory.loadPage("P1", 1);
+        memory.loadPage("P2", 0);
+        assertEquals("P1-P0", memory.findPageInFrame(memory.getFrame(0)));
+
+        // Sale P1-0 (el más viejo) y su frame pasa a P2-1
+        memory.loadPage("P2", 1);
+        assertEquals("P2-P1", memory.findPageInFrame(memory.getFrame(0)));
+        assertEquals("P2", memory.getFrame(0).getOwnerProcessId());
+        assertEquals(1, memory.getFrame(0).getOwnerPage());
+        assertEquals(1, memory.getReplacements("P1"));
+
+        memory.releaseProcessMemory("P2");
+        assertEquals("FREE", memory.findPageInFrame(memory.getFrame(0)));
+        assertEquals(-1, memory.getFrame(0).getOwnerPage());
+        verificarTablaInvertida(memory);
+    }
+
+    @Test
+    public void testTablaInvertidaConsistente() {
+        MemoryManager memory = crearMemoria(16, new LRU());
+        for (int p = 0; p < 10; p++) {
+            memory.createProcess("P" + p, 6);
+        }
+        SplittableRandom random = new SplittableRandom(9);
+        for (int i = 0; i < 5_000; i++) {
+            String pid = "P" + random.nextInt(10);
+            assertTrue(memory.loadPage(pid, random.nextInt(6)));
+            if (i % 500 == 499) {
+                memory.releaseProcessMemory(pid);
+            }
+            if (i % 50 == 0) {
+                verificarTablaInvertida(memory);
+            }
+        }
+        verificarTablaInvertida(memory);
+    }
+}
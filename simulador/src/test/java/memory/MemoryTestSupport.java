@@ -0,0 +1,36 @@
+package memory;
+
+import memory.algoritmos.ReplacementAlgorithm;
+import synchronization.SyncManager;
+
+/**
+ * Fábricas compartidas por los tests de memoria y de los algoritmos de
+ * reemplazo. Cada memoria tiene su propio SyncManager.
+ */
+public final class MemoryTestSupport {
+
+    private MemoryTestSupport() {
+    }
+
+    public static MemoryManager crearMemoria(int frames, ReplacementAlgorithm algoritmo) {
+        return new MemoryManager(frames, algoritmo, new SyncManager());
+    }
+
+    // Con los procesos ya creados, todos con la misma cantidad de páginas
+    public static MemoryManager crearMemoria(int frames, ReplacementAlgorithm algoritmo, int paginas,
+                                             String... pids) {
+        MemoryManager memory = crearMemoria(frames, algoritmo);
+        for (String pid : pids) {
+            memory.createProcess(pid, paginas);
+        }
+        return memory;
+    }
+
+    // Igual, con reemplazo global: cualquier proceso puede quitarle frames a otro
+    public static MemoryManager crearMemoriaGlobal(int frames, ReplacementAlgorithm algoritmo, int paginas,
+                                                   String... pids) {
+        MemoryManager memory = crearMemoria(frames, algoritmo, paginas, pids);
+        memory.setGlobalReplacement(true);
+        return memory;
+    }
+}
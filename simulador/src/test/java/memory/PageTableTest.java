@@ -0,0 +1,86 @@
+package memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+public class PageTableTest {
+
+    @Test
+    public void testEntradaEsUnaVistaDeLaTabla() {
+        PageTable pt = new PageTable("P1", 8);
+        PageTableEntry entry = pt.getEntry(3);
+        assertFalse(entry.isPresent());
+        assertEquals(-1, entry.getFrameNumber());
+
+        pt.pageLoaded(3, 0);
+        assertTrue(entry.isPresent());
+        assertEquals(0, entry.getFrameNumber());
+        assertTrue(entry.isReferenced());
+
+        entry.setModified(true);
+        entry.setPrefetched(true);
+        assertTrue(pt.isModified(3));
+        assertTrue(pt.isPrefetched(3));
+        assertEquals(Integer.valueOf(3), pt.findPageInFrame(0));
+
+        pt.pageUnloaded(3);
+        assertFalse(entry.isPresent());
+        assertFalse(entry.isModified());
+        assertFalse(entry.isPrefetched());
+        assertNull(pt.findPageInFrame(0));
+    }
+
+    @Test
+    public void testMultinivelIgualAPlana() {
+        int paginas = 5000;
+        PageTable plana = new PageTable("P1", paginas);
+        PageTable multinivel = new MultiLevelPageTable("P1", paginas);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 20000; i++) {
+            int pagina = random.nextInt(paginas);
+            for (PageTable pt : new PageTable[]{plana, multinivel}) {
+                switch (i % 4) {
+                    case 0: pt.pageLoaded(pagina, i % 1000); break;
+                    case 1: pt.pageUnloaded(pagina); break;
+                    case 2: pt.setModified(pagina, true); break;
+                    default: pt.setReferenced(pagina, false); break;
+                }
+            }
+        }
+        for (int p = 0; p < paginas; p++) {
+            assertEquals(plana.isPageLoaded(p), multinivel.isPageLoaded(p));
+            assertEquals(plana.getFrameNumber(p), multinivel.getFrameNumber(p));
+            assertEquals(plana.isReferenced(p), multinivel.isReferenced(p));
+            assertEquals(plana.isModified(p), multinivel.isModified(p));
+        }
+    }
+
+    @Test
+    public void testMultinivelReservaSoloLasHojasUsadas() {
+        PageTable pt = PageTable.create("P1", 1 << 20);
+        assertTrue(pt instanceof MultiLevelPageTable);
+        assertEquals(0, pt.getAllocatedEntries());
+
+        pt.pageLoaded(0, 1);
+        pt.pageLoaded(1, 2);
+        pt.pageLoaded(700000, 3);
+        assertEquals(2 * MultiLevelPageTable.LEAF_SIZE, pt.getAllocatedEntries());
+        assertEquals(Integer.valueOf(700000), pt.findPageInFrame(3));
+        assertFalse(pt.isPageLoaded(699999));
+
+        // La hoja se libera cuando su última página sale de memoria
+        pt.pageUnloaded(700000);
+        assertEquals(MultiLevelPageTable.LEAF_SIZE, pt.getAllocatedEntries());
+        pt.pageUnloaded(0);
+        pt.pageUnloaded(1);
+        assertEquals(0, pt.getAllocatedEntries());
+
+        assertTrue(PageTable.create("P2", 64).getClass() == PageTable.class);
+    }
+}
@@ -0,0 +1,105 @@
+package memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static memory.MemoryTestSupport.crearMemoriaGlobal;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+import memory.algoritmos.Clock;
+import memory.algoritmos.LRU;
+import memory.algoritmos.Optimo;
+
+public class PrefetcherTest {
+
+    @Test
+    public void testVentanaFijaTraeLasSiguientes() {
+        MemoryManager memory = crearMemoriaGlobal(16, new LRU(), 64, "P1");
+        memory.setPrefetcher(new Prefetcher(4, false));
+        memory.loadPage("P1", 0);
+        for (int p = 1; p <= 4; p++) {
+            assertTrue(memory.isPageLoaded("P1", p));
+            // Entran sin bit R: nadie las usó todavía
+            assertFalse(memory.getPageTable("P1").getEntry(p).isReferenced());
+        }
+        for (int p = 1; p <= 4; p++) {
+            memory.loadPage("P1", p);
+        }
+        assertEquals(1, memory.getPageFaults("P1"));
+        assertEquals(4, memory.getPrefetched("P1"));
+        assertEquals(4, memory.getPrefetchHits("P1"));
+        assertEquals(0, memory.getPrefetchWasted("P1"));
+    }
+
+    @Test
+    public void testAdaptativaCreceConBarridosYSeApagaAlAzar() {
+        MemoryManager secuencial = crearMemoriaGlobal(64, new LRU(), 64, "P1");
+        secuencial.setPrefetcher(new Prefetcher(8, true));
+        for (int p = 0; p < 64; p++) {
+            secuencial.loadPage("P1", p);
+        }
+        // Ventanas 0, 1, 2, 4, 8, 8...: bastantes menos fallos que páginas
+        assertTrue(secuencial.getPageFaults("P1") < 12);
+        assertEquals(secuencial.getPrefetched("P1"), secuencial.getPrefetchHits("P1"));
+
+        MemoryManager azar = crearMemoriaGlobal(64, new LRU(), 64, "P1");
+        azar.setPrefetcher(new Prefetcher(8, true));
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 200; i++) {
+            azar.loadPage("P1", random.nextInt(64));
+        }
+        // Solo se anticipa cuando dos fallos caen seguidos por casualidad
+        assertTrue(azar.getPrefetched("P1") < 10);
+    }
+
+    @Test
+    public void testNoExpulsaLaPaginaDelFallo() {
+        MemoryManager memory = crearMemoriaGlobal(2, new LRU(), 64, "P1");
+        memory.setPrefetcher(new Prefetcher(4, false));
+        memory.loadPage("P1", 0);
+        assertTrue(memory.isPageLoaded("P1", 0));
+        assertTrue(memory.isPageLoaded("P1", 1));
+
+        // 5 entra en lugar de 0; 6 en lugar de 1, que nunca se usó
+        memory.loadPage("P1", 5);
+        assertTrue(memory.isPageLoaded("P1", 5));
+        assertTrue(memory.isPageLoaded("P1", 6));
+        assertEquals(1, memory.getPrefetchWasted("P1"));
+    }
+
+    @Test
+    public void testLaAgujaSalteaLaPaginaDelFallo() {
+        MemoryManager memory = crearMemoriaGlobal(2, new Clock(), 8, "P1");
+        memory.setPrefetcher(new Prefetcher(1, false));
+        memory.loadPage("P1", 0);   // frame 0; anticipa 1 en el frame 1
+        memory.loadPage("P1", 1);
+        memory.getPageTable("P1").setReferenced(0, false);
+
+        // 3 entra en el frame 0 y la aguja queda en el 1; al anticipar 4 la
+        // vuelta pasa por el frame de 3 sin apagarle el bit R
+        memory.loadPage("P1", 3);
+        assertTrue(memory.isPageLoaded("P1", 4));
+        assertFalse(memory.isPageLoaded("P1", 1));
+        assertTrue(memory.getPageTable("P1").isReferenced(3));
+    }
+
+    @Test
+    public void testOptimoNoConsumeLasAnticipadas() {
+        Optimo optimo = new Optimo();
+        optimo.setFutureAccessSequence("P1", List.of(0, 1, 2, 0, 3));
+        MemoryManager memory = crearMemoriaGlobal(3, optimo, 4, "P1");
+        memory.setPrefetcher(new Prefetcher(1, false));
+
+        memory.loadPage("P1", 0);   // fallo, anticipa 1
+        memory.loadPage("P1", 1);
+        memory.loadPage("P1", 2);   // fallo, anticipa 3 expulsando a 1 (no vuelve a usarse)
+        memory.loadPage("P1", 0);
+        memory.loadPage("P1", 3);
+        assertEquals(2, memory.getPageFaults("P1"));
+        assertTrue(memory.isPageLoaded("P1", 0));
+    }
+}
@@ -0,0 +1,98 @@
+package memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import memory.algoritmos.FIFO;
+import synchronization.SyncManager;
+
+public class TLBTest {
+
+    @Test
+    public void testConjuntoDesalojaElMenosReciente() {
+        // 4 entradas, 2 vías: las páginas pares caen todas en el conjunto 0
+        TLB tlb = new TLB(4, 2, TLB.Replacement.LRU, true, 10);
+        tlb.insert("P1", 0, 10);
+        tlb.insert("P1", 2, 12);
+        assertEquals(10, tlb.lookup("P1", 0));
+        tlb.insert("P1", 4, 14);
+
+        assertEquals(-1, tlb.lookup("P1", 2));
+        assertEquals(10, tlb.lookup("P1", 0));
+        assertEquals(14, tlb.lookup("P1", 4));
+        // El conjunto 1 no se tocó
+        tlb.insert("P1", 1, 11);
+        assertEquals(11, tlb.lookup("P1", 1));
+    }
+
+    @Test
+    public void testVaciadoPorCambioDeContextoVsASID() {
+        for (boolean asid : new boolean[]{false, true}) {
+            TLB tlb = new TLB(8, 8, TLB.Replacement.LRU, asid, 10);
+            tlb.contextSwitch("P1");
+            tlb.insert("P1", 3, 7);
+            tlb.contextSwitch("P2");
+            tlb.contextSwitch("P1");
+
+            assertEquals(asid ? 7 : -1, tlb.lookup("P1", 3));
+            assertEquals(3, tlb.getContextSwitches());
+            assertEquals(asid ? 0 : 3, tlb.getFlushes());
+        }
+    }
+
+    @Test
+    public void testAccesoEfectivo() {
+        TLB tlb = new TLB(8, 8, TLB.Replacement.RANDOM, true, 10);
+        tlb.lookup("P1", 0);
+        tlb.insert("P1", 0, 0);
+        for (int i = 0; i < 3; i++) {
+            tlb.lookup("P1", 0);
+        }
+        assertEquals(3, tlb.getHits("P1"));
+        assertEquals(1, tlb.getMisses("P1"));
+        // 1 ciclo por acceso + 10 por el único fallo, sobre 4 accesos
+        assertEquals(3.5, tlb.getEffectiveAccessTime(), 1e-9);
+    }
+
+    @Test
+    public void testReemplazoInvalidaLaTraduccion() {
+        MemoryManager memory = new MemoryManager(2, new FIFO(), new SyncManager());
+        memory.setGlobalReplacement(true);
+        memory.setTlb(new TLB(4, 4, TLB.Replacement.LRU, true, 10));
+        memory.createProcess("P1", 3);
+
+        memory.loadPage("P1", 0);
+        memory.loadPage("P1", 0);
+        assertEquals(1, memory.getTlb().getHits("P1"));
+
+        memory.loadPage("P1", 1);
+        memory.loadPage("P1", 2);   // FIFO expulsa la 0
+        assertFalse(memory.isPageLoaded("P1", 0));
+        int fallos = memory.getPageFaults("P1");
+        // Sin la invalidación el TLB devolvería el frame viejo y no habría fallo
+        memory.loadPage("P1", 0);
+        assertEquals(fallos + 1, memory.getPageFaults("P1"));
+        assertTrue(memory.isPageLoaded("P1", 0));
+    }
+
+    @Test
+    public void testExpulsionInvalidaEnTodosLosNucleos() {
+        MemoryManager memory = new MemoryManager(2, new FIFO(), new SyncManager());
+        memory.setGlobalReplacement(true);
+        memory.setTlb(new TLB(4, 4, TLB.Replacement.LRU, true, 10));
+        memory.createProcess("P1", 3);
+
+        memory.loadPage("P1", 0, false, 1);
+        assertTrue(memory.getTlb(1) != memory.getTlb());
+        assertEquals(-1, memory.getTlb(0).lookup("P1", 0));
+        assertTrue(memory.getTlb(1).lookup("P1", 0) >= 0);
+
+        // El núcleo 0 trae dos páginas y FIFO expulsa la 0, traducida en el núcleo 1
+        memory.loadPage("P1", 1, false, 0);
+        memory.loadPage("P1", 2, false, 0);
+        assertEquals(-1, memory.getTlb(1).lookup("P1", 0));
+    }
+}
@@ -0,0 +1,73 @@
+package memory.algoritmos;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static memory.MemoryTestSupport.crearMemoria;
+import static memory.MemoryTestSupport.crearMemoriaGlobal;
+
+import org.junit.Test;
+
+import memory.MemoryManager;
+
+public class AdaptiveReplacementTest {
+
+    // Fallos de las 4 páginas calientes justo después de un barrido de 20 páginas nuevas
+    private int fallosCalientesTrasBarrido(ReplacementAlgorithm algoritmo) {
+        MemoryManager memory = crearMemoriaGlobal(8, algoritmo, 1000, "H");
+        int nueva = 100;
+        for (int r = 0; r < 30; r++) {
+            for (int h = 0; h < 4; h++) {
+                memory.loadPage("H", h);
+            }
+            memory.loadPage("H", nueva++);
+        }
+        for (int i = 0; i < 20; i++) {
+            memory.loadPage("H", nueva++);
+        }
+        int antes = memory.getPageFaults("H");
+        for (int h = 0; h < 4; h++) {
+            memory.loadPage("H", h);
+        }
+        return memory.getPageFaults("H") - antes;
+    }
+
+    @Test
+    public void testBarridoNoDesalojaConjuntoCaliente() {
+        assertEquals(4, fallosCalientesTrasBarrido(new LRU()));
+        assertEquals(0, fallosCalientesTrasBarrido(new ARC()));
+        assertEquals(0, fallosCalientesTrasBarrido(new TwoQ()));
+    }
+
+    @Test
+    public void testARCSubeObjetivoConAciertosEnB1() {
+        ARC arc = new ARC();
+        MemoryManager memory = crearMemoriaGlobal(4, arc, 1000, "H");
+        // 0 y 1 pasan a T2; el bucle 2..5 solo tiene dos frames en T1 y sus víctimas quedan en B1
+        for (int p : new int[]{0, 1, 0, 1}) {
+            memory.loadPage("H", p);
+        }
+        assertEquals(0, arc.getTarget());
+        for (int vuelta = 0; vuelta < 3; vuelta++) {
+            for (int p = 2; p < 6; p++) {
+                memory.loadPage("H", p);
+            }
+        }
+        assertTrue(arc.getTarget() > 0);
+        assertTrue(arc.getTarget() <= 4);
+    }
+
+    @Test
+    public void testRespetaProcesoExcluido() {
+        for (ReplacementAlgorithm algoritmo : new ReplacementAlgorithm[]{new ARC(), new TwoQ()}) {
+            MemoryManager memory = crearMemoria(4, algoritmo, 4, "P1");
+            memory.createProcess("P2", 1);
+            memory.loadPage("P2", 0);
+            memory.loadPage("P1", 0);
+            memory.loadPage("P1", 1);
+            memory.loadPage("P1", 2);
+            // Reemplazo local: P1 solo puede quitarle el frame a P2
+            assertTrue(memory.loadPage("P1", 3));
+            assertEquals(algoritmo.getName(), "P1-P3", memory.findPageInFrame(memory.getFrame(0)));
+        }
+    }
+}
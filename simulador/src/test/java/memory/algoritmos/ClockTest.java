@@ -0,0 +1,97 @@
+package memory.algoritmos;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static memory.MemoryTestSupport.crearMemoria;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+import memory.MemoryManager;
+import memory.PageTableEntry;
+
+public class ClockTest {
+
+    @Test
+    public void testBitsRyM() {
+        MemoryManager memory = crearMemoria(2, new Clock(), 4, "P1", "P2");
+        memory.loadPage("P1", 0);
+        PageTableEntry entry = memory.getPageTable("P1").getEntry(0);
+        assertTrue(entry.isReferenced());
+        assertFalse(entry.isModified());
+
+        memory.loadPage("P1", 0, true);
+        assertTrue(entry.isModified());
+
+        memory.releaseProcessMemory("P1");
+        assertFalse(entry.isReferenced());
+        assertFalse(entry.isModified());
+    }
+
+    @Test
+    public void testClockDaSegundaOportunidad() {
+        MemoryManager memory = crearMemoria(3, new Clock(), 4, "P1", "P2");
+        memory.loadPage("P1", 0);   // frame 0
+        memory.loadPage("P1", 1);   // frame 1
+        memory.loadPage("P1", 2);   // frame 2
+
+        // Todos con R=1: la aguja da la vuelta apagándolos y vuelve al frame 0
+        memory.loadPage("P2", 0);
+        assertEquals("P2-P0", memory.findPageInFrame(memory.getFrame(0)));
+
+        // P1-1 se vuelve a usar: se salva y sale P1-2
+        memory.loadPage("P1", 1);
+        memory.loadPage("P2", 1);
+        assertEquals("P2-P1", memory.findPageInFrame(memory.getFrame(2)));
+        assertTrue(memory.isPageLoaded("P1", 1));
+    }
+
+    @Test
+    public void testSegundaOportunidadMejoradaPrefiereLimpias() {
+        MemoryManager memory = crearMemoria(3, new EnhancedSecondChance(), 4, "P1", "P2");
+        memory.loadPage("P1", 0, true);   // frame 0, modificada
+        memory.loadPage("P1", 1);         // frame 1, limpia
+        memory.loadPage("P1", 2, true);   // frame 2, modificada
+
+        // Tras apagar los R, la primera (0,0) es P1-1
+        memory.loadPage("P2", 0);
+        assertEquals("P2-P0", memory.findPageInFrame(memory.getFrame(1)));
+        assertEquals(0, memory.getWriteBacks("P1"));
+
+        // Solo quedan modificadas de P1 (y P2-0 referenciada): sale una sucia
+        memory.loadPage("P2", 1);
+        assertEquals(1, memory.getWriteBacks("P1"));
+    }
+
+    @Test
+    public void testRespetaProcesoExcluido() {
+        SplittableRandom random = new SplittableRandom(17);
+        for (ReplacementAlgorithm algoritmo : new ReplacementAlgorithm[]{new Clock(), new EnhancedSecondChance()}) {
+            MemoryManager memory = crearMemoria(4, algoritmo, 4, "P1", "P2");
+            for (int i = 0; i < 2_000; i++) {
+                String pid = random.nextBoolean() ? "P1" : "P2";
+                int pagina = random.nextInt(4);
+                boolean estaba = memory.isPageLoaded(pid, pagina);
+                int propias = 0;
+                for (int p = 0; p < 4; p++) {
+                    if (memory.isPageLoaded(pid, p)) {
+                        propias++;
+                    }
+                }
+                assertTrue(memory.loadPage(pid, pagina, random.nextInt(3) == 0));
+                // Un fallo nunca le quita un frame al mismo proceso
+                if (!estaba && memory.getFreeFramesCount() == 0) {
+                    int despues = 0;
+                    for (int p = 0; p < 4; p++) {
+                        if (memory.isPageLoaded(pid, p)) {
+                            despues++;
+                        }
+                    }
+                    assertEquals(algoritmo.getName(), propias + 1, despues);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package memory.algoritmos;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+import memory.MemoryManager;
+import synchronization.SyncManager;
+
+public class LRUTest {
+
+    @Test
+    public void testVictimaEsLaMenosReciente() {
+        MemoryManager memory = new MemoryManager(3, new LRU(), new SyncManager());
+        memory.createProcess("P1", 3);
+        memory.createProcess("P2", 2);
+
+        memory.loadPage("P1", 0);   // frame 0
+        memory.loadPage("P1", 1);   // frame 1
+        memory.loadPage("P2", 0);   // frame 2
+        memory.loadPage("P1", 0);   // acceso: frame 0 pasa a ser el más reciente
+
+        // La menos reciente es P1-1, pero P1 está excluido: sale P2-0
+        memory.loadPage("P1", 2);
+        assertEquals("P1-P2", memory.findPageInFrame(memory.getFrame(2)));
+
+        // Ahora sí sale P1-1 (frame 1) para P2
+        memory.loadPage("P2", 1);
+        assertEquals("P2-P1", memory.findPageInFrame(memory.getFrame(1)));
+    }
+
+    @Test
+    public void testSinVictimaSiTodoEsDelExcluido() {
+        LRU lru = new LRU();
+        MemoryManager memory = new MemoryManager(2, lru, new SyncManager());
+        memory.createProcess("P1", 2);
+        memory.loadPage("P1", 0);
+        memory.loadPage("P1", 1);
+        assertNull(lru.chooseVictimFrame(memory.getPhysicalMemory(), memory.getAllPageTables(), "P1"));
+    }
+
+    // Compara contra un LRU de referencia con marcas de tiempo
+    @Test
+    public void testIgualQueLRUConMarcasDeTiempo() {
+        int frames = 8;
+        MemoryManager memory = new MemoryManager(frames, new LRU(), new SyncManager());
+        for (int p = 0; p < 4; p++) {
+            memory.createProcess("P" + p, 5);
+        }
+        Map<String, Long> ultimoUso = new HashMap<>();
+        String[] enFrame = new String[frames];
+        SplittableRandom random = new SplittableRandom(3);
+        long reloj = 0;
+
+        for (int i = 0; i < 10_000; i++) {
+            String pid = "P" + random.nextInt(4);
+            int pagina = random.nextInt(5);
+            String clave = pid + ":" + pagina;
+
+            int esperado = -1;
+            if (!memory.isPageLoaded(pid, pagina) && memory.getFreeFramesCount() == 0) {
+                long minimo = Long.MAX_VALUE;
+                for (int f = 0; f < frames; f++) {
+                    long t = ultimoUso.get(enFrame[f]);
+                    if (!enFrame[f].startsWith(pid + ":") && t < minimo) {
+                        minimo = t;
+                        esperado = f;
+                    }
+                }
+            }
+
+            memory.loadPage(pid, pagina);
+            int frame = memory.getPageTable(pid).getEntry(pagina).getFrameNumber();
+            if (esperado >= 0) {
+                assertEquals(esperado, frame);
+                ultimoUso.remove(enFrame[frame]);
+            }
+            enFrame[frame] = clave;
+            ultimoUso.put(clave, ++reloj);
+        }
+    }
+}
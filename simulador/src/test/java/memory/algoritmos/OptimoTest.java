@@ -0,0 +1,137 @@
+package memory.algoritmos;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+import memory.Frame;
+import memory.MemoryManager;
+import memory.PageTable;
+import synchronization.SyncManager;
+
+public class OptimoTest {
+
+    // Distancia como la calculaba la versión con lista: índice en la secuencia restante
+    private int distanciaLineal(List<Integer> restante, int pagina) {
+        int i = restante.indexOf(pagina);
+        return i >= 0 ? i : Integer.MAX_VALUE;
+    }
+
+    // Memoria mínima a mano: Optimo solo mira los dueños de los frames
+    private List<Frame> crearFrames(int n) {
+        List<Frame> frames = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            frames.add(new Frame(i));
+        }
+        return frames;
+    }
+
+    private int buscar(List<Frame> frames, int pagina) {
+        for (Frame f : frames) {
+            if (f.isOccupied() && f.getOwnerPage() == pagina) {
+                return f.getId();
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    public void testVictimaIgualQueBusquedaLineal() {
+        SplittableRandom random = new SplittableRandom(21);
+        int paginas = 6;
+        List<Integer> secuencia = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            secuencia.add(random.nextInt(paginas));
+        }
+
+        Optimo optimo = new Optimo();
+        optimo.setFutureAccessSequence("P1", secuencia);
+        List<Frame> frames = crearFrames(3);
+        Map<String, PageTable> tablas = new HashMap<>();
+        List<Integer> restante = new ArrayList<>(secuencia);
+
+        // Se accede en un orden distinto al de la secuencia: el consumo no es solo por la cabeza
+        for (int i = 0; i < 2_000; i++) {
+            int pagina = random.nextInt(4) == 0 ? random.nextInt(paginas) : secuencia.get(i);
+            int frame = buscar(frames, pagina);
+            if (frame >= 0) {
+                optimo.onPageAccess("P1", pagina, frame);
+            } else {
+                int esperado = -1;
+                int lejos = -1;
+                for (Frame f : frames) {
+                    if (!f.isOccupied()) {
+                        esperado = f.getId();
+                        break;
+                    }
+                    int d = distanciaLineal(restante, f.getOwnerPage());
+                    if (d > lejos) {
+                        lejos = d;
+                        esperado = f.getId();
+                    }
+                }
+                frame = optimo.chooseVictimFrame(frames, tablas, null);
+                assertEquals("acceso " + i, esperado, frame);
+                frames.get(frame).occupy("P1", pagina);
+                optimo.onPageLoaded("P1", pagina, frame);
+            }
+            restante.remove(Integer.valueOf(pagina));
+        }
+    }
+
+    @Test
+    public void testSinSecuenciaPrimerFrameDisponible() {
+        Optimo optimo = new Optimo();
+        MemoryManager memory = new MemoryManager(2, optimo, new SyncManager());
+        memory.createProcess("P1", 3);
+        memory.createProcess("P2", 1);
+        memory.loadPage("P1", 0);
+        memory.loadPage("P1", 1);
+        // Todas a distancia infinita: gana el primer frame que no es del excluido
+        memory.loadPage("P2", 0);
+        assertEquals("P2-P0", memory.findPageInFrame(memory.getFrame(0)));
+    }
+
+    @Test
+    public void testSecuenciaDeUnMillon() {
+        SplittableRandom random = new SplittableRandom(4);
+        int paginas = 64;
+        List<Integer> secuencia = new ArrayList<>(1_000_000);
+        for (int i = 0; i < 1_000_000; i++) {
+            secuencia.add(random.nextInt(paginas));
+        }
+        Optimo optimo = new Optimo();
+        optimo.setFutureAccessSequence("P1", secuencia);
+        List<Frame> frames = crearFrames(16);
+        int[] enMemoria = new int[paginas];
+        Arrays.fill(enMemoria, -1);
+        Map<String, PageTable> tablas = new HashMap<>();
+
+        int fallos = 0;
+        for (int pagina : secuencia) {
+            if (enMemoria[pagina] >= 0) {
+                optimo.onPageAccess("P1", pagina, enMemoria[pagina]);
+                continue;
+            }
+            fallos++;
+            int frame = optimo.chooseVictimFrame(frames, tablas, null);
+            Frame victima = frames.get(frame);
+            if (victima.isOccupied()) {
+                enMemoria[victima.getOwnerPage()] = -1;
+            }
+            victima.occupy("P1", pagina);
+            enMemoria[pagina] = frame;
+            optimo.onPageLoaded("P1", pagina, frame);
+        }
+        // Belady con 16 de 64 páginas uniformes falla bastante menos que el 75% de un reemplazo ciego
+        assertTrue(fallos < 600_000);
+    }
+}
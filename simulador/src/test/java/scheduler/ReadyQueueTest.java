@@ -0,0 +1,120 @@
+package scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static scheduler.SchedulerTestSupport.crearHilo;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import threads.ProcessThread;
+
+public class ReadyQueueTest {
+
+    // Referencia: el escaneo lineal original (primer mínimo estricto de la lista)
+    private ProcessThread minimoLineal(List<ProcessThread> lista) {
+        ProcessThread best = null;
+        int bestValue = Integer.MAX_VALUE;
+        for (ProcessThread t : lista) {
+            int prioridad = t.getProcess().getPriority();
+            if (prioridad < bestValue) {
+                bestValue = prioridad;
+                best = t;
+            }
+        }
+        return best;
+    }
+
+    @Test
+    public void testHeapIgualAEscaneoLineal() {
+        Random random = new Random(42);
+        HeapReadyQueue heap = new HeapReadyQueue(t -> t.getProcess().getPriority());
+        List<ProcessThread> referencia = new LinkedList<>();
+
+        for (int i = 0; i < 20000; i++) {
+            int op = random.nextInt(10);
+            if (op < 5) {
+                ProcessThread t = crearHilo("P" + i, random.nextInt(5), 1);
+                heap.add(t);
+                referencia.add(t);
+            } else if (op == 5) {
+                ProcessThread t = crearHilo("P" + i, random.nextInt(5), 1);
+                heap.addFirst(t);
+                referencia.add(0, t);
+            } else if (op < 9) {
+                ProcessThread esperado = minimoLineal(referencia);
+                referencia.remove(esperado);
+                assertSame(esperado, heap.poll());
+            } else if (!referencia.isEmpty()) {
+                ProcessThread t = referencia.remove(random.nextInt(referencia.size()));
+                assertTrue(heap.remove(t));
+                assertFalse(heap.contains(t));
+            }
+            assertEquals(referencia.size(), heap.size());
+            assertSame(minimoLineal(referencia), heap.peek());
+        }
+    }
+
+    @Test
+    public void testSnapshotEnOrdenDeDespacho() {
+        HeapReadyQueue heap = new HeapReadyQueue(t -> t.getProcess().getBurst().getTime_remaining());
+        ProcessThread a = crearHilo("A", 0, 5);
+        ProcessThread b = crearHilo("B", 0, 2);
+        ProcessThread c = crearHilo("C", 0, 5);
+        ProcessThread d = crearHilo("D", 0, 5);
+        heap.add(a);
+        heap.add(b);
+        heap.add(c);
+        heap.addFirst(d);
+
+        List<ProcessThread> orden = heap.snapshot();
+        assertSame(b, orden.get(0));
+        assertSame(d, orden.get(1));
+        assertSame(a, orden.get(2));
+        assertSame(c, orden.get(3));
+    }
+
+    @Test
+    public void testPosicionGuardadaEnElHilo() {
+        HeapReadyQueue vieja = new HeapReadyQueue(t -> t.getProcess().getPriority());
+        ProcessThread a = crearHilo("A", 3, 1);
+        ProcessThread b = crearHilo("B", 1, 1);
+        vieja.add(a);
+        vieja.add(b);
+        vieja.add(a);
+        assertEquals(2, vieja.size());
+        assertEquals(1, a.getHeapSlot());
+
+        // Como al cambiar de política: la cola nueva recibe los hilos y la vieja se descarta
+        HeapReadyQueue nueva = new HeapReadyQueue(t -> -t.getProcess().getPriority());
+        for (ProcessThread t : vieja.snapshot()) {
+            nueva.add(t);
+        }
+        assertTrue(nueva.contains(a));
+        assertSame(a, nueva.poll());
+        assertEquals(-1, a.getHeapSlot());
+        assertFalse(nueva.contains(a));
+        assertTrue(nueva.remove(b));
+        assertTrue(nueva.isEmpty());
+    }
+
+    @Test
+    public void testCienMilProcesos() {
+        HeapReadyQueue heap = new HeapReadyQueue(t -> t.getProcess().getPriority());
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            heap.add(crearHilo("P" + i, random.nextInt(1000), 1));
+        }
+        int anterior = Integer.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            int prioridad = heap.poll().getProcess().getPriority();
+            assertTrue(prioridad >= anterior);
+            anterior = prioridad;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import memory.MemoryManager;
+import memory.TLB;
+import memory.algoritmos.EnhancedSecondChance;
+import memory.algoritmos.LRU;
+import memory.algoritmos.Optimo;
+import process.Process;
+import process.ProcessState;
+
+public class SchedulerDemandPagingTest {
+
+    private Process crearProceso(String pid, int llegada, int paginas, int[] rafagas, List<Integer> seq) {
+        Process p = SchedulerTestSupport.crearProceso(pid, llegada, 1, paginas, rafagas);
+        p.setFuturePageSequence(seq);
+        return p;
+    }
+
+    private Scheduler crearScheduler(MemoryManager memory, boolean eventDriven, List<Process> procesos) {
+        Scheduler scheduler = SchedulerTestSupport.crearScheduler(Scheduler.Algorithm.RR, 2, eventDriven, procesos);
+        scheduler.setDemandPaging(true);
+        scheduler.setMemoryManager(memory);
+        return scheduler;
+    }
+
+    @Test
+    public void testSoloQuedanLasPaginasReferenciadas() {
+        Process p = crearProceso("P1", 0, 10, new int[]{5}, List.of(0, 1, 0, 1, 2));
+        MemoryManager memory = new MemoryManager(8, new LRU());
+        Scheduler scheduler = crearScheduler(memory, false, List.of(p));
+
+        int ciclos = scheduler.runToCompletion(1000);
+
+        assertEquals(ProcessState.TERMINATED, p.getState());
+        assertEquals(3, memory.getPageFaults("P1"));
+        assertEquals(3, memory.getResidentPages("P1"));
+        // 5 unidades de CPU más un ciclo bloqueado por cada fallo
+        assertEquals(8, ciclos);
+    }
+
+    @Test
+    public void testMasPaginasQueFramesTermina() {
+        // Sin paginación por demanda no entraría nunca: 6 páginas en 2 frames
+        Process p = crearProceso("P1", 0, 6, new int[]{12}, List.of(0, 1, 2, 3, 4, 5, 0, 1, 2, 3, 4, 5));
+        MemoryManager memory = new MemoryManager(2, new LRU());
+        Scheduler scheduler = crearScheduler(memory, false, List.of(p));
+
+        scheduler.runToCompletion(1000);
+
+        assertEquals(ProcessState.TERMINATED, p.getState());
+        assertEquals(12, memory.getPageFaults("P1"));
+        assertEquals(2, memory.getResidentPages("P1"));
+    }
+
+    @Test
+    public void testOptimoConsumeCadaReferenciaUnaVez() {
+        List<Integer> seq = List.of(0, 1, 2, 0, 1, 3, 0, 1, 2, 3);
+        Process p = crearProceso("P1", 0, 4, new int[]{seq.size()}, seq);
+        Optimo optimo = new Optimo();
+        optimo.setFutureAccessSequence("P1", seq);
+        MemoryManager memory = new MemoryManager(3, optimo);
+        crearScheduler(memory, false, List.of(p)).runToCompletion(1000);
+
+        // Belady sobre la secuencia: 0,1,2 obligatorios; 3 expulsa a 2; 2 expulsa a 0 o 1
+        assertEquals(5, memory.getPageFaults("P1"));
+    }
+
+    @Test
+    public void testEscriturasDeLaSecuenciaDejanPaginasModificadas() {
+        // 0w: la escritura llega por el fallo; 1, 1w: por un acierto. Cada una se expulsa sucia
+        List<Integer> seq = List.of(0, 1, 1, 2);
+        BitSet escrituras = new BitSet();
+        escrituras.set(0);
+        escrituras.set(2);
+        Process p = crearProceso("P1", 0, 3, new int[]{seq.size()}, seq);
+        p.setPageWrites(escrituras);
+        MemoryManager memory = new MemoryManager(1, new EnhancedSecondChance());
+        crearScheduler(memory, false, List.of(p)).runToCompletion(1000);
+
+        assertEquals(3, memory.getPageFaults("P1"));
+        assertEquals(2, memory.getWriteBacks("P1"));
+
+        // La misma secuencia solo de lectura no escribe nada a disco
+        MemoryManager lectura = new MemoryManager(1, new EnhancedSecondChance());
+        crearScheduler(lectura, false, List.of(crearProceso("P1", 0, 3, new int[]{seq.size()}, seq)))
+            .runToCompletion(1000);
+        assertEquals(0, lectura.getWriteBacks("P1"));
+    }
+
+    @Test
+    public void testTlbSeVaciaEnCadaCambioSinASID() {
+        List<Integer> seq = List.of(0, 1, 0, 1, 0, 1, 0, 1);
+        TLB[] tlbs = new TLB[2];
+        for (int i = 0; i < 2; i++) {
+            MemoryManager memory = new MemoryManager(8, new LRU());
+            tlbs[i] = new TLB(8, 8, TLB.Replacement.LRU, i == 1, 10);
+            memory.setTlb(tlbs[i]);
+            crearScheduler(memory, false, List.of(
+                crearProceso("P1", 0, 2, new int[]{8}, seq),
+                crearProceso("P2", 0, 2, new int[]{8}, seq))).runToCompletion(1000);
+        }
+        TLB vaciado = tlbs[0];
+        TLB asid = tlbs[1];
+
+        assertEquals(vaciado.getContextSwitches(), vaciado.getFlushes());
+        assertEquals(0, asid.getFlushes());
+        // Con ASID solo fallan las primeras referencias a cada página
+        assertEquals(4, asid.getTotalMisses());
+        assertTrue(vaciado.getTotalMisses() > asid.getTotalMisses());
+        assertTrue(vaciado.getEffectiveAccessTime() > asid.getEffectiveAccessTime());
+    }
+
+    @Test
+    public void testUnTlbPorNucleo() {
+        // Cada proceso en su núcleo: sin ASID, ninguno vacía el TLB del otro
+        List<Integer> seq = List.of(0, 1, 0, 1, 0, 1, 0, 1);
+        MemoryManager memory = new MemoryManager(8, new LRU());
+        memory.setTlb(new TLB(8, 8, TLB.Replacement.LRU, false, 10));
+        Scheduler scheduler = crearScheduler(memory, false, List.of(
+            crearProceso("P1", 0, 2, new int[]{8}, seq),
+            crearProceso("P2", 0, 2, new int[]{8}, seq)));
+        scheduler.setCores(2);
+        scheduler.runToCompletion(1000);
+
+        assertEquals(2, memory.getTlbs().size());
+        for (TLB tlb : memory.getTlbs()) {
+            assertEquals(1, tlb.getContextSwitches());
+            // Solo fallan las primeras referencias a cada página de su proceso
+            assertEquals(2, tlb.getTotalMisses());
+            assertEquals(6, tlb.getTotalHits());
+        }
+    }
+
+    @Test
+    public void testEventDrivenIgualACicloACiclo() {
+        List<Integer> seq = List.of(0, 1, 2, 3, 0, 1, 4, 0, 1, 2, 3, 4);
+        List<Process> paso = List.of(
+            crearProceso("P1", 0, 5, new int[]{6, 3, 6}, seq),
+            crearProceso("P2", 1, 5, new int[]{10}, seq.subList(0, 8)),
+            // Sin SEQ[]: carga todas sus páginas como siempre
+            crearProceso("P3", 4, 3, new int[]{8}, null));
+        List<Process> evento = new ArrayList<>();
+        for (Process p : paso) {
+            evento.add(p.copy());
+        }
+
+        Scheduler s1 = crearScheduler(new MemoryManager(4, new LRU()), false, paso);
+        Scheduler s2 = crearScheduler(new MemoryManager(4, new LRU()), true, evento);
+        assertEquals(s1.runToCompletion(10000), s2.runToCompletion(10000));
+        assertEquals(s1.getGanttSegments().toString(), s2.getGanttSegments().toString());
+        for (int i = 0; i < paso.size(); i++) {
+            assertEquals(paso.get(i).getT_finish(), evento.get(i).getT_finish());
+            assertEquals(paso.get(i).getT_wait(), evento.get(i).getT_wait());
+        }
+    }
+}
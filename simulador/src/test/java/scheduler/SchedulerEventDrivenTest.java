@@ -0,0 +1,95 @@
+package scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static scheduler.SchedulerTestSupport.crearProceso;
+import static scheduler.SchedulerTestSupport.crearScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import process.Process;
+import process.ProcessState;
+
+public class SchedulerEventDrivenTest {
+
+    private List<Process> crearProcesos(int escala) {
+        List<Process> procesos = new ArrayList<>();
+        procesos.add(crearProceso("P1", 0, 2, new int[]{5 * escala, 2 * escala, 3}));
+        procesos.add(crearProceso("P2", 3 * escala, 1, new int[]{4 * escala}));
+        procesos.add(crearProceso("P3", 20 * escala, 3, new int[]{2, escala, 2}));
+        return procesos;
+    }
+
+    @Test
+    public void testEventDrivenIgualACicloACiclo() {
+        for (Scheduler.Algorithm algoritmo : Scheduler.Algorithm.values()) {
+            List<Process> paso = crearProcesos(10);
+            Scheduler s1 = crearScheduler(algoritmo, 3, false, paso);
+            int ciclosPaso = s1.runToCompletion(100000);
+
+            List<Process> evento = crearProcesos(10);
+            Scheduler s2 = crearScheduler(algoritmo, 3, true, evento);
+            int ciclosEvento = s2.runToCompletion(100000);
+
+            assertEquals(algoritmo.toString(), ciclosPaso, ciclosEvento);
+            assertEquals(algoritmo.toString(), s1.getGanttSegments().toString(), s2.getGanttSegments().toString());
+            for (int i = 0; i < paso.size(); i++) {
+                Process a = paso.get(i);
+                Process b = evento.get(i);
+                String msg = algoritmo + " " + a.getPID();
+                assertEquals(msg, a.getT_start(), b.getT_start());
+                assertEquals(msg, a.getT_finish(), b.getT_finish());
+                assertEquals(msg, a.getT_wait(), b.getT_wait());
+                assertEquals(msg, a.getCpu_usage(), b.getCpu_usage());
+            }
+        }
+    }
+
+    @Test
+    public void testRafagasEnormes() {
+        List<Process> procesos = crearProcesos(10_000_000);
+        Scheduler scheduler = crearScheduler(Scheduler.Algorithm.FCFS, 3, true, procesos);
+
+        scheduler.runToCompletion(Integer.MAX_VALUE);
+
+        for (Process p : procesos) {
+            assertEquals(p.getPID(), ProcessState.TERMINATED, p.getState());
+        }
+        assertEquals(50_000_003, procesos.get(0).getCpu_usage());
+        assertEquals(40_000_000, procesos.get(1).getCpu_usage());
+    }
+
+    @Test
+    public void testLlegadasDesordenadas() {
+        List<Process> procesos = new ArrayList<>();
+        procesos.add(crearProceso("C", 7, 1, new int[]{1}));
+        procesos.add(crearProceso("A", 2, 1, new int[]{1}));
+        procesos.add(crearProceso("B", 2, 1, new int[]{1}));
+        Scheduler scheduler = crearScheduler(Scheduler.Algorithm.FCFS, 3, true, procesos);
+        assertEquals(2, scheduler.peekNextArrival());
+
+        scheduler.runToCompletion(100);
+        // A y B llegan juntos: se atienden en el orden en que se registraron
+        assertEquals(2, procesos.get(1).getT_start());
+        assertEquals(3, procesos.get(2).getT_start());
+        assertEquals(7, procesos.get(0).getT_start());
+        assertEquals(Integer.MAX_VALUE, scheduler.peekNextArrival());
+    }
+
+    @Test
+    public void testLlegadaMasiva() {
+        List<Process> procesos = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            procesos.add(crearProceso("M" + i, (i * 7919) % 5000, 1, new int[]{1}));
+        }
+        Scheduler scheduler = crearScheduler(Scheduler.Algorithm.FCFS, 3, true, procesos);
+
+        scheduler.runToCompletion(Integer.MAX_VALUE);
+
+        for (Process p : procesos) {
+            assertEquals(p.getPID(), ProcessState.TERMINATED, p.getState());
+        }
+    }
+}
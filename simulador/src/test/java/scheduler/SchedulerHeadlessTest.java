@@ -0,0 +1,126 @@
+package scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static scheduler.SchedulerTestSupport.crearProceso;
+import static scheduler.SchedulerTestSupport.crearScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import memory.MemoryManager;
+import memory.algoritmos.FIFO;
+import process.Process;
+import process.ProcessState;
+import threads.ProcessThread;
+
+public class SchedulerHeadlessTest {
+
+    private List<Process> crearProcesos() {
+        List<Process> procesos = new ArrayList<>();
+        procesos.add(crearProceso("P1", 0, 1, 2, new int[]{4, 2, 3}));
+        procesos.add(crearProceso("P2", 1, 2, 2, new int[]{6}));
+        procesos.add(crearProceso("P3", 2, 1, 3, new int[]{2, 3, 2}));
+        procesos.add(crearProceso("P4", 4, 3, 1, new int[]{3}));
+        return procesos;
+    }
+
+    private List<Process> simular(Scheduler.Algorithm algoritmo, boolean headless) {
+        List<Process> procesos = crearProcesos();
+        Scheduler scheduler = new Scheduler();
+        scheduler.setHeadless(headless);
+        scheduler.setAlgorithm(algoritmo);
+        scheduler.setQuantum(2);
+        scheduler.setMemoryManager(new MemoryManager(6, new FIFO()));
+
+        for (Process p : procesos) {
+            scheduler.addProcess(p);
+        }
+        scheduler.runToCompletion(500);
+        scheduler.shutdown();
+        return procesos;
+    }
+
+    @Test
+    public void testTerminaLosHilosDeProcesosPendientes() {
+        List<Process> procesos = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            procesos.add(crearProceso("P" + i, 0, 1, new int[]{1000}));
+        }
+        Scheduler scheduler = crearScheduler(Scheduler.Algorithm.RR, 1, false, procesos);
+        scheduler.setHeadless(false);
+        scheduler.runToCompletion(10);
+
+        List<ProcessThread> hilos = new ArrayList<>(scheduler.getPolicy().snapshot());
+        ProcessThread enCpu = scheduler.getCores().get(0).getCurrentThread();
+        if (enCpu != null) {
+            hilos.add(enCpu);
+        }
+        assertEquals(3, hilos.size());
+        for (ProcessThread hilo : hilos) {
+            assertTrue(hilo.isAlive());
+        }
+
+        scheduler.terminateProcessThreads();
+        scheduler.shutdown();
+        for (ProcessThread hilo : hilos) {
+            assertFalse(hilo.isAlive());
+        }
+    }
+
+    @Test
+    public void testHeadlessIgualAHilos() {
+        for (Scheduler.Algorithm algoritmo : Scheduler.Algorithm.values()) {
+            List<Process> conHilos = simular(algoritmo, false);
+            List<Process> headless = simular(algoritmo, true);
+
+            for (int i = 0; i < conHilos.size(); i++) {
+                Process a = conHilos.get(i);
+                Process b = headless.get(i);
+                String msg = algoritmo + " " + a.getPID();
+                assertEquals(msg, a.getState(), b.getState());
+                assertEquals(msg, a.getT_start(), b.getT_start());
+                assertEquals(msg, a.getT_finish(), b.getT_finish());
+                assertEquals(msg, a.getT_wait(), b.getT_wait());
+                assertEquals(msg, a.getCpu_usage(), b.getCpu_usage());
+            }
+        }
+    }
+
+    @Test
+    public void testEsperaExactaDuranteLaEjecucion() {
+        Process largo = crearProceso("L", 0, 1, 1, new int[]{10});
+        Process espera = crearProceso("E", 0, 1, 1, new int[]{2});
+        Scheduler scheduler = crearScheduler(Scheduler.Algorithm.FCFS, 2, false, List.of(largo, espera));
+
+        // La espera en curso se ve sin esperar a que el proceso salga de READY
+        for (int ciclo = 1; ciclo <= 5; ciclo++) {
+            scheduler.runOneUnit();
+            assertEquals(0, largo.getT_wait());
+            assertEquals(ciclo, espera.getT_wait());
+        }
+        scheduler.runToCompletion(100);
+        assertEquals(10, espera.getT_wait());
+        assertEquals(0, largo.getT_wait());
+    }
+
+    @Test
+    public void testHiloEncoladoUnaSolaVez() {
+        Process p = crearProceso("D", 0, 1, 1, new int[]{3});
+        p.setState(ProcessState.READY);
+        ProcessThread thread = new ProcessThread(p, null);
+        Scheduler scheduler = crearScheduler(Scheduler.Algorithm.RR, 2, false, List.of());
+
+        scheduler.addProcessThread(thread);
+        scheduler.addProcessThread(thread);
+        assertEquals(1, scheduler.getPolicy().size());
+        assertEquals(0, thread.getQueuedCore());
+
+        scheduler.runOneUnit();
+        assertFalse(thread.isQueued());
+        assertEquals(0, scheduler.getPolicy().size());
+    }
+}
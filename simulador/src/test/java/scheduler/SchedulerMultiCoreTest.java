@@ -0,0 +1,218 @@
+package scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static scheduler.SchedulerTestSupport.crearProceso;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import process.Process;
+import process.ProcessState;
+import scheduler.algoritmos.MLFQPolicy;
+import threads.ProcessThread;
+
+public class SchedulerMultiCoreTest {
+
+    private List<Process> crearCarga() {
+        List<Process> procesos = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            int largo = (i % 3 == 0) ? 40 : 6;
+            procesos.add(crearProceso("P" + i, i * 2, i % 4, new int[]{largo, 3, largo / 2}));
+        }
+        return procesos;
+    }
+
+    private Scheduler crearScheduler(Scheduler.Algorithm algoritmo, int nucleos, boolean eventDriven,
+                                     List<Process> procesos) {
+        Scheduler scheduler = SchedulerTestSupport.crearScheduler(algoritmo, 3, eventDriven, procesos);
+        scheduler.setCores(nucleos);
+        return scheduler;
+    }
+
+    @Test
+    public void testCuatroNucleosReparteLaCarga() {
+        List<Process> procesos = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            procesos.add(crearProceso("P" + i, 0, 1, new int[]{10}));
+        }
+        Scheduler scheduler = crearScheduler(Scheduler.Algorithm.FCFS, 4, false, procesos);
+        int ciclos = scheduler.runToCompletion(10000);
+
+        assertEquals(20, ciclos);
+        for (Process p : procesos) {
+            assertEquals(ProcessState.TERMINATED, p.getState());
+        }
+        for (Core core : scheduler.getCores()) {
+            assertEquals(20, core.getBusyCycles());
+            assertEquals(1.0, core.getUtilization(ciclos), 1e-9);
+        }
+        assertEquals(0.0, scheduler.getLoadImbalance(), 1e-9);
+        assertEquals(0, scheduler.getMigrations());
+    }
+
+    @Test
+    public void testNucleoOciosoRobaTrabajo() {
+        List<Process> procesos = new ArrayList<>();
+        procesos.add(crearProceso("LARGO", 0, 1, new int[]{30}));
+        procesos.add(crearProceso("CORTO", 0, 1, new int[]{2}));
+        // Llegan cuando ambos núcleos están ocupados: van a la cola menos cargada
+        procesos.add(crearProceso("A", 1, 1, new int[]{5}));
+        procesos.add(crearProceso("B", 1, 1, new int[]{5}));
+        procesos.add(crearProceso("C", 1, 1, new int[]{5}));
+        Scheduler scheduler = crearScheduler(Scheduler.Algorithm.FCFS, 2, false, procesos);
+        scheduler.runToCompletion(10000);
+
+        assertTrue(scheduler.getSteals() > 0);
+        for (Process p : procesos) {
+            assertEquals(ProcessState.TERMINATED, p.getState());
+        }
+        // Sin robo, A/B/C esperarían a LARGO en CPU0
+        assertTrue(procesos.get(4).getT_finish() < 30);
+    }
+
+    @Test
+    public void testMigracionesConRoundRobin() {
+        List<Process> procesos = crearCarga();
+        Scheduler scheduler = crearScheduler(Scheduler.Algorithm.RR, 3, false, procesos);
+        scheduler.runToCompletion(100000);
+
+        int totalMigraciones = 0;
+        int totalDespachos = 0;
+        for (Core core : scheduler.getCores()) {
+            totalMigraciones += core.getMigrationsIn();
+            totalDespachos += core.getDispatches();
+        }
+        assertEquals(scheduler.getMigrations(), totalMigraciones);
+        assertTrue(totalDespachos > procesos.size());
+        for (Process p : procesos) {
+            assertEquals(p.getPID(), ProcessState.TERMINATED, p.getState());
+        }
+    }
+
+    @Test
+    public void testUnNucleoIgualAlModoClasico() {
+        for (Scheduler.Algorithm algoritmo : Scheduler.Algorithm.values()) {
+            List<Process> clasico = crearCarga();
+            Scheduler s1 = SchedulerTestSupport.crearScheduler(algoritmo, 3, false, clasico);
+            s1.runToCompletion(100000);
+
+            List<Process> uno = crearCarga();
+            Scheduler s2 = crearScheduler(algoritmo, 1, false, uno);
+            s2.runToCompletion(100000);
+
+            assertEquals(algoritmo.toString(), s1.getGanttSegments().toString(), s2.getGanttSegments().toString());
+        }
+    }
+
+    @Test
+    public void testEventDrivenIgualACicloACiclo() {
+        for (Scheduler.Algorithm algoritmo : Scheduler.Algorithm.values()) {
+            List<Process> paso = crearCarga();
+            Scheduler s1 = crearScheduler(algoritmo, 4, false, paso);
+            int ciclosPaso = s1.runToCompletion(100000);
+
+            List<Process> evento = crearCarga();
+            Scheduler s2 = crearScheduler(algoritmo, 4, true, evento);
+            int ciclosEvento = s2.runToCompletion(100000);
+
+            assertEquals(algoritmo.toString(), ciclosPaso, ciclosEvento);
+            for (int c = 0; c < 4; c++) {
+                assertEquals(algoritmo + " CPU" + c, s1.getGanttSegments(c).toString(),
+                             s2.getGanttSegments(c).toString());
+            }
+            for (int i = 0; i < paso.size(); i++) {
+                assertEquals(algoritmo + " " + paso.get(i).getPID(),
+                             paso.get(i).getT_wait(), evento.get(i).getT_wait());
+            }
+            assertEquals(s1.getMigrations(), s2.getMigrations());
+            assertEquals(s1.getSteals(), s2.getSteals());
+        }
+    }
+
+    @Test
+    public void testMLFQPorNucleo() {
+        List<Process> procesos = crearCarga();
+        Scheduler scheduler = SchedulerTestSupport.crearScheduler(true, procesos);
+        scheduler.setPolicyFactory(() -> new MLFQPolicy(3, 2, 30));
+        scheduler.setCores(2);
+        scheduler.runToCompletion(100000);
+
+        assertTrue(scheduler.getCores().get(0).getPolicy() != scheduler.getCores().get(1).getPolicy());
+        for (Process p : procesos) {
+            assertEquals(p.getPID(), ProcessState.TERMINATED, p.getState());
+        }
+    }
+
+    @Test
+    public void testRoboConservaElNivelMLFQ() {
+        // CPU0 alterna dos trabajos largos; CPU1 queda ociosa al terminar el suyo y roba
+        List<Process> procesos = new ArrayList<>();
+        procesos.add(crearProceso("A", 0, 1, new int[]{40}));
+        procesos.add(crearProceso("B", 0, 1, new int[]{10}));
+        procesos.add(crearProceso("C", 0, 1, new int[]{40}));
+        Scheduler scheduler = SchedulerTestSupport.crearScheduler(false, procesos);
+        scheduler.setPolicyFactory(() -> new MLFQPolicy(3, 1, 0));
+        scheduler.setCores(2);
+
+        while (scheduler.getSteals() == 0) {
+            assertTrue(scheduler.runOneUnit());
+        }
+        Core ladron = scheduler.getCores().get(1);
+        Core victima = scheduler.getCores().get(0);
+        ProcessThread robado = ladron.getCurrentThread();
+        assertTrue(robado.getProcess().getPID().equals("A") || robado.getProcess().getPID().equals("C"));
+        assertTrue(((MLFQPolicy) ladron.getPolicy()).getLevel(robado) >= 1);
+        assertEquals(-1, ((MLFQPolicy) victima.getPolicy()).getLevel(robado));
+
+        scheduler.runToCompletion(100000);
+        for (Process p : procesos) {
+            assertEquals(p.getPID(), ProcessState.TERMINATED, p.getState());
+        }
+        // El robo no cuenta como despacho en la cola de la víctima
+        int despachosMLFQ = 0;
+        int despachosNucleos = 0;
+        for (Core core : scheduler.getCores()) {
+            MLFQPolicy mlfq = (MLFQPolicy) core.getPolicy();
+            for (int i = 0; i < mlfq.getLevelCount(); i++) {
+                despachosMLFQ += mlfq.getStats(i).getDispatches();
+            }
+            despachosNucleos += core.getDispatches();
+        }
+        assertEquals(despachosNucleos, despachosMLFQ);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSetPolicyConVariosNucleos() {
+        Scheduler scheduler = new Scheduler();
+        scheduler.setCores(2);
+        scheduler.setPolicy(new MLFQPolicy(3, 2, 30));
+    }
+
+    @Test
+    public void testEscalaASesentaYCuatroNucleos() {
+        List<Process> procesos = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            procesos.add(crearProceso("P" + i, i % 50, i % 5, new int[]{20 + i % 7, 4, 10}));
+        }
+        Scheduler scheduler = crearScheduler(Scheduler.Algorithm.RR, 64, true, procesos);
+        int ciclos = scheduler.runToCompletion(1_000_000);
+
+        for (Process p : procesos) {
+            assertEquals(p.getPID(), ProcessState.TERMINATED, p.getState());
+        }
+        long ocupado = 0;
+        for (Core core : scheduler.getCores()) {
+            ocupado += core.getBusyCycles();
+        }
+        long cpuTotal = 0;
+        for (Process p : procesos) {
+            cpuTotal += p.getCpu_usage();
+        }
+        assertEquals(cpuTotal, ocupado);
+        assertTrue(ciclos < cpuTotal / 32);
+        assertTrue(scheduler.getLoadImbalance() < 0.5);
+    }
+}
@@ -0,0 +1,60 @@
+package scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import process.Burst;
+import process.BurstResource;
+import process.Process;
+import threads.ProcessThread;
+
+/**
+ * Fábricas compartidas por los tests del scheduler, las políticas y el
+ * barrido de parámetros.
+ */
+public final class SchedulerTestSupport {
+
+    private SchedulerTestSupport() {
+    }
+
+    // Ráfagas alternadas: CPU, E/S, CPU, ...
+    public static Process crearProceso(String pid, int llegada, int prioridad, int paginas, int[] rafagas) {
+        ArrayList<Burst> bursts = new ArrayList<>();
+        for (int i = 0; i < rafagas.length; i++) {
+            BurstResource recurso = (i % 2 == 0) ? BurstResource.CPU : BurstResource.IO;
+            bursts.add(new Burst(recurso, rafagas[i]));
+        }
+        return new Process(pid, llegada, bursts, prioridad, paginas);
+    }
+
+    public static Process crearProceso(String pid, int llegada, int prioridad, int[] rafagas) {
+        return crearProceso(pid, llegada, prioridad, 1, rafagas);
+    }
+
+    // Hilo sin IOManager con una sola ráfaga de CPU, para probar colas y políticas sueltas
+    public static ProcessThread crearHilo(String pid, int prioridad, int rafaga) {
+        return new ProcessThread(crearProceso(pid, 0, prioridad, new int[]{rafaga}), null);
+    }
+
+    /**
+     * Scheduler headless con los procesos ya registrados. Algoritmo,
+     * quantum, núcleos y memoria los fija cada test antes de correrlo.
+     */
+    public static Scheduler crearScheduler(boolean eventDriven, List<Process> procesos) {
+        Scheduler scheduler = new Scheduler();
+        scheduler.setHeadless(true);
+        scheduler.setEventDriven(eventDriven);
+        for (Process p : procesos) {
+            scheduler.addProcess(p);
+        }
+        return scheduler;
+    }
+
+    public static Scheduler crearScheduler(Scheduler.Algorithm algoritmo, int quantum, boolean eventDriven,
+                                           List<Process> procesos) {
+        Scheduler scheduler = crearScheduler(eventDriven, procesos);
+        scheduler.setAlgorithm(algoritmo);
+        scheduler.setQuantum(quantum);
+        return scheduler;
+    }
+}
@@ -0,0 +1,194 @@
+package scheduler.algoritmos;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static scheduler.SchedulerTestSupport.crearProceso;
+import static scheduler.SchedulerTestSupport.crearHilo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import process.Process;
+import process.ProcessState;
+import scheduler.Scheduler;
+import scheduler.SchedulerTestSupport;
+import threads.ProcessThread;
+
+public class CFSPolicyTest {
+
+    private Scheduler crearScheduler(boolean eventDriven, List<Process> procesos) {
+        Scheduler scheduler = SchedulerTestSupport.crearScheduler(eventDriven, procesos);
+        scheduler.setPolicy(new CFSPolicy());
+        return scheduler;
+    }
+
+    @Test
+    public void testPesosDecrecenConLaPrioridad() {
+        assertEquals(1024, CFSPolicy.weightOf(0));
+        assertEquals(819, CFSPolicy.weightOf(1));
+        assertTrue(CFSPolicy.weightOf(5) < CFSPolicy.weightOf(4));
+        assertEquals(1, CFSPolicy.weightOf(100));
+    }
+
+    @Test
+    public void testDespachaMenorVruntime() {
+        CFSPolicy cfs = new CFSPolicy(12, 2);
+        ProcessThread a = crearHilo("A", 0, 100);
+        ProcessThread b = crearHilo("B", 0, 100);
+        cfs.enqueue(a);
+        cfs.enqueue(b);
+
+        assertSame(a, cfs.pickNext());
+        // Dos procesos de igual peso: cada uno recibe la mitad de la latencia
+        assertEquals(6, cfs.getSlice(a));
+        a.getProcess().setState(ProcessState.RUNNING);
+        a.getProcess().setCpu_usage(6);
+        assertFalse(cfs.onTick(a, 5));
+        assertTrue(cfs.onTick(a, 6));
+        assertEquals(6.0, cfs.getVruntime(a), 1e-9);
+
+        a.getProcess().setState(ProcessState.READY);
+        cfs.enqueue(a);
+        assertSame(b, cfs.pickNext());
+        assertSame(a, cfs.pickNext());
+    }
+
+    @Test
+    public void testMigracionConservaElRetrasoRelativo() {
+        CFSPolicy origen = new CFSPolicy(12, 2);
+        ProcessThread a = crearHilo("A", 0, 100);
+        ProcessThread b = crearHilo("B", 0, 100);
+        origen.enqueue(a);
+        origen.enqueue(b);
+        assertSame(a, origen.pickNext());
+        a.getProcess().setCpu_usage(6);
+        a.getProcess().setState(ProcessState.READY);
+        origen.enqueue(a);
+
+        CFSPolicy destino = new CFSPolicy(12, 2);
+        ProcessThread c = crearHilo("C", 0, 100);
+        destino.enqueue(c);
+        assertSame(c, destino.pickNext());
+        c.getProcess().setCpu_usage(12);
+        c.getProcess().setState(ProcessState.READY);
+        destino.enqueue(c);
+
+        // A iba 6 por delante del mínimo de su cola (B); llega 6 por delante de C
+        destino.attach(a, origen.detach(a));
+        assertEquals(-1.0, origen.getVruntime(a), 1e-9);
+        assertEquals(1, origen.size());
+        assertEquals(18.0, destino.getVruntime(a), 1e-9);
+        assertSame(c, destino.pickNext());
+        assertSame(a, destino.pickNext());
+    }
+
+    @Test
+    public void testGranularidadMinima() {
+        CFSPolicy cfs = new CFSPolicy(12, 4);
+        for (int i = 0; i < 10; i++) {
+            cfs.enqueue(crearHilo("P" + i, 0, 100));
+        }
+        ProcessThread t = cfs.pickNext();
+        assertEquals(4, cfs.getSlice(t));
+        assertEquals(4, cfs.unitsUntilExpiry(t, 0));
+    }
+
+    @Test
+    public void testRepartoProporcionalAlPeso() {
+        List<Process> procesos = new ArrayList<>();
+        procesos.add(crearProceso("ALTA", 0, 0, new int[]{5000}));
+        procesos.add(crearProceso("BAJA", 0, 3, new int[]{5000}));
+        Scheduler scheduler = crearScheduler(true, procesos);
+        scheduler.runToCompletion(3000);
+
+        double esperado = (double) CFSPolicy.weightOf(0) / CFSPolicy.weightOf(3);
+        double real = (double) procesos.get(0).getCpu_usage() / procesos.get(1).getCpu_usage();
+        assertEquals(esperado, real, 0.05);
+
+        CFSPolicy cfs = (CFSPolicy) scheduler.getPolicy();
+        assertTrue("Desvío: " + cfs.getMaxFairnessDeviation(),
+                   cfs.getMaxFairnessDeviation() <= cfs.getTargetLatency());
+    }
+
+    @Test
+    public void testProcesoQueDespiertaExpulsa() {
+        List<Process> procesos = new ArrayList<>();
+        procesos.add(crearProceso("BATCH", 0, 0, new int[]{300}));
+        procesos.add(crearProceso("BATCH2", 0, 0, new int[]{300}));
+        procesos.add(crearProceso("INTER", 0, 0, new int[]{1, 10, 1, 10, 1, 10, 1}));
+        Scheduler scheduler = crearScheduler(false, procesos);
+        scheduler.runToCompletion(100000);
+
+        Process inter = procesos.get(2);
+        assertEquals(ProcessState.TERMINATED, inter.getState());
+        // Al volver de E/S se adelanta a los procesos batch: solo espera el primer despacho
+        int esperaTrasInicio = inter.getT_wait() - (inter.getT_start() - inter.getT_arrival());
+        assertTrue("Espera: " + esperaTrasInicio, esperaTrasInicio <= 1);
+    }
+
+    @Test
+    public void testSueltaLosProcesosTerminados() {
+        List<Process> procesos = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            procesos.add(crearProceso("P" + i, i, i % 4, new int[]{3, 2, 3}));
+        }
+        Scheduler scheduler = crearScheduler(false, procesos);
+        scheduler.runToCompletion(100000);
+
+        CFSPolicy cfs = (CFSPolicy) scheduler.getPolicy();
+        // Como mucho queda el último, que sigue contando hasta el próximo ciclo
+        assertTrue(cfs.getTrackedCount() <= 1);
+        assertTrue(cfs.getMaxFairnessDeviation() > 0.0);
+    }
+
+    @Test
+    public void testSueltaLosQueTerminanEnES() {
+        List<Process> procesos = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            procesos.add(crearProceso("P" + i, i, i % 4, new int[]{3, 2, 3, 4}));
+        }
+        Scheduler scheduler = crearScheduler(false, procesos);
+        scheduler.runToCompletion(100000);
+
+        for (Process p : procesos) {
+            assertEquals(ProcessState.TERMINATED, p.getState());
+        }
+        CFSPolicy cfs = (CFSPolicy) scheduler.getPolicy();
+        // Ninguno termina en CPU: no queda ni el último
+        assertEquals(0, cfs.getTrackedCount());
+    }
+
+    private List<Process> crearCarga() {
+        List<Process> procesos = new ArrayList<>();
+        procesos.add(crearProceso("P1", 0, 0, new int[]{60, 4, 30}));
+        procesos.add(crearProceso("P2", 3, 2, new int[]{45}));
+        procesos.add(crearProceso("P3", 10, 1, new int[]{2, 6, 2, 6, 2}));
+        procesos.add(crearProceso("P4", 25, 4, new int[]{80}));
+        return procesos;
+    }
+
+    @Test
+    public void testEventDrivenIgualACicloACiclo() {
+        List<Process> paso = crearCarga();
+        Scheduler s1 = crearScheduler(false, paso);
+        int ciclosPaso = s1.runToCompletion(100000);
+
+        List<Process> evento = crearCarga();
+        Scheduler s2 = crearScheduler(true, evento);
+        int ciclosEvento = s2.runToCompletion(100000);
+
+        assertEquals(ciclosPaso, ciclosEvento);
+        assertEquals(s1.getGanttSegments().toString(), s2.getGanttSegments().toString());
+        CFSPolicy c1 = (CFSPolicy) s1.getPolicy();
+        CFSPolicy c2 = (CFSPolicy) s2.getPolicy();
+        assertEquals(c1.getMaxFairnessDeviation(), c2.getMaxFairnessDeviation(), 1e-6);
+        for (int i = 0; i < paso.size(); i++) {
+            assertEquals(ProcessState.TERMINATED, paso.get(i).getState());
+            assertEquals(paso.get(i).getPID(), paso.get(i).getT_wait(), evento.get(i).getT_wait());
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package scheduler.algoritmos;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static scheduler.SchedulerTestSupport.crearProceso;
+import static scheduler.SchedulerTestSupport.crearHilo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import process.Process;
+import process.ProcessState;
+import scheduler.Core;
+import scheduler.Scheduler;
+import scheduler.SchedulerTestSupport;
+import threads.ProcessThread;
+
+public class MLFQPolicyTest {
+
+    @Test
+    public void testDescensoAlAgotarQuantum() {
+        MLFQPolicy mlfq = new MLFQPolicy(3, 2, 0);
+        assertEquals(2, mlfq.getQuantum(0));
+        assertEquals(4, mlfq.getQuantum(1));
+        assertEquals(8, mlfq.getQuantum(2));
+
+        ProcessThread a = crearHilo("A", 1, 100);
+        mlfq.enqueue(a);
+        assertSame(a, mlfq.pickNext());
+        assertFalse(mlfq.onTick(a, 1));
+        assertTrue(mlfq.onTick(a, 2));
+        assertEquals(1, mlfq.getLevel(a));
+
+        mlfq.enqueue(a);
+        assertSame(a, mlfq.pickNext());
+        assertEquals(4, mlfq.unitsUntilExpiry(a, 0));
+        assertTrue(mlfq.onTick(a, 4));
+        assertEquals(2, mlfq.getLevel(a));
+
+        // El último nivel no baja más
+        mlfq.enqueue(a);
+        assertSame(a, mlfq.pickNext());
+        assertTrue(mlfq.onTick(a, 8));
+        assertEquals(2, mlfq.getLevel(a));
+        assertEquals(1, mlfq.getStats(0).getDemotions());
+        assertEquals(1, mlfq.getStats(1).getDemotions());
+        assertEquals(0, mlfq.getStats(2).getDemotions());
+    }
+
+    @Test
+    public void testNivelSuperiorExpulsaYSeDespachaPrimero() {
+        MLFQPolicy mlfq = new MLFQPolicy(new int[]{1, 0}, 0);
+        ProcessThread largo = crearHilo("L", 1, 100);
+        ProcessThread corto = crearHilo("C", 1, 1);
+
+        mlfq.enqueue(largo);
+        assertSame(largo, mlfq.pickNext());
+        assertTrue(mlfq.onTick(largo, 1));
+        mlfq.enqueue(largo);
+        assertSame(largo, mlfq.pickNext());
+        // Nivel FCFS: sin límite de quantum
+        assertEquals(Integer.MAX_VALUE, mlfq.unitsUntilExpiry(largo, 50));
+        assertFalse(mlfq.onTick(largo, 50));
+
+        assertFalse(mlfq.shouldPreempt(largo));
+        mlfq.enqueue(corto);
+        assertTrue(mlfq.shouldPreempt(largo));
+        mlfq.enqueuePreempted(largo);
+        assertSame(corto, mlfq.pickNext());
+        assertSame(largo, mlfq.pickNext());
+        assertNull(mlfq.pickNext());
+    }
+
+    @Test
+    public void testBoostSubeTodosAlNivelCero() {
+        MLFQPolicy mlfq = new MLFQPolicy(3, 1, 10);
+        ProcessThread a = crearHilo("A", 1, 100);
+        ProcessThread b = crearHilo("B", 1, 100);
+        ProcessThread c = crearHilo("C", 1, 100);
+        for (ProcessThread t : new ProcessThread[]{a, b, c}) {
+            mlfq.enqueue(t);
+            assertSame(t, mlfq.pickNext());
+            assertTrue(mlfq.onTick(t, 1));
+        }
+        mlfq.enqueue(a);
+        mlfq.enqueue(b);
+        assertSame(a, mlfq.pickNext());
+        assertTrue(mlfq.onTick(a, 2));
+        mlfq.enqueue(a);
+        assertSame(b, mlfq.pickNext()); // b corre en el nivel 1
+        assertEquals(2, mlfq.getLevel(a));
+
+        assertEquals(10, mlfq.nextEventCycle(3));
+        assertEquals(10, mlfq.nextEventCycle(10));
+        mlfq.onCycle(9, 1);
+        assertEquals(0, mlfq.getBoosts());
+        mlfq.onCycle(10, 1);
+        assertEquals(1, mlfq.getBoosts());
+        assertEquals(0, mlfq.getLevel(a));
+        assertEquals(0, mlfq.getLevel(b));
+        assertEquals(0, mlfq.getLevel(c));
+        assertEquals(1, mlfq.getQueueLength(0));
+
+        // El que estaba en CPU no baja aunque agote su quantum en este turno
+        assertTrue(mlfq.onTick(b, 2));
+        assertEquals(0, mlfq.getLevel(b));
+    }
+
+    @Test
+    public void testMetricasPorNivel() {
+        MLFQPolicy mlfq = new MLFQPolicy(2, 1, 0);
+        ProcessThread a = crearHilo("A", 1, 10);
+        ProcessThread b = crearHilo("B", 1, 10);
+        mlfq.onCycle(0, 1);
+        mlfq.enqueue(a);
+        mlfq.enqueue(b);
+        mlfq.onCycle(1, 4);
+        assertSame(a, mlfq.pickNext());
+        mlfq.onCycle(5, 1);
+        assertSame(b, mlfq.pickNext());
+
+        MLFQPolicy.LevelStats nivel0 = mlfq.getStats(0);
+        assertEquals(2, nivel0.getMaxLength());
+        assertEquals(2, nivel0.getDispatches());
+        assertEquals(6, nivel0.getTotalResidence());
+        assertEquals(3.0, nivel0.getAverageResidence(), 1e-9);
+        // 0 (1 ciclo) + 2 (4 ciclos) + 1 (1 ciclo) en 6 ciclos
+        assertEquals(9.0 / 6, nivel0.getAverageLength(), 1e-9);
+    }
+
+    private List<Process> crearCarga() {
+        List<Process> procesos = new ArrayList<>();
+        procesos.add(crearProceso("BATCH", 0, 1, new int[]{400}));
+        procesos.add(crearProceso("INT1", 5, 1, new int[]{1, 3, 1, 3, 1, 3, 1}));
+        procesos.add(crearProceso("INT2", 40, 1, new int[]{2, 5, 2}));
+        procesos.add(crearProceso("MED", 100, 1, new int[]{30, 10, 30}));
+        return procesos;
+    }
+
+    private Scheduler crearScheduler(boolean eventDriven, List<Process> procesos) {
+        Scheduler scheduler = SchedulerTestSupport.crearScheduler(eventDriven, procesos);
+        scheduler.setPolicy(new MLFQPolicy(3, 2, 50));
+        return scheduler;
+    }
+
+    @Test
+    public void testEventDrivenIgualACicloACiclo() {
+        List<Process> paso = crearCarga();
+        Scheduler s1 = crearScheduler(false, paso);
+        int ciclosPaso = s1.runToCompletion(100000);
+
+        List<Process> evento = crearCarga();
+        Scheduler s2 = crearScheduler(true, evento);
+        int ciclosEvento = s2.runToCompletion(100000);
+
+        assertEquals(ciclosPaso, ciclosEvento);
+        assertEquals(s1.getGanttSegments().toString(), s2.getGanttSegments().toString());
+        for (int i = 0; i < paso.size(); i++) {
+            Process a = paso.get(i);
+            Process b = evento.get(i);
+            assertEquals(ProcessState.TERMINATED, a.getState());
+            assertEquals(a.getPID(), a.getT_finish(), b.getT_finish());
+            assertEquals(a.getPID(), a.getT_wait(), b.getT_wait());
+        }
+
+        MLFQPolicy m1 = (MLFQPolicy) s1.getPolicy();
+        MLFQPolicy m2 = (MLFQPolicy) s2.getPolicy();
+        assertTrue(m1.getBoosts() > 0);
+        assertEquals(m1.getBoosts(), m2.getBoosts());
+        for (int nivel = 0; nivel < m1.getLevelCount(); nivel++) {
+            assertEquals(m1.getStats(nivel).getDispatches(), m2.getStats(nivel).getDispatches());
+            assertEquals(m1.getStats(nivel).getTotalResidence(), m2.getStats(nivel).getTotalResidence());
+            assertEquals(m1.getStats(nivel).getAverageLength(), m2.getStats(nivel).getAverageLength(), 1e-9);
+        }
+    }
+
+    @Test
+    public void testInteractivoTerminaAntesQueConFCFS() {
+        List<Process> mlfq = crearCarga();
+        crearScheduler(true, mlfq).runToCompletion(100000);
+
+        List<Process> fcfs = crearCarga();
+        SchedulerTestSupport.crearScheduler(false, fcfs).runToCompletion(100000);
+
+        assertTrue(mlfq.get(1).getT_finish() < fcfs.get(1).getT_finish());
+        assertEquals(ProcessState.TERMINATED, mlfq.get(0).getState());
+    }
+
+    @Test
+    public void testSueltaLosProcesosTerminadosSinBoost() {
+        List<Process> procesos = crearCarga();
+        Scheduler scheduler = SchedulerTestSupport.crearScheduler(false, procesos);
+        MLFQPolicy mlfq = new MLFQPolicy(3, 2, 0);
+        scheduler.setPolicy(mlfq);
+        scheduler.runToCompletion(100000);
+
+        for (Process p : procesos) {
+            assertEquals(ProcessState.TERMINATED, p.getState());
+        }
+        assertEquals(0, mlfq.getBoosts());
+        assertEquals(0, mlfq.getTrackedCount());
+    }
+
+    @Test
+    public void testSueltaLosQueTerminanEnES() {
+        List<Process> procesos = new ArrayList<>();
+        procesos.add(crearProceso("P1", 0, 0, new int[]{5, 3}));
+        procesos.add(crearProceso("P2", 1, 0, new int[]{2, 4, 2, 6}));
+        procesos.add(crearProceso("P3", 2, 0, new int[]{7}));
+        Scheduler scheduler = SchedulerTestSupport.crearScheduler(false, procesos);
+        MLFQPolicy mlfq = new MLFQPolicy(3, 2, 0);
+        scheduler.setPolicy(mlfq);
+        scheduler.runToCompletion(100000);
+
+        for (Process p : procesos) {
+            assertEquals(ProcessState.TERMINATED, p.getState());
+            assertTrue(p.getPID(), p.getT_finish() > 0);
+        }
+        assertEquals(0, mlfq.getTrackedCount());
+    }
+
+    @Test
+    public void testQuantumDelSchedulerEsElDelNivelCero() {
+        Scheduler scheduler = new Scheduler();
+        scheduler.setPolicyFactory(() -> new MLFQPolicy(3, 2, 0));
+        scheduler.setCores(2);
+        scheduler.setQuantum(3);
+        for (Core core : scheduler.getCores()) {
+            MLFQPolicy mlfq = (MLFQPolicy) core.getPolicy();
+            assertEquals(3, mlfq.getQuantum(0));
+            assertEquals(6, mlfq.getQuantum(1));
+            assertEquals(12, mlfq.getQuantum(2));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package simulation;
+
+import static org.junit.Assert.assertEquals;
+import static scheduler.SchedulerTestSupport.crearProceso;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import process.Process;
+import process.ProcessState;
+
+public class ParameterSweepTest {
+
+    private List<Process> crearCarga() {
+        List<Process> carga = new ArrayList<>();
+        carga.add(crearProceso("P1", 0, 2, 2, new int[]{6, 2, 3}));
+        carga.add(crearProceso("P2", 1, 1, 2, new int[]{4}));
+        carga.add(crearProceso("P3", 3, 3, 1, new int[]{2, 4, 5}));
+        carga.add(crearProceso("P4", 5, 1, 3, new int[]{7}));
+        return carga;
+    }
+
+    @Test
+    public void testQuantumSoloParaAlgoritmosQueLoUsan() {
+        List<ParameterSweep.Config> configs = ParameterSweep.buildConfigs(
+            List.of("FCFS", "RR"), ParameterSweep.parseInts("1-3"), List.of(4), List.of("FIFO", "LRU"));
+        // FCFS: 1 quantum × 2 memorias; RR: 3 quantums × 2 memorias
+        assertEquals(8, configs.size());
+        assertEquals(List.of(1, 2, 4, 8, 9, 10), ParameterSweep.parseInts("1-2,4,8-10"));
+    }
+
+    @Test
+    public void testParaleloIgualASecuencial() {
+        List<Process> carga = crearCarga();
+        List<ParameterSweep.Config> configs = ParameterSweep.buildConfigs(
+            List.of("FCFS", "SJF", "RR", "PRIORITY", "MLFQ", "CFS"), ParameterSweep.parseInts("1-4"),
+            List.of(4, 8), List.of("FIFO", "LRU", "OPTIMO"));
+
+        List<ParameterSweep.Result> secuencial = ParameterSweep.sweep(carga, configs, 1, false);
+        List<ParameterSweep.Result> paralelo = ParameterSweep.sweep(carga, configs, 4, false);
+
+        assertEquals(configs.size(), paralelo.size());
+        for (int i = 0; i < configs.size(); i++) {
+            ParameterSweep.Result a = secuencial.get(i);
+            ParameterSweep.Result b = paralelo.get(i);
+            String msg = configs.get(i).toString();
+            assertEquals(msg, configs.get(i), b.getConfig());
+            assertEquals(msg, a.getCiclos(), b.getCiclos());
+            assertEquals(msg, a.getEsperaMedia(), b.getEsperaMedia(), 1e-9);
+            assertEquals(msg, a.getRetornoMedio(), b.getRetornoMedio(), 1e-9);
+            assertEquals(msg, a.getRespuestaMedia(), b.getRespuestaMedia(), 1e-9);
+            assertEquals(msg, a.getFallos(), b.getFallos());
+            assertEquals(msg, a.getReemplazos(), b.getReemplazos());
+        }
+
+        // La carga original no se toca: cada simulación trabaja sobre copias
+        for (Process p : carga) {
+            assertEquals(ProcessState.NEW, p.getState());
+            assertEquals(0, p.getCpu_usage());
+            assertEquals(-1, p.getT_start());
+        }
+    }
+
+    @Test
+    public void testCopiaEnEstadoInicial() {
+        Process original = crearProceso("C", 2, 1, 2, new int[]{3, 1});
+        original.getBurst().consumirUnidades(2);
+        original.setCpu_usage(2);
+
+        Process copia = original.copy();
+        assertEquals("C", copia.getPID());
+        assertEquals(2, copia.getT_arrival());
+        assertEquals(2, copia.getPages());
+        assertEquals(3, copia.getBurst().getTime_remaining());
+        assertEquals(0, copia.getCpu_usage());
+        assertEquals(ProcessState.NEW, copia.getState());
+    }
+}
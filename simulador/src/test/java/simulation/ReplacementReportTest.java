@@ -0,0 +1,42 @@
+package simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import process.Burst;
+import process.BurstResource;
+import process.Process;
+
+public class ReplacementReportTest {
+
+    @Test
+    public void testIntercalaUnaReferenciaPorProceso() {
+        List<Process> procesos = new ArrayList<>();
+        ArrayList<Burst> bursts = new ArrayList<>();
+        bursts.add(new Burst(BurstResource.CPU, 3));
+        Process p1 = new Process("P1", 0, bursts, 1, 3);
+        p1.setFuturePageSequence(List.of(2, 0));
+        procesos.add(p1);
+        // Sin SEQ[]: sus páginas en orden
+        procesos.add(new Process("P2", 0, bursts, 1, 3));
+
+        ReplacementReport.Trace traza = ReplacementReport.fromWorkload("t", procesos);
+        assertEquals(List.of("P1", "P2", "P1", "P2", "P2"), traza.pids);
+        assertEquals(List.of(2, 0, 0, 1, 2), traza.paginasRef);
+    }
+
+    @Test
+    public void testARCResisteBarridosMejorQueLRU() {
+        ReplacementReport.Trace traza = ReplacementReport.hotSetWithScans("t", 42, 8, 40, 400);
+        double lru = ReplacementReport.hitRate(traza, "LRU", 16);
+        double arc = ReplacementReport.hitRate(traza, "ARC", 16);
+        double optimo = ReplacementReport.hitRate(traza, "OPTIMO", 16);
+        assertTrue(arc > lru);
+        assertTrue(optimo >= arc);
+    }
+}
@@ -0,0 +1,163 @@
+package simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Test;
+
+import process.Burst;
+import process.BurstResource;
+import process.InputParser;
+import process.Process;
+
+public class WorkloadGeneratorTest {
+
+    private WorkloadGenerator crear(long seed) {
+        WorkloadGenerator gen = new WorkloadGenerator(seed);
+        gen.setLocality(WorkloadGenerator.LocalityModel.WORKING_SET, 12);
+        return gen;
+    }
+
+    @Test
+    public void testMismaSemillaMismaCarga() throws IOException {
+        StringWriter a = new StringWriter();
+        StringWriter b = new StringWriter();
+        crear(7).write(a, 500);
+        crear(7).write(b, 500);
+        assertEquals(a.toString(), b.toString());
+
+        StringWriter c = new StringWriter();
+        crear(8).write(c, 500);
+        assertTrue(!a.toString().equals(c.toString()));
+    }
+
+    @Test
+    public void testArchivoSeLeeConInputParser() throws IOException {
+        Path archivo = Files.createTempFile("carga", ".txt");
+        crear(3).write(archivo, 200);
+        List<Process> esperados = crear(3).generate(200);
+
+        InputParser parser = new InputParser(archivo.toString());
+        parser.obtenerProcesos();
+        parser.crearProcesos();
+        List<Process> leidos = parser.get_process();
+
+        assertEquals(200, leidos.size());
+        for (int i = 0; i < leidos.size(); i++) {
+            Process e = esperados.get(i);
+            Process l = leidos.get(i);
+            assertEquals(e.getPID(), l.getPID());
+            assertEquals(e.getT_arrival(), l.getT_arrival());
+            assertEquals(e.getPriority(), l.getPriority());
+            assertEquals(e.getPages(), l.getPages());
+            assertEquals(e.getFuturePageSequence(), l.getFuturePageSequence());
+            assertEquals(e.getBursts().size(), l.getBursts().size());
+            for (int j = 0; j < e.getBursts().size(); j++) {
+                assertEquals(e.getBursts().get(j).getResource(), l.getBursts().get(j).getResource());
+                assertEquals(e.getBursts().get(j).getTime_total(), l.getBursts().get(j).getTime_total());
+            }
+        }
+        Files.delete(archivo);
+    }
+
+    @Test
+    public void testEscriturasSeLeenConInputParser() throws IOException {
+        Path archivo = Files.createTempFile("carga", ".txt");
+        WorkloadGenerator gen = crear(5);
+        gen.setWriteRatio(0.3);
+        gen.write(archivo, 100);
+        WorkloadGenerator referencia = crear(5);
+        referencia.setWriteRatio(0.3);
+        List<Process> esperados = referencia.generate(100);
+
+        InputParser parser = new InputParser(archivo.toString());
+        parser.obtenerProcesos();
+        parser.crearProcesos();
+        List<Process> leidos = parser.get_process();
+
+        int escrituras = 0;
+        int total = 0;
+        for (int i = 0; i < leidos.size(); i++) {
+            List<Integer> seq = esperados.get(i).getFuturePageSequence();
+            assertEquals(seq, leidos.get(i).getFuturePageSequence());
+            for (int j = 0; j < seq.size(); j++) {
+                assertEquals(esperados.get(i).isPageReferenceWrite(j), leidos.get(i).isPageReferenceWrite(j));
+                escrituras += leidos.get(i).isPageReferenceWrite(j) ? 1 : 0;
+                total++;
+            }
+        }
+        assertEquals(0.3, (double) escrituras / total, 0.05);
+        Files.delete(archivo);
+    }
+
+    @Test
+    public void testLlegadasPoissonConLaMediaPedida() {
+        WorkloadGenerator gen = new WorkloadGenerator(11);
+        gen.setMeanInterarrival(5.0);
+        List<Process> procesos = gen.generate(20_000);
+
+        int anterior = 0;
+        for (Process p : procesos) {
+            assertTrue(p.getT_arrival() >= anterior);
+            anterior = p.getT_arrival();
+        }
+        double media = (double) anterior / (procesos.size() - 1);
+        assertEquals(5.0, media, 0.25);
+    }
+
+    @Test
+    public void testRafagasBienFormadas() {
+        WorkloadGenerator gen = new WorkloadGenerator(5);
+        gen.setArrivalModel(WorkloadGenerator.ArrivalModel.BURSTY);
+        gen.setBurstDistribution(WorkloadGenerator.BurstDistribution.PARETO);
+        gen.setIoMix(0.7, 0.5, 5);
+        gen.setPages(2, 6);
+        gen.setLocality(WorkloadGenerator.LocalityModel.LOOP, 10);
+
+        for (Process p : gen.generate(5_000)) {
+            List<Burst> bursts = p.getBursts();
+            assertTrue(bursts.size() <= 5);
+            assertEquals(1, bursts.size() % 2);
+            for (int i = 0; i < bursts.size(); i++) {
+                BurstResource esperado = i % 2 == 0 ? BurstResource.CPU : BurstResource.IO;
+                assertEquals(esperado, bursts.get(i).getResource());
+                assertTrue(bursts.get(i).getTime_total() >= 1);
+            }
+            assertTrue(p.getPages() >= 2 && p.getPages() <= 6);
+            assertNotNull(p.getFuturePageSequence());
+            for (int pagina : p.getFuturePageSequence()) {
+                assertTrue(pagina >= 0 && pagina < p.getPages());
+            }
+        }
+    }
+
+    @Test
+    public void testMillonDeProcesosEnStreaming() throws IOException {
+        WorkloadGenerator gen = new WorkloadGenerator(1);
+        long[] caracteres = new long[1];
+        java.io.Writer contador = new java.io.Writer() {
+            @Override
+            public void write(char[] buf, int off, int len) {
+                caracteres[0] += len;
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        gen.write(contador, 1_000_000);
+        assertEquals(1_000_000, gen.getGenerated());
+        assertTrue(caracteres[0] > 1_000_000);
+    }
+}
@@ -0,0 +1,94 @@
+package threads;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import process.Process;
+import process.ProcessState;
+import scheduler.SchedulerTestSupport;
+
+public class ProcessThreadTest {
+
+    private Process crearProceso(String pid, int rafaga) {
+        Process p = SchedulerTestSupport.crearProceso(pid, 0, 1, new int[]{rafaga, 1});
+        p.setState(ProcessState.RUNNING);
+        return p;
+    }
+
+    @Test
+    public void testHiloVirtualPorDefecto() throws InterruptedException {
+        ProcessThread t = new ProcessThread(crearProceso("V", 2), null);
+        assertFalse(t.isAlive());
+        t.start();
+        assertTrue(t.isAlive());
+        assertTrue(t.isVirtual());
+
+        t.startExecution();
+        t.awaitUnitCompletion();
+        assertFalse(t.isBurstCompleted());
+        assertEquals(1, t.getProcess().getCpu_usage());
+
+        t.startExecution();
+        t.awaitUnitCompletion();
+        assertTrue(t.isBurstCompleted());
+        assertEquals(2, t.getProcess().getCpu_usage());
+
+        t.terminate();
+        t.join();
+        assertFalse(t.isAlive());
+    }
+
+    @Test
+    public void testHiloDePlataforma() throws InterruptedException {
+        ProcessThread t = new ProcessThread(crearProceso("P", 1), null, ProcessThread.platformThreadFactory());
+        t.start();
+        assertFalse(t.isVirtual());
+        t.startExecution();
+        t.awaitUnitCompletion();
+        assertTrue(t.isBurstCompleted());
+        t.terminate();
+        t.join();
+    }
+
+    @Test(expected = IllegalThreadStateException.class)
+    public void testNoSePuedeIniciarDosVeces() {
+        ProcessThread t = new ProcessThread(crearProceso("D", 1), null);
+        t.start();
+        try {
+            t.start();
+        } finally {
+            t.terminate();
+        }
+    }
+
+    @Test
+    public void testDiezMilHilosVivosALaVez() throws InterruptedException {
+        List<ProcessThread> hilos = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ProcessThread t = new ProcessThread(crearProceso("M" + i, 1), null);
+            t.start();
+            hilos.add(t);
+        }
+        for (ProcessThread t : hilos) {
+            assertTrue(t.isAlive());
+        }
+        for (ProcessThread t : hilos) {
+            t.startExecution();
+            t.awaitUnitCompletion();
+            assertTrue(t.isBurstCompleted());
+        }
+        for (ProcessThread t : hilos) {
+            t.terminate();
+        }
+        for (ProcessThread t : hilos) {
+            t.join();
+            assertEquals(1, t.getProcess().getCpu_usage());
+        }
+    }
+}